@@ -0,0 +1,94 @@
+package io.github.some_example_name.benchmarks;
+
+import com.badlogic.gdx.utils.IntArray;
+import io.github.some_example_name.sim.ProjectileStore;
+import io.github.some_example_name.sim.SpatialGrid;
+import io.github.some_example_name.sim.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collision pass against {@code players} targets for {@code count} projectiles spread over the
+ * arena: brute-force scan of every projectile versus rebuilding the uniform grid and querying
+ * it. The grid pays a fixed rebuild per tick and wins once the scans it saves outweigh it,
+ * which happens earlier the more targets there are.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CollisionBenchmark {
+
+    @Param({"10", "30", "100", "300", "1000", "10000", "100000"})
+    public int count;
+
+    @Param({"1", "8", "32"})
+    public int players;
+
+    private final ProjectileStore store = new ProjectileStore();
+    private final SpatialGrid grid = World.createGrid();
+    private final IntArray candidates = new IntArray();
+    private float[] playerX, playerZ;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < count; i++) {
+            float angle = random.nextFloat() * 6.2831855f;
+            store.add(coordinate(random), World.ENTITY_Y, coordinate(random),
+                (float) Math.cos(angle), 0f, (float) Math.sin(angle), 30f + random.nextFloat() * 40f, 10f);
+        }
+        playerX = new float[players];
+        playerZ = new float[players];
+        for (int p = 0; p < players; p++) {
+            playerX[p] = coordinate(random);
+            playerZ[p] = coordinate(random);
+        }
+    }
+
+    @Benchmark
+    public int linearScan() {
+        float radius2 = World.COLLISION_DISTANCE * World.COLLISION_DISTANCE;
+        float[] x = store.x, z = store.z;
+        int hits = 0;
+        for (int p = 0; p < players; p++) {
+            float px = playerX[p], pz = playerZ[p];
+            for (int i = 0, n = store.size(); i < n; i++) {
+                float dx = x[i] - px, dz = z[i] - pz;
+                if (dx * dx + dz * dz < radius2) hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int gridQuery() {
+        grid.clear();
+        for (int i = 0, n = store.size(); i < n; i++) grid.insert(i, store.x[i], store.z[i]);
+        float radius2 = World.COLLISION_DISTANCE * World.COLLISION_DISTANCE;
+        int hits = 0;
+        for (int p = 0; p < players; p++) {
+            float px = playerX[p], pz = playerZ[p];
+            grid.query(px, pz, World.COLLISION_DISTANCE, candidates);
+            for (int c = 0; c < candidates.size; c++) {
+                int i = candidates.items[c];
+                float dx = store.x[i] - px, dz = store.z[i] - pz;
+                if (dx * dx + dz * dz < radius2) hits++;
+            }
+        }
+        return hits;
+    }
+
+    private static float coordinate(Random random) {
+        return (random.nextFloat() * 2f - 1f) * World.BOUNDS_X;
+    }
+}
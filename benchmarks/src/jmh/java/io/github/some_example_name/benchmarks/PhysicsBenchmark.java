@@ -0,0 +1,101 @@
+package io.github.some_example_name.benchmarks;
+
+import io.github.some_example_name.physics.Box2dPhysics;
+import io.github.some_example_name.physics.KinematicPhysics;
+import io.github.some_example_name.physics.PhysicsBackend;
+import io.github.some_example_name.sim.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One physics step with {@code count} hazards wandering the arena and {@code solids} players
+ * walking into the walls, for each backend. Velocities are handed to the backend every step,
+ * as the game does; hazards turn back at the arena edge and {@code sleeping} of them stand
+ * still, which Box2D can skip and the kinematic backend cannot.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PhysicsBenchmark {
+
+    private static final float DT = 1f / 60f;
+
+    @Param({"100", "1000", "10000"})
+    public int count;
+
+    @Param({"1", "32"})
+    public int solids;
+
+    @Param({"0", "0.9"})
+    public float sleeping;
+
+    @Param({"kinematic", "box2d"})
+    public String backend;
+
+    private PhysicsBackend physics;
+    private int[] ids;
+    private float[] vx, vz;
+    private int contacts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        physics = "box2d".equals(backend) ? new Box2dPhysics() : new KinematicPhysics();
+        physics.addWall(0, -55.5f, 142f, 1f);
+        physics.addWall(0, 70.5f, 142f, 1f);
+        physics.addWall(-70.5f, 7.5f, 1f, 127f);
+        physics.addWall(70.5f, 7.5f, 1f, 127f);
+        physics.setContactListener(new PhysicsBackend.ContactListener() {
+            @Override
+            public void contact(int solid, int hazard) {
+                contacts++;
+            }
+        });
+
+        Random random = new Random(42);
+        int total = solids + count;
+        ids = new int[total];
+        vx = new float[total];
+        vz = new float[total];
+        for (int i = 0; i < total; i++) {
+            boolean solid = i < solids;
+            float x = (random.nextFloat() * 2f - 1f) * 65f;
+            float z = -50f + random.nextFloat() * 115f;
+            ids[i] = solid
+                ? physics.createBody(x, z, World.PLAYER_RADIUS, PhysicsBackend.SOLID | PhysicsBackend.BULLET)
+                : physics.createBody(x, z, World.COLLISION_DISTANCE - World.PLAYER_RADIUS, PhysicsBackend.HAZARD);
+            if (!solid && random.nextFloat() < sleeping) continue;
+            float angle = random.nextFloat() * 6.2831855f;
+            float speed = solid ? 30f : 10f + random.nextFloat() * 20f;
+            vx[i] = (float) Math.cos(angle) * speed;
+            vz[i] = (float) Math.sin(angle) * speed;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        physics.dispose();
+    }
+
+    @Benchmark
+    public int step() {
+        for (int i = solids; i < ids.length; i++) {
+            float x = physics.getX(ids[i]), z = physics.getZ(ids[i]);
+            if (x < -68f && vx[i] < 0 || x > 68f && vx[i] > 0) vx[i] = -vx[i];
+            if (z < -53f && vz[i] < 0 || z > 68f && vz[i] > 0) vz[i] = -vz[i];
+        }
+        for (int i = 0; i < ids.length; i++) physics.setVelocity(ids[i], vx[i], vz[i]);
+        physics.step(DT);
+        return contacts;
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.some_example_name.benchmarks;
+
+import io.github.some_example_name.sim.ProjectileStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/** Integration and expiry pass of {@link ProjectileStore}, with nothing expiring. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProjectileUpdateBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int count;
+
+    private final ProjectileStore store = new ProjectileStore();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < count; i++) {
+            float angle = random.nextFloat() * 6.2831855f;
+            store.add(random.nextFloat() * 100f, 5f, random.nextFloat() * 100f,
+                (float) Math.cos(angle), 0f, (float) Math.sin(angle), 30f + random.nextFloat() * 40f, Float.MAX_VALUE);
+        }
+    }
+
+    @Benchmark
+    public ProjectileStore update() {
+        // a zero step keeps positions, and therefore the work, identical across invocations
+        store.update(0f, Float.MAX_VALUE);
+        return store;
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.some_example_name.benchmarks;
+
+import io.github.some_example_name.sim.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spawning {@code count} lasers or obstacles into a world and clearing it again, as
+ * {@code spawnLaser}/{@code spawnObstacle} do. After the first invocation pools and
+ * arrays are warm, so the GC profiler should report no allocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SpawnBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int count;
+
+    private final World world = new World();
+
+    @Benchmark
+    public World spawnLasers() {
+        for (int i = 0; i < count; i++) world.addLaser(60f, (i & 63) - 32f, 50f);
+        world.restart();
+        return world;
+    }
+
+    @Benchmark
+    public World spawnObstacles() {
+        for (int i = 0; i < count; i++) world.addObstacle(50f, (i & 63) - 32f, 20f);
+        world.restart();
+        return world;
+    }
+}
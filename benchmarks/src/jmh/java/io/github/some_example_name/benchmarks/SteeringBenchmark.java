@@ -0,0 +1,84 @@
+package io.github.some_example_name.benchmarks;
+
+import io.github.some_example_name.sim.InputState;
+import io.github.some_example_name.sim.IntegratedProjectiles;
+import io.github.some_example_name.sim.Simulation;
+import io.github.some_example_name.sim.World;
+import io.github.some_example_name.sim.WorldConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulation tick with {@code agents} steered obstacles crowding an invulnerable player, for
+ * several re-planning intervals, planning on the calling thread or on a pool of
+ * {@code workers} threads. Nothing spawns or expires, so the crowd stays at full size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SteeringBenchmark {
+
+    @Param({"10", "100", "300", "1000"})
+    public int agents;
+
+    @Param({"1", "4", "8"})
+    public int interval;
+
+    /** Pool size for steering, 0 for none. */
+    @Param({"0", "4"})
+    public int workers;
+
+    private Simulation simulation;
+    private ForkJoinPool pool;
+    private final InputState input = new InputState();
+    private int tick;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        WorldConfig config = new WorldConfig();
+        config.steeringInterval = interval;
+        config.spawnInterval = Float.POSITIVE_INFINITY;
+        config.obstacleLifetime = Float.POSITIVE_INFINITY;
+        World world = new World(new IntegratedProjectiles(World.LASER_MAX_DISTANCE), config);
+        world.setSeed(42);
+        world.setInvulnerable(true);
+        if (workers > 0) {
+            pool = new ForkJoinPool(workers);
+            world.setWorkerPool(pool);
+        }
+        Random random = new Random(42);
+        for (int i = 0; i < agents; i++) {
+            world.addObstacle((random.nextFloat() * 2f - 1f) * 60f, (random.nextFloat() * 2f - 1f) * 45f, 10f + random.nextFloat() * 20f);
+        }
+        simulation = new Simulation(world);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        simulation.getWorld().dispose();
+        if (pool != null) pool.shutdown();
+    }
+
+    @Benchmark
+    public Simulation step() {
+        int phase = (tick++ / 30) & 3;
+        input.forward = phase == 0;
+        input.right = phase == 1;
+        input.back = phase == 2;
+        input.left = phase == 3;
+        simulation.tick(input);
+        return simulation;
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.some_example_name.benchmarks;
+
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import io.github.some_example_name.render.TransformBatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Model transform construction for {@code count} entities: per entity with a look-at and
+ * inverse, as the renderer used to, and with the scalar and vectorized {@link TransformBatch},
+ * as it does now. The batches also stage their positions, so they do slightly more work. The
+ * vectorized one needs the forked JVM to run with {@code --add-modules jdk.incubator.vector}
+ * and {@code -Dtransforms.simd=true}, which the build adds on Java 16+.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransformBenchmark {
+
+    private static final float SCALE = 0.02f;
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int count;
+
+    private Vector3[] positions;
+    private Vector3[] directions;
+    private Matrix4[] transforms;
+    private float[] flatPositions, flatDirections, scales;
+    private final TransformBatch scalar = new TransformBatch();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        positions = new Vector3[count];
+        directions = new Vector3[count];
+        transforms = new Matrix4[count];
+        for (int i = 0; i < count; i++) {
+            float angle = random.nextFloat() * 6.2831855f;
+            positions[i] = new Vector3(random.nextFloat() * 140f - 70f, 5f, random.nextFloat() * 140f - 70f);
+            directions[i] = new Vector3((float) Math.cos(angle), 0f, (float) Math.sin(angle));
+            transforms[i] = new Matrix4();
+        }
+        flatPositions = new float[count * 3];
+        flatDirections = new float[count * 3];
+        scales = new float[count];
+        for (int i = 0; i < count; i++) {
+            flatPositions[i * 3] = positions[i].x;
+            flatPositions[i * 3 + 1] = positions[i].y;
+            flatPositions[i * 3 + 2] = positions[i].z;
+            flatDirections[i * 3] = directions[i].x;
+            flatDirections[i * 3 + 2] = directions[i].z;
+            scales[i] = SCALE;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Vectorized {
+        TransformBatch batch;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            batch = TransformBatch.create();
+            if (!batch.isVectorized()) throw new IllegalStateException("jdk.incubator.vector or the simd module is not available");
+        }
+    }
+
+    @Benchmark
+    public Matrix4[] lookAtInverse() {
+        for (int i = 0; i < count; i++) {
+            transforms[i].setToLookAt(directions[i], Vector3.Y).inv().setTranslation(positions[i]).scale(SCALE, SCALE, SCALE);
+        }
+        return transforms;
+    }
+
+    @Benchmark
+    public Matrix4[] scalarBatch() {
+        return batch(scalar);
+    }
+
+    @Benchmark
+    public Matrix4[] vectorBatch(Vectorized vectorized) {
+        return batch(vectorized.batch);
+    }
+
+    private Matrix4[] batch(TransformBatch batch) {
+        batch.interpolate(flatPositions, flatPositions, 1f, count);
+        batch.fill(flatDirections, scales, count);
+        for (int i = 0; i < count; i++) batch.get(i, transforms[i]);
+        return transforms;
+    }
+}
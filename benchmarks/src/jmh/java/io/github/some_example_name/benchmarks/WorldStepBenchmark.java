@@ -0,0 +1,79 @@
+package io.github.some_example_name.benchmarks;
+
+import io.github.some_example_name.sim.AnalyticProjectiles;
+import io.github.some_example_name.sim.InputState;
+import io.github.some_example_name.sim.IntegratedProjectiles;
+import io.github.some_example_name.sim.Simulation;
+import io.github.some_example_name.sim.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full simulation tick with {@code count} lasers and a tenth as many homing obstacles.
+ * The player is invulnerable and strafes in a circle; expired lasers are topped up every
+ * tick, so spawning is part of the measured steady state.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WorldStepBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int count;
+
+    @Param({"integrated", "analytic"})
+    public String engine;
+
+    private World world;
+    private Simulation simulation;
+    private final InputState input = new InputState();
+    private final Random random = new Random(42);
+    private int tick;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        world = "analytic".equals(engine)
+            ? new World(new AnalyticProjectiles(World.LASER_MAX_DISTANCE))
+            : new World(new IntegratedProjectiles(World.LASER_MAX_DISTANCE));
+        world.setInvulnerable(true);
+        simulation = new Simulation(world);
+        for (int i = 0; i < count / 10; i++) {
+            world.addObstacle(randomCoordinate(), randomCoordinate(), 10f + random.nextFloat() * 20f);
+        }
+        topUpLasers();
+    }
+
+    @Benchmark
+    public World step() {
+        // change direction every half second so the analytic engine has to re-plan now and then
+        int phase = (tick++ / 30) & 3;
+        input.forward = phase == 0;
+        input.right = phase == 1;
+        input.back = phase == 2;
+        input.left = phase == 3;
+        simulation.tick(input);
+        topUpLasers();
+        return world;
+    }
+
+    private void topUpLasers() {
+        while (world.getLasers().size() < count) {
+            float angle = random.nextFloat() * 360f;
+            world.addLaser((float) Math.cos(angle) * 60f, (float) Math.sin(angle) * 60f, 30f + random.nextFloat() * 40f);
+        }
+    }
+
+    private float randomCoordinate() {
+        return (random.nextFloat() * 2f - 1f) * World.BOUNDS_X;
+    }
+}
@@ -1,13 +1,15 @@
 package io.github.some_example_name;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import io.github.some_example_name.input.TimedKeyInput;
+import io.github.some_example_name.sim.InputState;
 
 public class FirstScreen implements Screen {
 
@@ -21,6 +23,11 @@ public class FirstScreen implements Screen {
 
     private float speed = 200f; // пикселей в секунду
 
+    // WASD приходят событиями с метками времени: кадр двигает игрока ровно на то время,
+    // что клавиша была зажата, а короткое нажатие держится хотя бы 1/60 секунды
+    private final TimedKeyInput keys = new TimedKeyInput(1_000_000_000L / 60);
+    private final InputState input = new InputState();
+
     public FirstScreen() {
         // Конструктор экрана
     }
@@ -29,6 +36,7 @@ public class FirstScreen implements Screen {
     public void show() {
         // Вызывается при переходе на этот экран
         batch = new SpriteBatch();
+        Gdx.input.setInputProcessor(keys);
 
         // Создаём ортокамеру. Для 2D‐проекта обычно setToOrtho(false).
         camera = new OrthographicCamera();
@@ -62,18 +70,11 @@ public class FirstScreen implements Screen {
     }
 
     private void handleInput(float delta) {
-        if (Gdx.input.isKeyPressed(Input.Keys.W)) {
-            playerY += speed * delta;
-        }
-        if (Gdx.input.isKeyPressed(Input.Keys.S)) {
-            playerY -= speed * delta;
-        }
-        if (Gdx.input.isKeyPressed(Input.Keys.A)) {
-            playerX -= speed * delta;
-        }
-        if (Gdx.input.isKeyPressed(Input.Keys.D)) {
-            playerX += speed * delta;
-        }
+        // Доля кадра, в течение которой была зажата каждая клавиша
+        keys.sample(TimeUtils.nanoTime(), input);
+        playerY += speed * delta * (input.getHold(InputState.FORWARD) - input.getHold(InputState.BACK));
+        playerX += speed * delta * (input.getHold(InputState.RIGHT) - input.getHold(InputState.LEFT));
+        keys.applied(TimeUtils.nanoTime());
     }
 
     @Override
@@ -92,6 +93,7 @@ public class FirstScreen implements Screen {
     @Override
     public void hide() {
         // Вызывается при переходе с этого скрина на другой
+        if (Gdx.input.getInputProcessor() == keys) Gdx.input.setInputProcessor(null);
     }
 
     @Override
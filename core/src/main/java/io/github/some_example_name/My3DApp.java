@@ -3,7 +3,8 @@ package io.github.some_example_name;
 import com.badlogic.gdx.ApplicationAdapter;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input.Keys;
-import com.badlogic.gdx.assets.loaders.ModelLoader;
+import com.badlogic.gdx.InputMultiplexer;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.PerspectiveCamera;
 import com.badlogic.gdx.graphics.Texture;
@@ -14,12 +15,36 @@ import com.badlogic.gdx.graphics.g3d.*;
 import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
 import com.badlogic.gdx.graphics.g3d.attributes.TextureAttribute;
 import com.badlogic.gdx.graphics.g3d.environment.DirectionalLight;
-import com.badlogic.gdx.graphics.g3d.loader.G3dModelLoader;
 import com.badlogic.gdx.graphics.g3d.utils.ModelBuilder;
-import com.badlogic.gdx.math.Matrix4;
-import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.UBJsonReader;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+import io.github.some_example_name.assets.GameAssets;
+import io.github.some_example_name.ecs.RenderableComponent;
+import io.github.some_example_name.input.TimedKeyInput;
+import io.github.some_example_name.profiling.LatencyHistogram;
+import io.github.some_example_name.profiling.FrameProfiler;
+import io.github.some_example_name.profiling.ProfilerOverlay;
+import io.github.some_example_name.render.GdxDrawQueue;
+import io.github.some_example_name.render.LodModel;
+import io.github.some_example_name.render.QualityGovernor;
+import io.github.some_example_name.render.QualityTier;
+import io.github.some_example_name.render.ResolutionScaler;
+import io.github.some_example_name.render.SnapshotRenderer;
+import io.github.some_example_name.replay.Replay;
+import io.github.some_example_name.sim.InputState;
+import io.github.some_example_name.sim.Simulation;
+import io.github.some_example_name.sim.SimulationThread;
+import io.github.some_example_name.sim.World;
+import io.github.some_example_name.sim.WorldSnapshot;
+import io.github.some_example_name.ui.Hud;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.concurrent.ForkJoinPool;
 
 public class My3DApp extends ApplicationAdapter {
 
@@ -29,37 +54,89 @@ public class My3DApp extends ApplicationAdapter {
     private PerspectiveCamera camera;
     private ModelBatch modelBatch;
 
-    private Model playerModel;
-    private ModelInstance playerInstance;
-
-    private Model obstacleModel;
-    private Array<ObstacleInstance> obstacles;
-
-    private Model laserModel;
-    private Array<LaserInstance> lasers;
+    private Model wallModel;
+    private SnapshotRenderer renderer;
+    private GdxDrawQueue drawQueue;
 
     private Environment environment;
-    private final Vector3 playerPosition = new Vector3();
-    private float obstacleSpawnTimer = 0;
-    private boolean gameOver = false;
+    private DirectionalLight sun;
+
+    /** Steps down {@link QualityTier#DEFAULTS} when frames take longer than the display's refresh interval. */
+    private QualityGovernor governor;
+    private ResolutionScaler scaler;
+
+    private World world;
+    private Simulation simulation;
+    private Replay replay;
+    private final InputState input = new InputState();
+    /** Movement keys, sampled by each tick up to the moment it covers. */
+    private TimedKeyInput keys;
+    private final boolean threadedSimulation;
+    private SimulationThread simulationThread;
+    /** Plans obstacle steering; shut down on dispose only if the game created it. */
+    private ForkJoinPool workers;
+    private final boolean ownsWorkers;
+    /** Captured every frame when the simulation runs on the render thread. */
+    private final WorldSnapshot localSnapshot = new WorldSnapshot();
+    private boolean wasGameOver;
+    private boolean paused;
+    private Hud hud;
+
+    private final FrameProfiler profiler = new FrameProfiler();
+    private final int frameScope = profiler.register("frame");
+    private final int inputScope = profiler.register("frame.input");
+    private final int simulationScope = profiler.register("frame.simulation");
+    private final int syncScope = profiler.register("frame.sync");
+    private final int modelScope = profiler.register("frame.modelBatch");
+    private final int hudScope = profiler.register("frame.hud");
+    private ProfilerOverlay profilerOverlay;
 
-    private static final float PLAYER_SPEED = 30f;
-    private static final float COLLISION_DISTANCE = 2.5f;
     private static final float PLAYER_SCALE = 0.035f;
     private static final float OBSTACLE_SCALE = 0.02f;
-    private static final float OBSTACLE_SPAWN_INTERVAL = 1.3f;
-    private static final float BOUNDS_X = 70f;
-    private static final float BOUNDS_Z = 70f;
 
     private BitmapFont font;
     private SpriteBatch spriteBatch;
-    private float survivalTime = 0;
+    private ShapeRenderer shapeRenderer;
+
+    private static final String PROFILE_DIR_PROPERTY = "profile.dir";
+    private static final int LOADING_BUDGET_MS = 12;
+    /** Obstacles re-planned per tick at most; a full arena has a quarter of its 256 per slice. */
+    private static final int STEERING_BUDGET = 32;
+    private GameAssets assets;
+    private long createNanos;
+    private boolean firstFrameLogged;
+    private boolean firstGameFrameLogged;
+
+    public My3DApp() {
+        this(false);
+    }
 
-    private Array<ModelInstance> wallInstances;
+    /**
+     * @param threadedSimulation whether to tick the simulation on a {@link SimulationThread}
+     *     instead of between frames on the render thread
+     */
+    public My3DApp(boolean threadedSimulation) {
+        this(threadedSimulation, null);
+    }
+
+    /**
+     * @param threadedSimulation whether to tick the simulation on a {@link SimulationThread}
+     *     instead of between frames on the render thread
+     * @param workers pool obstacle steering is planned on, left running on dispose; null to
+     *     create one for this game with a worker per core but one, if there is more than one
+     */
+    public My3DApp(boolean threadedSimulation, ForkJoinPool workers) {
+        this.threadedSimulation = threadedSimulation;
+        this.workers = workers;
+        ownsWorkers = workers == null;
+    }
 
     @Override
     public void create() {
+        createNanos = TimeUtils.nanoTime();
         modelBatch = new ModelBatch();
+        drawQueue = new GdxDrawQueue(modelBatch);
+        Gdx.app.log("Render", drawQueue.isInstancing() ? "Drawing dynamic models instanced" : "No GL30, drawing every instance separately");
 
         camera = new PerspectiveCamera(70, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         camera.position.set(0f, 60f, 25f);
@@ -70,242 +147,287 @@ public class My3DApp extends ApplicationAdapter {
 
         environment = new Environment();
         environment.set(new ColorAttribute(ColorAttribute.AmbientLight, 0.6f, 0.6f, 0.6f, 1f));
-        environment.add(new DirectionalLight().set(0.4f, 0.4f, 0.4f, -0.5f, -1f, 0.5f));
+        sun = new DirectionalLight().set(0.4f, 0.4f, 0.4f, -0.5f, -1f, 0.5f);
+        environment.add(sun);
+
+        font = new BitmapFont();
+        spriteBatch = new SpriteBatch();
+        scaler = new ResolutionScaler(spriteBatch);
+        int refreshRate = Gdx.graphics.getDisplayMode().refreshRate;
+        governor = new QualityGovernor(QualityTier.DEFAULTS.length, 1f / (refreshRate > 0 ? refreshRate : 60));
+        shapeRenderer = new ShapeRenderer();
+        profilerOverlay = new ProfilerOverlay(profiler, Gdx.graphics);
+
+        assets = new GameAssets();
+        assets.queue();
+    }
 
+    /** Builds the scene once {@link GameAssets} has finished loading. */
+    private void createScene() {
         ModelBuilder modelBuilder = new ModelBuilder();
-        Texture floorTexture = new Texture("textures/vurnari_screen.png");
+        Texture arenaTexture = assets.getTexture(GameAssets.ARENA_TEXTURE);
         floorModel = modelBuilder.createRect(
             -70f, 0, 30f,
             70f, 0, 30f,
             85f, 0, -70f,
             -85f, 0, -70f,
             0, 1, 0,
-            new Material(TextureAttribute.createDiffuse(floorTexture)),
+            new Material(TextureAttribute.createDiffuse(arenaTexture)),
             VertexAttributes.Usage.Position | VertexAttributes.Usage.Normal | VertexAttributes.Usage.TextureCoordinates
         );
         floorInstance = new ModelInstance(floorModel);
 
-        wallInstances = new Array<>();
-        Texture wallTexture = new Texture("textures/vurnari_screen.png");
-        Material wallMat = new Material(TextureAttribute.createDiffuse(wallTexture));
-
-        Model wallModel = modelBuilder.createBox(140f, 10f, 1f, wallMat, VertexAttributes.Usage.Position | VertexAttributes.Usage.Normal);
-        wallInstances.add(new ModelInstance(wallModel, 0, 5f, -55f)); // back
-        wallInstances.add(new ModelInstance(wallModel, 0, 5f, 85f)); // front
-
-        wallModel = modelBuilder.createBox(1f, 10f, 140f, wallMat, VertexAttributes.Usage.Position | VertexAttributes.Usage.Normal);
-        wallInstances.add(new ModelInstance(wallModel, -70f, 5f, 15f)); // left
-        wallInstances.add(new ModelInstance(wallModel, 70f, 5f, 15f));  // right
-
-        ModelLoader loader = new G3dModelLoader(new UBJsonReader());
-        playerModel = loader.loadModel(Gdx.files.internal("models/Pensive_Glance_0414202339_texture.g3db"));
-        obstacleModel = loader.loadModel(Gdx.files.internal("models/Stickman_Yandex_0414211935_texture.g3db"));
-        laserModel = loader.loadModel(Gdx.files.internal("models/low_poly_lime_0415161736_texture.g3db"));
-
-        Texture playerTexture = new Texture(Gdx.files.internal("textures/Image_0.jpg"));
-        Texture obstacleTexture = new Texture(Gdx.files.internal("textures/texture_0.png"));
-        Texture laserTexture = new Texture(Gdx.files.internal("textures/low_poly_lime_0415161736_texture.png"));
-
-        for (Material mat : playerModel.materials) mat.set(TextureAttribute.createDiffuse(playerTexture));
-        for (Material mat : obstacleModel.materials) mat.set(TextureAttribute.createDiffuse(obstacleTexture));
-        for (Material mat : laserModel.materials) mat.set(TextureAttribute.createDiffuse(laserTexture));
-
-        playerInstance = new ModelInstance(playerModel);
-        playerInstance.transform.set(new Matrix4().setToTranslation(0f, 5f, 0f).scale(PLAYER_SCALE, PLAYER_SCALE, PLAYER_SCALE));
-
-        obstacles = new Array<>();
-        lasers = new Array<>();
-
-        font = new BitmapFont();
-        spriteBatch = new SpriteBatch();
-    }
-
-    private static class ObstacleInstance {
-        ModelInstance instance;
-        float speed;
-        float lifetime = 15f;
-
-        ObstacleInstance(ModelInstance instance, float speed) {
-            this.instance = instance;
-            this.speed = speed;
+        // unit box, scaled per wall entity by the render system
+        Material wallMat = new Material(TextureAttribute.createDiffuse(arenaTexture));
+        wallModel = modelBuilder.createBox(1f, 1f, 1f, wallMat, VertexAttributes.Usage.Position | VertexAttributes.Usage.Normal);
+
+        Array<Model> playerModels = assets.getModelLevels(GameAssets.PLAYER_MODEL);
+        Array<Model> obstacleModels = assets.getModelLevels(GameAssets.OBSTACLE_MODEL);
+        Array<Model> laserModels = assets.getModelLevels(GameAssets.LASER_MODEL);
+
+        Texture playerTexture = assets.getTexture(GameAssets.PLAYER_TEXTURE);
+        Texture obstacleTexture = assets.getTexture(GameAssets.OBSTACLE_TEXTURE);
+        Texture laserTexture = assets.getTexture(GameAssets.LASER_TEXTURE);
+
+        setDiffuse(playerModels, playerTexture);
+        setDiffuse(obstacleModels, obstacleTexture);
+        setDiffuse(laserModels, laserTexture);
+
+        world = new World();
+        world.setViewDirection(camera.direction, camera.up);
+        // the profiler is not thread-safe, so a simulation thread goes unprofiled
+        if (!threadedSimulation) world.setProfiler(profiler);
+        world.setSteeringBudget(STEERING_BUDGET);
+        int cores = Runtime.getRuntime().availableProcessors();
+        if (ownsWorkers && cores > 1) workers = new ForkJoinPool(cores - 1);
+        world.setWorkerPool(workers);
+
+        renderer = new SnapshotRenderer();
+        renderer.setModel(RenderableComponent.PLAYER, new LodModel(playerModels), PLAYER_SCALE);
+        renderer.setModel(RenderableComponent.OBSTACLE, new LodModel(obstacleModels), OBSTACLE_SCALE);
+        renderer.setModel(RenderableComponent.WALL, new LodModel(wallModel), 1f);
+        renderer.setLaserModel(new LodModel(laserModels), OBSTACLE_SCALE);
+        renderer.addStatic(floorInstance);
+        simulation = new Simulation(world);
+        replay = Replay.start(world, simulation.getFixedDt());
+        simulation.setRecording(replay);
+        keys = new TimedKeyInput((long) (simulation.getFixedDt() * 1e9));
+        if (threadedSimulation) {
+            simulationThread = new SimulationThread(simulation);
+            simulationThread.setInputSampler(keys);
+            simulationThread.start();
         }
-    }
 
-    private static class LaserInstance {
-        ModelInstance instance;
-        Vector3 direction;
-        float speed;
-        float lifetime = 10f;
+        hud = new Hud(assets.getSkin(), spriteBatch, new Hud.Listener() {
+            @Override
+            public void resume() {
+                setPaused(false);
+            }
 
-        LaserInstance(ModelInstance instance, Vector3 direction, float speed) {
-            this.instance = instance;
-            this.direction = direction;
-            this.speed = speed;
-        }
+            @Override
+            public void restart() {
+                input.restart = true;
+                setPaused(false);
+            }
+        });
+        hud.resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        Gdx.input.setInputProcessor(new InputMultiplexer(keys, hud.getStage()));
     }
 
-    private void spawnObstacle() {
-        if (obstacles.size >= 3) return;
-        ModelInstance obstacle = new ModelInstance(obstacleModel);
-        float angle = (float) (Math.random() * 360);
-        float distance = 50f;
-        float x = (float) Math.cos(angle) * distance;
-        float z = (float) Math.sin(angle) * distance;
-
-        obstacle.transform.set(new Matrix4().setToTranslation(x, 5f, z).scale(OBSTACLE_SCALE, OBSTACLE_SCALE, OBSTACLE_SCALE));
-        float speed = 10f + (float) Math.random() * 20f;
-        obstacles.add(new ObstacleInstance(obstacle, speed));
+    private void setPaused(boolean paused) {
+        if (this.paused == paused) return;
+        this.paused = paused;
+        if (simulationThread != null) simulationThread.setPaused(paused);
     }
 
-    private void spawnLaser() {
-        ModelInstance laser = new ModelInstance(laserModel);
-
-        float angle = (float) (Math.random() * 360);
-        float distance = 60f;
-        float x = (float) Math.cos(angle) * distance;
-        float z = (float) Math.sin(angle) * distance;
-        Vector3 startPos = new Vector3(x, 5f, z);
-
-        Vector3 dir = new Vector3(playerPosition).sub(startPos).nor();
-
-        laser.transform.set(new Matrix4().setToLookAt(dir, new Vector3(0, 1, 0)).inv()
-            .setTranslation(startPos).scale(OBSTACLE_SCALE, OBSTACLE_SCALE, OBSTACLE_SCALE));
-
-        float speed = 30f + (float) Math.random() * 40f;
-        lasers.add(new LaserInstance(laser, dir, speed));
+    private void applyQuality(QualityTier tier) {
+        renderer.setLodBias(tier.lodBias);
+        renderer.setDetailedLasers(tier.detailedLasers);
+        scaler.setScale(tier.renderScale);
+        environment.remove(sun);
+        if (tier.directionalLight) environment.add(sun);
+        // make up for the missing light so the scene keeps its brightness
+        float ambient = tier.directionalLight ? 0.6f : 0.8f;
+        environment.set(new ColorAttribute(ColorAttribute.AmbientLight, ambient, ambient, ambient, 1f));
+        Gdx.app.log("Quality", "Switched to " + tier.name);
     }
 
-    private void checkCollisions() {
-        playerInstance.transform.getTranslation(playerPosition);
-        for (ObstacleInstance obstacle : obstacles) {
-            Vector3 pos = new Vector3();
-            obstacle.instance.transform.getTranslation(pos);
-            if (playerPosition.dst(pos) < COLLISION_DISTANCE) {
-                gameOver = true;
-                Gdx.app.log("GAME OVER", "Collision with obstacle!");
-            }
+    private static void setDiffuse(Array<Model> levels, Texture texture) {
+        for (Model model : levels) {
+            for (Material mat : model.materials) mat.set(TextureAttribute.createDiffuse(texture));
         }
     }
 
-    private void restartGame() {
-        survivalTime = 0;
-        gameOver = false;
-        obstacles.clear();
-        lasers.clear();
+    private void renderLoading() {
+        Gdx.gl.glClearColor(0.05f, 0.05f, 0.05f, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        float width = Gdx.graphics.getWidth(), height = Gdx.graphics.getHeight();
+        float barWidth = width * 0.5f, barX = (width - barWidth) / 2f, barY = height / 2f - 10f;
+        shapeRenderer.getProjectionMatrix().setToOrtho2D(0, 0, width, height);
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(0.2f, 0.2f, 0.2f, 1f);
+        shapeRenderer.rect(barX, barY, barWidth, 20f);
+        shapeRenderer.setColor(0.8f, 0.8f, 0.8f, 1f);
+        shapeRenderer.rect(barX, barY, barWidth * assets.getProgress(), 20f);
+        shapeRenderer.end();
 
-        playerInstance.transform.set(new Matrix4().setToTranslation(0f, 5f, 0f).scale(PLAYER_SCALE, PLAYER_SCALE, PLAYER_SCALE));
+        spriteBatch.begin();
+        font.draw(spriteBatch, "Loading...", barX, barY + 45f);
+        spriteBatch.end();
     }
 
     @Override
     public void render() {
-        if (!gameOver) survivalTime += Gdx.graphics.getDeltaTime();
-        else if (Gdx.input.isKeyJustPressed(Keys.R)) restartGame();
-
-        Gdx.gl.glClearColor(0.05f, 0.05f, 0.05f, 1);
-        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT | GL20.GL_DEPTH_BUFFER_BIT);
+        if (world == null) {
+            if (assets.update(LOADING_BUDGET_MS)) {
+                createScene();
+                assets.logLoadTimes();
+            } else {
+                renderLoading();
+                if (!firstFrameLogged) {
+                    firstFrameLogged = true;
+                    Gdx.app.log("Startup", "First (loading) frame after " + TimeUtils.nanosToMillis(TimeUtils.timeSinceNanos(createNanos)) + " ms");
+                }
+                return;
+            }
+        }
 
+        profiler.begin(frameScope);
         float deltaTime = Gdx.graphics.getDeltaTime();
-        obstacleSpawnTimer += deltaTime;
-
-        if (!gameOver && obstacleSpawnTimer > OBSTACLE_SPAWN_INTERVAL) {
-            if (Math.random() < 0.8f) spawnLaser();
-            else if (obstacles.size < 3) spawnObstacle();
-            obstacleSpawnTimer = 0;
+        profiler.begin(inputScope);
+        readInput();
+        profiler.end(inputScope);
+
+        profiler.begin(simulationScope);
+        WorldSnapshot snapshot;
+        float alpha;
+        if (simulationThread != null) {
+            if (simulationThread.getFailure() != null) {
+                throw new GdxRuntimeException("Simulation thread failed", simulationThread.getFailure());
+            }
+            simulationThread.setInput(input);
+            snapshot = simulationThread.acquire();
+            alpha = snapshot.getAlpha(TimeUtils.nanoTime());
+        } else {
+            if (!paused) simulation.update(deltaTime, TimeUtils.nanoTime(), keys, input);
+            else keys.skip(TimeUtils.nanoTime());
+            snapshot = localSnapshot;
+            snapshot.capture(world, simulation.getTicks(), simulation.getFixedDt());
+            alpha = simulation.getAlpha();
         }
+        if (!wasGameOver && snapshot.gameOver) Gdx.app.log("GAME OVER", snapshot.gameOverReason);
+        wasGameOver = snapshot.gameOver;
+        profiler.end(simulationScope);
 
-        Vector3 forward = new Vector3(camera.direction);
-        forward.y = 0;
-        forward.nor();
-        Vector3 right = new Vector3(forward).crs(camera.up).nor();
-        Vector3 moveVector = new Vector3();
-
-        if (Gdx.input.isKeyPressed(Keys.W)) moveVector.add(forward.scl(PLAYER_SPEED * deltaTime));
-        if (Gdx.input.isKeyPressed(Keys.S)) moveVector.add(forward.scl(-PLAYER_SPEED * deltaTime));
-        if (Gdx.input.isKeyPressed(Keys.A)) moveVector.add(right.scl(-PLAYER_SPEED * deltaTime));
-        if (Gdx.input.isKeyPressed(Keys.D)) moveVector.add(right.scl(PLAYER_SPEED * deltaTime));
-
-        if (!moveVector.isZero() && !gameOver) {
-            Vector3 moveDir = new Vector3(moveVector).nor();
-            Vector3 pos = new Vector3();
-            playerInstance.transform.getTranslation(pos);
-            pos.add(moveVector);
+        if (governor.frame(deltaTime)) applyQuality(QualityTier.DEFAULTS[governor.getTier()]);
 
-            pos.x = Math.max(-BOUNDS_X + 2f, Math.min(BOUNDS_X - 2f, pos.x));
-            pos.z = Math.max(-BOUNDS_Z + 15f + 2f, Math.min(BOUNDS_Z - 2f, pos.z));
-
-            Matrix4 newTransform = new Matrix4().setToLookAt(moveDir, new Vector3(0, 1, 0)).inv()
-                .setTranslation(pos).scale(PLAYER_SCALE, PLAYER_SCALE, PLAYER_SCALE);
+        scaler.begin();
+        Gdx.gl.glClearColor(0.05f, 0.05f, 0.05f, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT | GL20.GL_DEPTH_BUFFER_BIT);
 
-            playerInstance.transform.set(newTransform);
+        profiler.begin(syncScope);
+        camera.update();
+        renderer.sync(snapshot, alpha, camera);
+        profiler.end(syncScope);
+
+        profiler.begin(modelScope);
+        drawQueue.begin(camera, environment);
+        renderer.submit(drawQueue);
+        drawQueue.end();
+        scaler.end();
+        profiler.end(modelScope);
+
+        profiler.begin(hudScope);
+        hud.update(snapshot, paused, renderer.getCulledCount(), Gdx.graphics.getFramesPerSecond(), keys.getLatency());
+        hud.draw(deltaTime);
+        if (profilerOverlay.isVisible()) {
+            spriteBatch.begin();
+            profilerOverlay.draw(spriteBatch, font, 20, Gdx.graphics.getHeight() - 50);
+            spriteBatch.end();
         }
+        profiler.end(hudScope);
 
-        playerInstance.transform.getTranslation(playerPosition);
-        if (!gameOver) {
-            Array<ObstacleInstance> obstaclesToRemove = new Array<>();
-            for (ObstacleInstance obstacle : obstacles) {
-                Vector3 pos = new Vector3();
-                obstacle.instance.transform.getTranslation(pos);
-                Vector3 dir = new Vector3(playerPosition).sub(pos).nor();
-                Vector3 movement = new Vector3(dir).scl(obstacle.speed * deltaTime);
-                Vector3 newPos = pos.add(movement);
-                obstacle.lifetime -= deltaTime;
-                if (obstacle.lifetime <= 0) {
-                    obstaclesToRemove.add(obstacle);
-                    continue;
-                }
-                obstacle.instance.transform.set(new Matrix4().setToLookAt(dir, new Vector3(0, 1, 0)).inv()
-                    .setTranslation(newPos).scale(OBSTACLE_SCALE, OBSTACLE_SCALE, OBSTACLE_SCALE));
-            }
-            obstacles.removeAll(obstaclesToRemove, true);
-
-            Array<LaserInstance> lasersToRemove = new Array<>();
-            for (LaserInstance laser : lasers) {
-                Vector3 currentPos = new Vector3();
-                laser.instance.transform.getTranslation(currentPos);
-                Vector3 newPos = currentPos.add(new Vector3(laser.direction).scl(laser.speed * deltaTime));
-                laser.lifetime -= deltaTime;
-                if (laser.lifetime <= 0 || newPos.len() > 200f) {
-                    lasersToRemove.add(laser);
-                    continue;
-                }
-                if (newPos.dst(playerPosition) < COLLISION_DISTANCE) {
-                    gameOver = true;
-                    Gdx.app.log("GAME OVER", "Hit by laser!");
-                }
-                laser.instance.transform.set(new Matrix4().setToLookAt(laser.direction, new Vector3(0, 1, 0)).inv()
-                    .setTranslation(newPos).scale(OBSTACLE_SCALE, OBSTACLE_SCALE, OBSTACLE_SCALE));
-            }
-            lasers.removeAll(lasersToRemove, true);
-        }
+        profilerOverlay.endFrame(deltaTime);
+        profiler.end(frameScope);
 
-        checkCollisions();
-        camera.update();
+        if (!firstGameFrameLogged) {
+            firstGameFrameLogged = true;
+            Gdx.app.log("Startup", "First game frame after " + TimeUtils.nanosToMillis(TimeUtils.timeSinceNanos(createNanos)) + " ms");
+        }
+    }
 
-        modelBatch.begin(camera);
-        modelBatch.render(floorInstance, environment);
-        for (ModelInstance wall : wallInstances) modelBatch.render(wall, environment);
-        modelBatch.render(playerInstance, environment);
-        for (ObstacleInstance obstacle : obstacles) modelBatch.render(obstacle.instance, environment);
-        for (LaserInstance laser : lasers) modelBatch.render(laser.instance, environment);
-        modelBatch.end();
+    /** Polls the keys that are not movement; those arrive as events through {@link #keys}. */
+    private void readInput() {
+        // restart stays latched until a tick consumes it
+        input.restart |= Gdx.input.isKeyJustPressed(Keys.R);
+        if (input.restart) setPaused(false);
+        if (Gdx.input.isKeyJustPressed(Keys.ESCAPE)) setPaused(!paused);
+        if (Gdx.input.isKeyJustPressed(Keys.TAB)) hud.toggleStats();
+        if (Gdx.input.isKeyJustPressed(Keys.F3)) profilerOverlay.toggle();
+    }
 
-        spriteBatch.begin();
-        font.draw(spriteBatch, "Score: " + (int) survivalTime, 20, Gdx.graphics.getHeight() - 20);
-        if (gameOver) {
-            font.draw(spriteBatch, "GAME OVER", Gdx.graphics.getWidth() / 2f - 50, Gdx.graphics.getHeight() / 2f + 20);
-            font.draw(spriteBatch, "Press R to Restart", Gdx.graphics.getWidth() / 2f - 70, Gdx.graphics.getHeight() / 2f - 10);
-        }
-        spriteBatch.end();
+    @Override
+    public void resize(int width, int height) {
+        if (hud != null) hud.resize(width, height);
     }
 
     @Override
     public void dispose() {
+        if (simulationThread != null) simulationThread.stop();
+        if (ownsWorkers && workers != null) workers.shutdown();
+        drawQueue.dispose();
+        scaler.dispose();
+        if (hud != null) hud.dispose();
         modelBatch.dispose();
-        playerModel.dispose();
-        obstacleModel.dispose();
-        laserModel.dispose();
+        assets.dispose();
         font.dispose();
         spriteBatch.dispose();
-        floorModel.dispose();
+        shapeRenderer.dispose();
+        if (floorModel != null) floorModel.dispose();
+        if (wallModel != null) wallModel.dispose();
+        profilerOverlay.dispose();
+        if (keys != null) logInputLatency();
+        writeProfile();
+        writeReplay();
+        if (world != null) world.dispose();
+    }
+
+    private void logInputLatency() {
+        LatencyHistogram latency = keys.getLatency();
+        if (latency.getCount() == 0) return;
+        Gdx.app.log("Input", String.format("%d key events applied after p50 %.2f ms, p95 %.2f ms, max %.2f ms; %d dropped",
+            latency.getCount(), latency.percentile(0.5) / 1e6, latency.percentile(0.95) / 1e6, latency.getMax() / 1e6,
+            keys.getDropped()));
+    }
+
+    /**
+     * Dumps the frame profile into the directory named by the {@value #PROFILE_DIR_PROPERTY}
+     * system property, which the Gradle run tasks point into their build directory so dumps
+     * stay out of the packaged assets, or else {@code profile/} in the working directory.
+     */
+    private void writeProfile() {
+        String path = System.getProperty(PROFILE_DIR_PROPERTY, "profile");
+        FileHandle dir = new File(path).isAbsolute() ? Gdx.files.absolute(path) : Gdx.files.local(path);
+        try (Writer csv = dir.child("frame-profile.csv").writer(false, "UTF-8");
+             Writer json = dir.child("frame-profile.json").writer(false, "UTF-8")) {
+            profiler.writeCsv(csv);
+            profiler.writeJson(json);
+        } catch (IOException | GdxRuntimeException e) {
+            Gdx.app.error("Profiler", "Could not write frame profile", e);
+        }
+    }
+
+    /** Saves the session so it can be re-simulated with the tools' ReplayRunner. */
+    private void writeReplay() {
+        if (replay == null) return;
+        replay.finish(world);
+        FileHandle file = Gdx.files.local("replays/" + TimeUtils.millis() + ".dtr");
+        try (OutputStream out = file.write(false, 8192)) {
+            replay.write(out);
+            Gdx.app.log("Replay", "Saved " + replay.getTicks() + " ticks to " + file.path());
+        } catch (IOException | GdxRuntimeException e) {
+            Gdx.app.error("Replay", "Could not write replay", e);
+        }
     }
 }
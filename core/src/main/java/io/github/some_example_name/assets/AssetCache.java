@@ -0,0 +1,366 @@
+package io.github.some_example_name.assets;
+
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.model.data.ModelData;
+import com.badlogic.gdx.graphics.g3d.model.data.ModelMaterial;
+import com.badlogic.gdx.graphics.g3d.model.data.ModelMesh;
+import com.badlogic.gdx.graphics.g3d.model.data.ModelMeshPart;
+import com.badlogic.gdx.graphics.g3d.model.data.ModelNode;
+import com.badlogic.gdx.graphics.g3d.model.data.ModelNodePart;
+import com.badlogic.gdx.graphics.g3d.model.data.ModelTexture;
+import com.badlogic.gdx.graphics.g3d.utils.TextureProvider;
+import com.badlogic.gdx.math.Quaternion;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Runtime side of the offline asset cache written by the {@code tools} subproject
+ * ({@code ./gradlew buildAssetCache}).
+ * <p>
+ * The cache is an index file mapping asset paths to ranges of a blob file. Textures are stored
+ * as raw pixels with a full mip chain and models as flat vertex and index arrays, so loading
+ * does no image decoding or JSON parsing: the blob is memory-mapped and pixel data is handed
+ * to GL straight from the mapping. Identical files share one blob range, and one GL texture.
+ * Models come with simplified levels of detail, stored as further models under
+ * {@link #lodPath(String, int)}.
+ * <p>
+ * Only a real file can be mapped, so the cache is never packaged into the jar: distributions
+ * install it next to the jar and point {@value #DIR_PROPERTY} at it, and the desktop run task
+ * finds it among the internal assets in its working directory.
+ * <p>
+ * All multi-byte values in the blob are little-endian; the index is written with
+ * {@link java.io.DataOutputStream}.
+ */
+public class AssetCache implements Disposable {
+
+    public static final String DIRECTORY = "cache";
+    public static final String INDEX_NAME = "assets.idx";
+    public static final String BLOB_NAME = "assets.bin";
+    public static final String INDEX_FILE = DIRECTORY + "/" + INDEX_NAME;
+    public static final String BLOB_FILE = DIRECTORY + "/" + BLOB_NAME;
+    /** System property naming the directory that holds the cache files, if not the internal {@value #DIRECTORY}. */
+    public static final String DIR_PROPERTY = "asset.cache";
+
+    public static final int MAGIC = 0x44544143; // "DTAC"
+    public static final int VERSION = 1;
+
+    public static final byte KIND_TEXTURE = 0;
+    public static final byte KIND_MODEL = 1;
+
+    public static final int FORMAT_RGBA8888 = 0;
+    public static final int FORMAT_RGB888 = 1;
+
+    /** Separates a model's path from the number of one of its levels of detail. */
+    public static final String LOD_SEPARATOR = "#lod";
+
+    /** Blob ranges start on this boundary. */
+    public static final int ALIGNMENT = 16;
+
+    private final ByteBuffer blob;
+    private final ObjectMap<String, Entry> entries = new ObjectMap<>();
+    private final LongMap<Texture> textures = new LongMap<>();
+    private final ObjectMap<String, Model> models = new ObjectMap<>();
+
+    private final TextureProvider textureProvider = new TextureProvider() {
+        @Override
+        public Texture load(String fileName) {
+            return getTexture(fileName);
+        }
+    };
+
+    private AssetCache(ByteBuffer blob) {
+        this.blob = blob;
+    }
+
+    /**
+     * Opens the cache in the directory named by {@value #DIR_PROPERTY}, or else the one among
+     * the internal assets; returns null if there is none that is a plain file.
+     */
+    public static AssetCache openInstalled(Files files) {
+        String dir = System.getProperty(DIR_PROPERTY);
+        FileHandle index, blob;
+        if (dir != null) {
+            index = files.absolute(dir).child(INDEX_NAME);
+            blob = files.absolute(dir).child(BLOB_NAME);
+        } else {
+            index = files.internal(INDEX_FILE);
+            blob = files.internal(BLOB_FILE);
+        }
+        if (!isFile(index) || !isFile(blob)) return null;
+        return open(index, blob);
+    }
+
+    private static boolean isFile(FileHandle file) {
+        return file.type() != Files.FileType.Classpath && file.file().isFile();
+    }
+
+    public static AssetCache open(FileHandle index, FileHandle blobFile) {
+        ByteBuffer blob = map(blobFile);
+        AssetCache cache = new AssetCache(blob);
+        DataInputStream in = new DataInputStream(index.read(8192));
+        try {
+            if (in.readInt() != MAGIC) throw new GdxRuntimeException("Not an asset cache index: " + index);
+            int version = in.readInt();
+            if (version != VERSION) throw new GdxRuntimeException("Unsupported asset cache version " + version + ": " + index);
+            long blobLength = in.readLong();
+            if (blobLength != blob.capacity()) throw new GdxRuntimeException("Asset cache blob does not match its index: " + blobFile);
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String path = in.readUTF();
+                byte kind = in.readByte();
+                int offset = in.readInt();
+                int length = in.readInt();
+                cache.entries.put(path, new Entry(kind, offset, length));
+            }
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Couldn't read asset cache index: " + index, e);
+        } finally {
+            try {
+                in.close();
+            } catch (IOException ignored) {
+            }
+        }
+        return cache;
+    }
+
+    /** Maps the blob, which must be a file and not a classpath resource. */
+    private static ByteBuffer map(FileHandle file) {
+        if (!isFile(file)) throw new GdxRuntimeException("Asset cache blob is not a file: " + file);
+        return file.map().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Reads the whole blob into memory, so creating textures and models afterwards does not
+     * wait for the disk; meant for a background thread. Does not touch GL.
+     */
+    public void preload() {
+        if (blob instanceof MappedByteBuffer) ((MappedByteBuffer) blob).load();
+    }
+
+    /** Cache path of level {@code level} of the model at {@code path}; level 0 is the model itself. */
+    public static String lodPath(String path, int level) {
+        return level == 0 ? path : path + LOD_SEPARATOR + level;
+    }
+
+    public boolean contains(String path, byte kind) {
+        Entry entry = entries.get(path);
+        return entry != null && entry.kind == kind;
+    }
+
+    /** Returns the texture of {@code path}, creating it on first use; duplicates of a file share it. */
+    public Texture getTexture(String path) {
+        Entry entry = get(path, KIND_TEXTURE);
+        Texture texture = textures.get(entry.offset);
+        if (texture != null) return texture;
+
+        ByteBuffer in = slice(entry);
+        int format = in.getInt();
+        int width = in.getInt();
+        int height = in.getInt();
+        int levelCount = in.getInt();
+        ByteBuffer[] levels = new ByteBuffer[levelCount];
+        for (int i = 0; i < levelCount; i++) {
+            int offset = in.getInt();
+            int length = in.getInt();
+            levels[i] = slice(entry.offset + offset, length);
+        }
+        texture = new Texture(new CachedTextureData(toPixmapFormat(format), width, height, levels));
+        texture.setFilter(levelCount > 1 ? Texture.TextureFilter.MipMapLinearLinear : Texture.TextureFilter.Linear,
+            Texture.TextureFilter.Linear);
+        textures.put(entry.offset, texture);
+        return texture;
+    }
+
+    /** Returns the model of {@code path}, building it on first use; its textures come from this cache too. */
+    public Model getModel(String path) {
+        Model model = models.get(path);
+        if (model != null) return model;
+
+        ByteBuffer in = slice(get(path, KIND_MODEL));
+        ModelData data = new ModelData();
+        data.id = path;
+
+        int meshCount = in.getInt();
+        for (int m = 0; m < meshCount; m++) {
+            ModelMesh mesh = new ModelMesh();
+            mesh.id = readString(in);
+            mesh.attributes = new VertexAttribute[in.getInt()];
+            for (int a = 0; a < mesh.attributes.length; a++) {
+                int usage = in.getInt();
+                int numComponents = in.getInt();
+                int type = in.getInt();
+                boolean normalized = in.get() != 0;
+                String alias = readString(in);
+                int unit = in.getInt();
+                mesh.attributes[a] = new VertexAttribute(usage, numComponents, type, normalized, alias, unit);
+            }
+            mesh.vertices = new float[in.getInt()];
+            in.position(align4(in.position()));
+            in.asFloatBuffer().get(mesh.vertices);
+            in.position(in.position() + mesh.vertices.length * 4);
+            mesh.parts = new ModelMeshPart[in.getInt()];
+            for (int p = 0; p < mesh.parts.length; p++) {
+                ModelMeshPart part = new ModelMeshPart();
+                part.id = readString(in);
+                part.primitiveType = in.getInt();
+                part.indices = new short[in.getInt()];
+                in.position(align4(in.position()));
+                in.asShortBuffer().get(part.indices);
+                in.position(align4(in.position() + part.indices.length * 2));
+                mesh.parts[p] = part;
+            }
+            data.meshes.add(mesh);
+        }
+
+        int materialCount = in.getInt();
+        for (int m = 0; m < materialCount; m++) {
+            ModelMaterial material = new ModelMaterial();
+            material.id = readString(in);
+            material.ambient = readColor(in);
+            material.diffuse = readColor(in);
+            material.specular = readColor(in);
+            material.emissive = readColor(in);
+            material.reflection = readColor(in);
+            material.shininess = in.getFloat();
+            material.opacity = in.getFloat();
+            int textureCount = in.getInt();
+            if (textureCount > 0) material.textures = new Array<>(textureCount);
+            for (int t = 0; t < textureCount; t++) {
+                ModelTexture texture = new ModelTexture();
+                texture.id = readString(in);
+                texture.fileName = readString(in);
+                texture.usage = in.getInt();
+                texture.uvTranslation = readVector2(in);
+                texture.uvScaling = readVector2(in);
+                material.textures.add(texture);
+            }
+            data.materials.add(material);
+        }
+
+        int nodeCount = in.getInt();
+        for (int n = 0; n < nodeCount; n++) data.nodes.add(readNode(in));
+
+        model = new Model(data, textureProvider);
+        models.put(path, model);
+        return model;
+    }
+
+    /** The model of {@code path} followed by each of its cached levels of detail. */
+    public Array<Model> getModelLevels(String path) {
+        Array<Model> levels = new Array<>();
+        levels.add(getModel(path));
+        for (int level = 1; contains(lodPath(path, level), KIND_MODEL); level++) levels.add(getModel(lodPath(path, level)));
+        return levels;
+    }
+
+    private static ModelNode readNode(ByteBuffer in) {
+        ModelNode node = new ModelNode();
+        node.id = readString(in);
+        node.meshId = readString(in);
+        byte flags = in.get();
+        if ((flags & 1) != 0) node.translation = new Vector3(in.getFloat(), in.getFloat(), in.getFloat());
+        if ((flags & 2) != 0) node.rotation = new Quaternion(in.getFloat(), in.getFloat(), in.getFloat(), in.getFloat());
+        if ((flags & 4) != 0) node.scale = new Vector3(in.getFloat(), in.getFloat(), in.getFloat());
+        node.parts = new ModelNodePart[in.getInt()];
+        for (int p = 0; p < node.parts.length; p++) {
+            ModelNodePart part = new ModelNodePart();
+            part.meshPartId = readString(in);
+            part.materialId = readString(in);
+            node.parts[p] = part;
+        }
+        int childCount = in.getInt();
+        if (childCount > 0) {
+            node.children = new ModelNode[childCount];
+            for (int c = 0; c < childCount; c++) node.children[c] = readNode(in);
+        }
+        return node;
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getShort();
+        if (length < 0) return null;
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Color readColor(ByteBuffer in) {
+        if (in.get() == 0) return null;
+        return new Color(in.getFloat(), in.getFloat(), in.getFloat(), in.getFloat());
+    }
+
+    private static Vector2 readVector2(ByteBuffer in) {
+        if (in.get() == 0) return null;
+        return new Vector2(in.getFloat(), in.getFloat());
+    }
+
+    public static int align4(int position) {
+        return (position + 3) & ~3;
+    }
+
+    private static Pixmap.Format toPixmapFormat(int format) {
+        switch (format) {
+            case FORMAT_RGBA8888:
+                return Pixmap.Format.RGBA8888;
+            case FORMAT_RGB888:
+                return Pixmap.Format.RGB888;
+            default:
+                throw new GdxRuntimeException("Unknown cached texture format " + format);
+        }
+    }
+
+    private Entry get(String path, byte kind) {
+        Entry entry = entries.get(path);
+        if (entry == null || entry.kind != kind) throw new GdxRuntimeException("Not in the asset cache: " + path);
+        return entry;
+    }
+
+    private ByteBuffer slice(Entry entry) {
+        return slice(entry.offset, entry.length);
+    }
+
+    private ByteBuffer slice(int offset, int length) {
+        ByteBuffer view = blob.duplicate();
+        view.limit(offset + length).position(offset);
+        return view.slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Override
+    public void dispose() {
+        // models dispose the textures they were given too; disposing a texture twice is a no-op
+        for (Model model : models.values()) model.dispose();
+        models.clear();
+        for (Texture texture : textures.values()) texture.dispose();
+        textures.clear();
+    }
+
+    private static class Entry {
+        final byte kind;
+        final int offset;
+        final int length;
+
+        Entry(byte kind, int offset, int length) {
+            this.kind = kind;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.some_example_name.assets;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Texture data backed by pre-decoded pixels in the asset cache. Every mip level is uploaded
+ * straight from its slice of the (usually memory-mapped) cache buffer, so nothing is decoded
+ * or copied on the Java side.
+ */
+class CachedTextureData implements TextureData {
+
+    private final Pixmap.Format format;
+    private final int width, height;
+    private final ByteBuffer[] levels;
+
+    /** @param levels pixel data of every mip level, largest first, each positioned at its start */
+    CachedTextureData(Pixmap.Format format, int width, int height, ByteBuffer[] levels) {
+        this.format = format;
+        this.width = width;
+        this.height = height;
+        this.levels = levels;
+    }
+
+    @Override
+    public TextureDataType getType() {
+        return TextureDataType.Custom;
+    }
+
+    @Override
+    public boolean isPrepared() {
+        return true;
+    }
+
+    @Override
+    public void prepare() {
+    }
+
+    @Override
+    public Pixmap consumePixmap() {
+        throw new GdxRuntimeException("Cached texture data has no pixmap");
+    }
+
+    @Override
+    public boolean disposePixmap() {
+        return false;
+    }
+
+    @Override
+    public void consumeCustomData(int target) {
+        int glFormat = Pixmap.Format.toGlFormat(format);
+        int glType = Pixmap.Format.toGlType(format);
+        // RGB rows of odd widths are not 4-byte aligned
+        Gdx.gl.glPixelStorei(GL20.GL_UNPACK_ALIGNMENT, 1);
+        int w = width, h = height;
+        for (int level = 0; level < levels.length; level++) {
+            Gdx.gl.glTexImage2D(target, level, glFormat, w, h, 0, glFormat, glType, levels[level]);
+            w = Math.max(1, w >> 1);
+            h = Math.max(1, h >> 1);
+        }
+        Gdx.gl.glPixelStorei(GL20.GL_UNPACK_ALIGNMENT, 4);
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public Pixmap.Format getFormat() {
+        return format;
+    }
+
+    @Override
+    public boolean useMipMaps() {
+        return levels.length > 1;
+    }
+
+    @Override
+    public boolean isManaged() {
+        // the buffers stay valid for as long as the cache is open, so the data can be reloaded
+        return true;
+    }
+}
@@ -0,0 +1,201 @@
+package io.github.some_example_name.assets;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.ModelLoader;
+import com.badlogic.gdx.assets.loaders.SkinLoader;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+/**
+ * Loads the game's models and textures through an {@link AssetManager}, which decodes images
+ * on its background executor and loads each file only once however many times it is referenced.
+ * <p>
+ * The stickman and lime models reference {@code models/texture_0.png} and the player
+ * references {@code models/Image_0.jpg}; these are byte-identical to the copies in
+ * {@code textures/}, so the model dependencies are reused as diffuse textures instead of
+ * decoding the copies a second time. The arena texture is shared by the floor and the walls.
+ * <p>
+ * When the offline {@link AssetCache} has been built and holds every asset, it is used
+ * instead: nothing is decoded, so everything is created on the first {@link #update} call
+ * after the cache is open. Opening it, and reading the mapped blob in, happens on a background
+ * thread, so the first frames are not held up by the disk; the source files are only queued
+ * once it turns out there is no usable cache. Only the cache has simplified levels of detail;
+ * without it every model has a single level.
+ * The UI skin is not cached and always loads through the asset manager.
+ */
+public class GameAssets implements Disposable {
+
+    public static final String PLAYER_MODEL = "models/Pensive_Glance_0414202339_texture.g3db";
+    public static final String OBSTACLE_MODEL = "models/Stickman_Yandex_0414211935_texture.g3db";
+    public static final String LASER_MODEL = "models/low_poly_lime_0415161736_texture.g3db";
+
+    public static final String PLAYER_TEXTURE = "models/Image_0.jpg";
+    public static final String OBSTACLE_TEXTURE = "models/texture_0.png";
+    public static final String LASER_TEXTURE = "textures/low_poly_lime_0415161736_texture.png";
+    public static final String ARENA_TEXTURE = "textures/vurnari_screen.png";
+    public static final String SKIN = "ui/uiskin.json";
+
+    private static final String[] MODELS = {PLAYER_MODEL, OBSTACLE_MODEL, LASER_MODEL};
+    private static final String[] TEXTURES = {PLAYER_TEXTURE, OBSTACLE_TEXTURE, LASER_TEXTURE, ARENA_TEXTURE};
+
+    private final AssetManager manager = new AssetManager();
+    private AsyncExecutor cacheExecutor;
+    private AsyncResult<AssetCache> openingCache;
+    private AssetCache cache;
+    private boolean cacheLoaded;
+    private AssetLoaderParameters.LoadedCallback timing;
+
+    private final Array<String> loadedNames = new Array<>();
+    private final LongArray loadedAt = new LongArray();
+    private long queuedAt;
+
+    public void queue() {
+        queuedAt = TimeUtils.nanoTime();
+        timing = new AssetLoaderParameters.LoadedCallback() {
+            @Override
+            public void finishedLoading(AssetManager assetManager, String fileName, Class type) {
+                markLoaded(fileName);
+            }
+        };
+        SkinLoader.SkinParameter skinParameter = new SkinLoader.SkinParameter();
+        skinParameter.loadedCallback = timing;
+        manager.load(SKIN, Skin.class, skinParameter);
+        cacheExecutor = new AsyncExecutor(1, "AssetCache");
+        openingCache = cacheExecutor.submit(new AsyncTask<AssetCache>() {
+            @Override
+            public AssetCache call() {
+                AssetCache cache = openCache();
+                if (cache != null) cache.preload();
+                return cache;
+            }
+        });
+    }
+
+    private void queueSources() {
+        TextureLoader.TextureParameter textureParameter = new TextureLoader.TextureParameter();
+        textureParameter.loadedCallback = timing;
+        ModelLoader.ModelParameters modelParameter = new ModelLoader.ModelParameters();
+        modelParameter.loadedCallback = timing;
+        // textures referenced from inside the models are queued with this parameter; sharing it
+        // keeps them identical to the explicitly queued ones
+        modelParameter.textureParameter = textureParameter;
+
+        for (String model : MODELS) manager.load(model, Model.class, modelParameter);
+        for (String texture : TEXTURES) manager.load(texture, Texture.class, textureParameter);
+    }
+
+    /** Opens the asset cache if it exists and is complete, otherwise returns null. */
+    private static AssetCache openCache() {
+        AssetCache cache = AssetCache.openInstalled(Gdx.files);
+        if (cache == null) return null;
+        boolean complete = true;
+        for (String model : MODELS) complete &= cache.contains(model, AssetCache.KIND_MODEL);
+        for (String texture : TEXTURES) complete &= cache.contains(texture, AssetCache.KIND_TEXTURE);
+        if (complete) return cache;
+        Gdx.app.log("Assets", "Asset cache is incomplete, loading the source files");
+        cache.dispose();
+        return null;
+    }
+
+    /**
+     * Advances loading for at most {@code millis} milliseconds.
+     *
+     * @return whether everything is loaded
+     */
+    public boolean update(int millis) {
+        boolean managerDone = manager.update(millis);
+        if (openingCache != null) {
+            if (!openingCache.isDone()) return false;
+            cache = finishOpening();
+            if (cache == null) {
+                queueSources();
+                return false;
+            }
+        }
+        if (cache == null) return managerDone;
+        if (!cacheLoaded) {
+            for (String model : MODELS) {
+                cache.getModelLevels(model);
+                markLoaded(model);
+            }
+            for (String texture : TEXTURES) {
+                cache.getTexture(texture);
+                markLoaded(texture);
+            }
+            cacheLoaded = true;
+        }
+        return managerDone;
+    }
+
+    /** Takes the cache the background task opened, or null, and stops the task's thread. */
+    private AssetCache finishOpening() {
+        AsyncResult<AssetCache> result = openingCache;
+        openingCache = null;
+        cacheExecutor.dispose();
+        cacheExecutor = null;
+        return result.get();
+    }
+
+    private void markLoaded(String fileName) {
+        loadedNames.add(fileName);
+        loadedAt.add(TimeUtils.nanoTime());
+    }
+
+    public float getProgress() {
+        if (openingCache != null) return 0f;
+        if (cache != null) return ((cacheLoaded ? 1f : 0f) + manager.getProgress()) / 2f;
+        return manager.getProgress();
+    }
+
+    public Model getModel(String fileName) {
+        if (cache != null) return cache.getModel(fileName);
+        return manager.get(fileName, Model.class);
+    }
+
+    /** The model followed by its simplified levels of detail, from most to least detailed. */
+    public Array<Model> getModelLevels(String fileName) {
+        if (cache != null) return cache.getModelLevels(fileName);
+        Array<Model> levels = new Array<>();
+        levels.add(manager.get(fileName, Model.class));
+        return levels;
+    }
+
+    public Texture getTexture(String fileName) {
+        if (cache != null) return cache.getTexture(fileName);
+        return manager.get(fileName, Texture.class);
+    }
+
+    public Skin getSkin() {
+        return manager.get(SKIN, Skin.class);
+    }
+
+    /** Logs when each asset finished loading and how long it took after the previous one. */
+    public void logLoadTimes() {
+        Gdx.app.log("Assets", cache != null ? "Loaded from " + AssetCache.BLOB_FILE : "Loaded from source files");
+        long previous = queuedAt;
+        for (int i = 0; i < loadedNames.size; i++) {
+            long at = loadedAt.get(i);
+            Gdx.app.log("Assets", String.format("%-55s +%7.1f ms (%6.1f ms)",
+                loadedNames.get(i), (at - queuedAt) / 1e6, (at - previous) / 1e6));
+            previous = at;
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (openingCache != null) cache = finishOpening();
+        manager.dispose();
+        if (cache != null) cache.dispose();
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.some_example_name.ecs;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.IntArray;
+import io.github.some_example_name.sim.SpatialGrid;
+import io.github.some_example_name.sim.World;
+
+/**
+ * Positions of the steering agents in a uniform grid that {@link #rebuild} refills once per
+ * tick, shared by the {@link GridProximity} of every agent. Between rebuilds it is only read,
+ * so agents may look up their neighbours from several threads at once.
+ */
+class AgentGrid {
+
+    private final SpatialGrid grid = World.createGrid();
+    private ImmutableArray<Entity> agents;
+
+    /** Indexes the current position of every entity in {@code agents}, which must have a {@link SteeringComponent}. */
+    void rebuild(ImmutableArray<Entity> agents) {
+        this.agents = agents;
+        grid.clear();
+        for (int i = 0, n = agents.size(); i < n; i++) {
+            Vector3 position = Mappers.steering.get(agents.get(i)).position;
+            grid.insert(i, position.x, position.z);
+        }
+    }
+
+    /** Collects the indices of agents that may be within {@code radius} of the point; see {@link SpatialGrid#query}. */
+    void query(float x, float z, float radius, IntArray out) {
+        grid.query(x, z, radius, out);
+    }
+
+    SteeringComponent get(int index) {
+        return Mappers.steering.get(agents.get(index));
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.some_example_name.ecs;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.ai.utils.Collision;
+import com.badlogic.gdx.ai.utils.Ray;
+import com.badlogic.gdx.ai.utils.RaycastCollisionDetector;
+import com.badlogic.gdx.math.Vector3;
+
+/**
+ * Casts steering rays against the {@link WallComponent} boxes on the XZ plane. There are only a
+ * handful of walls, so every ray tests all of them. {@link #collides} reuses a scratch
+ * collision, so each agent gets its own instance.
+ */
+class ArenaRaycaster implements RaycastCollisionDetector<Vector3> {
+
+    private final ImmutableArray<Entity> walls;
+    private final Collision<Vector3> scratch = new Collision<>(new Vector3(), new Vector3());
+
+    ArenaRaycaster(ImmutableArray<Entity> walls) {
+        this.walls = walls;
+    }
+
+    @Override
+    public boolean collides(Ray<Vector3> ray) {
+        return findCollision(scratch, ray);
+    }
+
+    @Override
+    public boolean findCollision(Collision<Vector3> outputCollision, Ray<Vector3> inputRay) {
+        Vector3 start = inputRay.start, end = inputRay.end;
+        float dx = end.x - start.x, dz = end.z - start.z;
+        float nearest = Float.POSITIVE_INFINITY;
+        float normalX = 0, normalZ = 0;
+        for (int i = 0, n = walls.size(); i < n; i++) {
+            Entity wall = walls.get(i);
+            Vector3 center = Mappers.transform.get(wall).position;
+            Vector3 size = Mappers.wall.get(wall).size;
+            float halfX = size.x / 2f, halfZ = size.z / 2f;
+
+            // slab test; the entry axis gives the normal
+            float t0 = 0, t1 = 1, nx = 0, nz = 0;
+            if (dx != 0) {
+                float a = (center.x - halfX - start.x) / dx, b = (center.x + halfX - start.x) / dx;
+                float enter = Math.min(a, b), exit = Math.max(a, b);
+                if (enter > t0) {
+                    t0 = enter;
+                    nx = dx > 0 ? -1 : 1;
+                }
+                t1 = Math.min(t1, exit);
+            } else if (start.x < center.x - halfX || start.x > center.x + halfX) {
+                continue;
+            }
+            if (dz != 0) {
+                float a = (center.z - halfZ - start.z) / dz, b = (center.z + halfZ - start.z) / dz;
+                float enter = Math.min(a, b), exit = Math.max(a, b);
+                if (enter > t0) {
+                    t0 = enter;
+                    nx = 0;
+                    nz = dz > 0 ? -1 : 1;
+                }
+                t1 = Math.min(t1, exit);
+            } else if (start.z < center.z - halfZ || start.z > center.z + halfZ) {
+                continue;
+            }
+            // a ray starting inside a wall has no entry face; let the agent leave it
+            if (t0 > t1 || t0 >= nearest || (nx == 0 && nz == 0)) continue;
+            nearest = t0;
+            normalX = nx;
+            normalZ = nz;
+        }
+        if (nearest == Float.POSITIVE_INFINITY) return false;
+        outputCollision.point.set(start.x + dx * nearest, start.y, start.z + dz * nearest);
+        outputCollision.normal.set(normalX, 0f, normalZ);
+        return true;
+    }
+}
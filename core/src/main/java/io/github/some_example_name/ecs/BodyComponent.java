@@ -0,0 +1,31 @@
+package io.github.some_example_name.ecs;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Pool;
+import io.github.some_example_name.physics.PhysicsBackend;
+
+/** A circle in the {@link PhysicsSystem}'s backend; other systems steer it through {@link #velocity}. */
+public class BodyComponent implements Component, Pool.Poolable {
+    public float radius;
+    /** {@link PhysicsBackend} flags; read when the entity is added. */
+    public int flags;
+    /** Velocity on the XZ plane for the next step; y is ignored. */
+    public final Vector3 velocity = new Vector3();
+    /** Backend handle while the entity is in the engine, -1 otherwise. */
+    public int id = -1;
+
+    public BodyComponent set(float radius, int flags) {
+        this.radius = radius;
+        this.flags = flags;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        radius = 0;
+        flags = 0;
+        velocity.setZero();
+        id = -1;
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.some_example_name.ecs;
+
+import com.badlogic.ashley.core.Family;
+
+/** Entity families shared by the systems and the world. */
+public final class Families {
+    public static final Family players = Family.all(PlayerComponent.class, BodyComponent.class, TransformComponent.class).get();
+    public static final Family homing = Family.all(HomingComponent.class, SteeringComponent.class, TransformComponent.class).get();
+    /** Players that homing entities can pursue. */
+    public static final Family steeringTargets = Family.all(PlayerComponent.class, SteeringComponent.class, TransformComponent.class).get();
+    public static final Family hazards = Family.all(HazardComponent.class, TransformComponent.class).get();
+    public static final Family mortal = Family.all(LifetimeComponent.class).get();
+    public static final Family bodies = Family.all(BodyComponent.class, TransformComponent.class).get();
+    public static final Family walls = Family.all(WallComponent.class, TransformComponent.class).get();
+    public static final Family renderables = Family.all(RenderableComponent.class, TransformComponent.class).get();
+
+    private Families() {
+    }
+}
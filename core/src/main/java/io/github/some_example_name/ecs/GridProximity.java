@@ -0,0 +1,54 @@
+package io.github.some_example_name.ecs;
+
+import com.badlogic.gdx.ai.steer.Proximity;
+import com.badlogic.gdx.ai.steer.Steerable;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Neighbourhood of one steering agent: the other agents within a fixed radius, looked up in
+ * the {@link AgentGrid} shared by all of them. Each agent has its own, so agents can be
+ * planned on different threads.
+ * <p>
+ * At most {@code maxNeighbors} agents are reported, so the cost per agent stays bounded when
+ * a crowd piles up around the player.
+ */
+class GridProximity implements Proximity<Vector3> {
+
+    private final AgentGrid agents;
+    private final float radius;
+    private final int maxNeighbors;
+    private final IntArray candidates = new IntArray();
+    private Steerable<Vector3> owner;
+
+    GridProximity(AgentGrid agents, Steerable<Vector3> owner, float radius, int maxNeighbors) {
+        this.agents = agents;
+        this.owner = owner;
+        this.radius = radius;
+        this.maxNeighbors = maxNeighbors;
+    }
+
+    @Override
+    public Steerable<Vector3> getOwner() {
+        return owner;
+    }
+
+    @Override
+    public void setOwner(Steerable<Vector3> owner) {
+        this.owner = owner;
+    }
+
+    @Override
+    public int findNeighbors(ProximityCallback<Vector3> callback) {
+        Vector3 position = owner.getPosition();
+        agents.query(position.x, position.z, radius, candidates);
+        int count = 0;
+        for (int c = 0; c < candidates.size && count < maxNeighbors; c++) {
+            SteeringComponent neighbor = agents.get(candidates.items[c]);
+            if (neighbor == owner) continue;
+            float range = radius + neighbor.boundingRadius;
+            if (position.dst2(neighbor.position) < range * range && callback.reportNeighbor(neighbor)) count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,15 @@
+package io.github.some_example_name.ecs;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+/** Ends the game of any player it touches; see {@link PhysicsSystem}. */
+public class HazardComponent implements Component, Pool.Poolable {
+    /** Game over message shown when this hazard hits a player. */
+    public String reason;
+
+    @Override
+    public void reset() {
+        reason = null;
+    }
+}
@@ -0,0 +1,8 @@
+package io.github.some_example_name.ecs;
+
+import com.badlogic.ashley.core.Entity;
+
+/** Told when a hazard or laser touches a player. */
+public interface HitListener {
+    void hit(Entity player, String reason);
+}
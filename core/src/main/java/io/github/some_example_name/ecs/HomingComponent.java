@@ -0,0 +1,14 @@
+package io.github.some_example_name.ecs;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+/** Chases the nearest player at up to {@code speed}; see {@link SteeringSystem} and {@link HomingSystem}. */
+public class HomingComponent implements Component, Pool.Poolable {
+    public float speed;
+
+    @Override
+    public void reset() {
+        speed = 0;
+    }
+}
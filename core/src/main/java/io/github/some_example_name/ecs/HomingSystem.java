@@ -0,0 +1,27 @@
+package io.github.some_example_name.ecs;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.math.Vector3;
+
+/**
+ * Updates the velocity of every homing entity from the steering last chosen for it by
+ * {@link SteeringSystem}: the acceleration is applied every tick even when the agent was not
+ * re-planned, and the speed is capped at the agent's maximum. The {@link PhysicsSystem} then
+ * moves the body.
+ */
+public class HomingSystem extends IteratingSystem {
+
+    public HomingSystem(int priority) {
+        super(Families.homing, priority);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        SteeringComponent steering = Mappers.steering.get(entity);
+        Vector3 velocity = steering.linearVelocity;
+        velocity.mulAdd(steering.acceleration.linear, deltaTime).limit(steering.maxLinearSpeed);
+        Mappers.body.get(entity).velocity.set(velocity);
+        if (!velocity.isZero()) Mappers.transform.get(entity).direction.set(velocity).nor();
+    }
+}
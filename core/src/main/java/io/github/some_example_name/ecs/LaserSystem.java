@@ -0,0 +1,63 @@
+package io.github.some_example_name.ecs;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.utils.ImmutableArray;
+import io.github.some_example_name.sim.ProjectileEngine;
+
+/**
+ * Advances the lasers and reports hits on the target player.
+ * <p>
+ * Lasers are not entities: there can be many thousands of them and they only ever fly
+ * straight, so they stay in a {@link ProjectileEngine}, whose structure-of-arrays and
+ * event-driven implementations beat per-entity component lookups by a wide margin.
+ * The engines are built around a single moving target, whose tests are part of the step; the
+ * other players of a multiplayer arena, if any, are tested after it one at a time.
+ */
+public class LaserSystem extends EntitySystem {
+
+    public static final String REASON = "Hit by laser!";
+
+    private final ProjectileEngine lasers;
+    private final float radius;
+    private final HitListener listener;
+    private Entity target;
+    private ImmutableArray<Entity> players;
+
+    public LaserSystem(ProjectileEngine lasers, float radius, HitListener listener, int priority) {
+        super(priority);
+        this.lasers = lasers;
+        this.radius = radius;
+        this.listener = listener;
+    }
+
+    public void setTarget(Entity target) {
+        this.target = target;
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        players = engine.getEntitiesFor(Families.steeringTargets);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        players = null;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        if (target == null) return;
+        TransformComponent transform = Mappers.transform.get(target);
+        if (lasers.step(deltaTime, transform.previous, transform.position, radius)) listener.hit(target, REASON);
+        if (players == null) return;
+        // backwards, as a hit player may leave the family
+        for (int i = players.size() - 1; i >= 0; i--) {
+            Entity player = players.get(i);
+            if (player == target) continue;
+            transform = Mappers.transform.get(player);
+            if (lasers.hits(deltaTime, transform.previous, transform.position, radius)) listener.hit(player, REASON);
+        }
+    }
+}
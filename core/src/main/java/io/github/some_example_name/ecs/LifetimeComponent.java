@@ -0,0 +1,14 @@
+package io.github.some_example_name.ecs;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+/** Seconds until {@link LifetimeSystem} removes the entity. */
+public class LifetimeComponent implements Component, Pool.Poolable {
+    public float remaining;
+
+    @Override
+    public void reset() {
+        remaining = 0;
+    }
+}
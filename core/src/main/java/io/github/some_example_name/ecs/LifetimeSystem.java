@@ -0,0 +1,20 @@
+package io.github.some_example_name.ecs;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.systems.IteratingSystem;
+
+/** Counts down {@link LifetimeComponent}s and removes the entities whose time ran out. */
+public class LifetimeSystem extends IteratingSystem {
+
+    public LifetimeSystem(int priority) {
+        super(Families.mortal, priority);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        LifetimeComponent lifetime = Mappers.lifetime.get(entity);
+        lifetime.remaining -= deltaTime;
+        // removal is deferred by the engine until this system has finished
+        if (lifetime.remaining <= 0) getEngine().removeEntity(entity);
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.some_example_name.ecs;
+
+import com.badlogic.ashley.core.ComponentMapper;
+
+/** Shared component mappers; mappers are stateless and safe to use from worker threads. */
+public final class Mappers {
+    public static final ComponentMapper<TransformComponent> transform = ComponentMapper.getFor(TransformComponent.class);
+    public static final ComponentMapper<PlayerComponent> player = ComponentMapper.getFor(PlayerComponent.class);
+    public static final ComponentMapper<HomingComponent> homing = ComponentMapper.getFor(HomingComponent.class);
+    public static final ComponentMapper<SteeringComponent> steering = ComponentMapper.getFor(SteeringComponent.class);
+    public static final ComponentMapper<BodyComponent> body = ComponentMapper.getFor(BodyComponent.class);
+    public static final ComponentMapper<LifetimeComponent> lifetime = ComponentMapper.getFor(LifetimeComponent.class);
+    public static final ComponentMapper<HazardComponent> hazard = ComponentMapper.getFor(HazardComponent.class);
+    public static final ComponentMapper<WallComponent> wall = ComponentMapper.getFor(WallComponent.class);
+    public static final ComponentMapper<RenderableComponent> renderable = ComponentMapper.getFor(RenderableComponent.class);
+
+    private Mappers() {
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.some_example_name.ecs;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.utils.Array;
+import io.github.some_example_name.physics.PhysicsBackend;
+
+/**
+ * Mirrors {@link BodyComponent} entities and {@link WallComponent} boxes into a
+ * {@link PhysicsBackend}. Each tick it hands the backend every body's velocity, steps it,
+ * copies the resulting positions into the transforms and reports players touching a
+ * {@link HazardComponent} entity.
+ * <p>
+ * Only X and Z are simulated; transforms keep their height.
+ */
+public class PhysicsSystem extends EntitySystem implements PhysicsBackend.ContactListener {
+
+    private final PhysicsBackend backend;
+    private final HitListener listener;
+    /** Entities by body id. */
+    private final Array<Entity> entities = new Array<>();
+    private ImmutableArray<Entity> bodies;
+
+    private final EntityListener bodyListener = new EntityListener() {
+        @Override
+        public void entityAdded(Entity entity) {
+            BodyComponent body = Mappers.body.get(entity);
+            TransformComponent transform = Mappers.transform.get(entity);
+            body.id = backend.createBody(transform.position.x, transform.position.z, body.radius, body.flags);
+            if (body.id >= entities.size) entities.setSize(body.id + 1);
+            entities.set(body.id, entity);
+        }
+
+        @Override
+        public void entityRemoved(Entity entity) {
+            BodyComponent body = Mappers.body.get(entity);
+            backend.destroyBody(body.id);
+            entities.set(body.id, null);
+            body.id = -1;
+        }
+    };
+
+    private final EntityListener wallListener = new EntityListener() {
+        @Override
+        public void entityAdded(Entity entity) {
+            TransformComponent transform = Mappers.transform.get(entity);
+            WallComponent wall = Mappers.wall.get(entity);
+            backend.addWall(transform.position.x, transform.position.z, wall.size.x, wall.size.z);
+        }
+
+        @Override
+        public void entityRemoved(Entity entity) {
+            // walls are part of the arena and stay for the life of the world
+        }
+    };
+
+    public PhysicsSystem(PhysicsBackend backend, HitListener listener, int priority) {
+        super(priority);
+        this.backend = backend;
+        this.listener = listener;
+        backend.setContactListener(this);
+    }
+
+    public PhysicsBackend getBackend() {
+        return backend;
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        bodies = engine.getEntitiesFor(Families.bodies);
+        engine.addEntityListener(Families.bodies, bodyListener);
+        engine.addEntityListener(Families.walls, wallListener);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        engine.removeEntityListener(bodyListener);
+        engine.removeEntityListener(wallListener);
+        bodies = null;
+    }
+
+    /** Moves the entity's body to its transform without sweeping it there. */
+    public void teleport(Entity entity) {
+        TransformComponent transform = Mappers.transform.get(entity);
+        backend.setPosition(Mappers.body.get(entity).id, transform.position.x, transform.position.z);
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        for (int i = 0, n = bodies.size(); i < n; i++) {
+            BodyComponent body = Mappers.body.get(bodies.get(i));
+            backend.setVelocity(body.id, body.velocity.x, body.velocity.z);
+        }
+        backend.step(deltaTime);
+        for (int i = 0, n = bodies.size(); i < n; i++) {
+            Entity entity = bodies.get(i);
+            int id = Mappers.body.get(entity).id;
+            TransformComponent transform = Mappers.transform.get(entity);
+            transform.previous.set(transform.position);
+            transform.position.x = backend.getX(id);
+            transform.position.z = backend.getZ(id);
+        }
+    }
+
+    @Override
+    public void contact(int solid, int hazard) {
+        Entity player = entities.get(solid);
+        HazardComponent component = Mappers.hazard.get(entities.get(hazard));
+        if (component != null && Mappers.player.has(player)) listener.hit(player, component.reason);
+    }
+}
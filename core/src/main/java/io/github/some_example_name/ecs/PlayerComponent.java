@@ -0,0 +1,23 @@
+package io.github.some_example_name.ecs;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+import io.github.some_example_name.sim.InputState;
+
+/** A player-controlled entity, moved by {@link PlayerMovementSystem} from its own controls. */
+public class PlayerComponent implements Component, Pool.Poolable {
+    public final InputState input = new InputState();
+    /** Out of a multiplayer round until the next restart; downed players stand still and cannot be hit. */
+    public boolean down;
+    public String downReason;
+    /** Where the player starts every round. */
+    public float spawnX, spawnZ;
+
+    @Override
+    public void reset() {
+        input.clear();
+        down = false;
+        downReason = null;
+        spawnX = spawnZ = 0f;
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.some_example_name.ecs;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.math.Vector3;
+import io.github.some_example_name.sim.InputState;
+
+/**
+ * Sets the velocity of every player along the camera-relative axes according to its
+ * {@link PlayerComponent#input}; the {@link PhysicsSystem} moves it and keeps it out of the walls.
+ * A direction held for only part of the tick contributes that fraction of the speed, so the
+ * tick covers the distance the player would have moved between the key events. Players that
+ * are {@link PlayerComponent#down down} stand still.
+ */
+public class PlayerMovementSystem extends IteratingSystem {
+
+    private final Vector3 forward, right;
+    private final float speed;
+
+    /** @param forward movement axes, read every tick so they can change at any time */
+    public PlayerMovementSystem(Vector3 forward, Vector3 right, float speed, int priority) {
+        super(Families.players, priority);
+        this.forward = forward;
+        this.right = right;
+        this.speed = speed;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        PlayerComponent player = Mappers.player.get(entity);
+        InputState input = player.input;
+        Vector3 velocity = Mappers.body.get(entity).velocity;
+        velocity.setZero();
+        if (player.down) return;
+        if (input.forward) velocity.mulAdd(forward, speed * input.getHold(InputState.FORWARD));
+        if (input.back) velocity.mulAdd(forward, -speed * input.getHold(InputState.BACK));
+        if (input.left) velocity.mulAdd(right, -speed * input.getHold(InputState.LEFT));
+        if (input.right) velocity.mulAdd(right, speed * input.getHold(InputState.RIGHT));
+        if (!velocity.isZero()) Mappers.transform.get(entity).direction.set(velocity).nor();
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.some_example_name.ecs;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * Marks an entity as drawn with one of the game's models. The simulation only picks the
+ * kind; models, scales and instances belong to the renderer.
+ */
+public class RenderableComponent implements Component, Pool.Poolable {
+    public static final int PLAYER = 0, OBSTACLE = 1, WALL = 2;
+    public static final int KIND_COUNT = 3;
+
+    public int kind;
+
+    @Override
+    public void reset() {
+        kind = 0;
+    }
+}
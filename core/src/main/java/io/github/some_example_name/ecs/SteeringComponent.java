@@ -0,0 +1,171 @@
+package io.github.some_example_name.ecs;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.ai.steer.Steerable;
+import com.badlogic.gdx.ai.steer.SteeringAcceleration;
+import com.badlogic.gdx.ai.steer.SteeringBehavior;
+import com.badlogic.gdx.ai.steer.behaviors.Pursue;
+import com.badlogic.gdx.ai.utils.Location;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * gdx-ai view of an entity on the XZ plane. Players carry one so agents can pursue them;
+ * homing entities also get a behaviour from {@link SteeringSystem}, which keeps the last
+ * computed acceleration here for {@link HomingSystem} to integrate every tick.
+ * <p>
+ * The behaviour objects are built once per pooled component and reused by later entities.
+ */
+public class SteeringComponent implements Component, Pool.Poolable, Steerable<Vector3> {
+    private static final float ZERO_LINEAR_SPEED_THRESHOLD = 0.001f;
+
+    /** The entity's {@link TransformComponent#position}; set when the component is attached. */
+    public Vector3 position;
+    public final Vector3 linearVelocity = new Vector3();
+    public final SteeringAcceleration<Vector3> acceleration = new SteeringAcceleration<>(new Vector3());
+    public float boundingRadius;
+    public float maxLinearSpeed;
+    public float maxLinearAcceleration;
+    public float maxAngularSpeed;
+    public float maxAngularAcceleration;
+    public float zeroLinearSpeedThreshold = ZERO_LINEAR_SPEED_THRESHOLD;
+
+    SteeringBehavior<Vector3> behavior;
+    Pursue<Vector3> pursue;
+    /** Which of the {@link SteeringSystem}'s time slices refreshes this agent. */
+    int slice;
+
+    private float orientation;
+    private boolean tagged;
+
+    /** Attaches the component to {@code transform}. */
+    public SteeringComponent set(TransformComponent transform, float boundingRadius, float maxLinearSpeed, float maxLinearAcceleration) {
+        this.position = transform.position;
+        this.boundingRadius = boundingRadius;
+        this.maxLinearSpeed = maxLinearSpeed;
+        this.maxLinearAcceleration = maxLinearAcceleration;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        position = null;
+        linearVelocity.setZero();
+        acceleration.setZero();
+        boundingRadius = 0;
+        maxLinearSpeed = 0;
+        maxLinearAcceleration = 0;
+        maxAngularSpeed = 0;
+        maxAngularAcceleration = 0;
+        zeroLinearSpeedThreshold = ZERO_LINEAR_SPEED_THRESHOLD;
+        if (pursue != null) pursue.setTarget(null);
+        orientation = 0;
+        tagged = false;
+    }
+
+    @Override
+    public Vector3 getPosition() {
+        return position;
+    }
+
+    @Override
+    public Vector3 getLinearVelocity() {
+        return linearVelocity;
+    }
+
+    @Override
+    public float getAngularVelocity() {
+        return 0;
+    }
+
+    @Override
+    public float getBoundingRadius() {
+        return boundingRadius;
+    }
+
+    @Override
+    public boolean isTagged() {
+        return tagged;
+    }
+
+    @Override
+    public void setTagged(boolean tagged) {
+        this.tagged = tagged;
+    }
+
+    @Override
+    public float getOrientation() {
+        return orientation;
+    }
+
+    @Override
+    public void setOrientation(float orientation) {
+        this.orientation = orientation;
+    }
+
+    /** Angle about the Y axis; 0 faces +Z. */
+    @Override
+    public float vectorToAngle(Vector3 vector) {
+        return SteeringLocation.toAngle(vector);
+    }
+
+    @Override
+    public Vector3 angleToVector(Vector3 outVector, float angle) {
+        return SteeringLocation.toVector(outVector, angle);
+    }
+
+    @Override
+    public Location<Vector3> newLocation() {
+        return new SteeringLocation();
+    }
+
+    @Override
+    public float getZeroLinearSpeedThreshold() {
+        return zeroLinearSpeedThreshold;
+    }
+
+    @Override
+    public void setZeroLinearSpeedThreshold(float value) {
+        zeroLinearSpeedThreshold = value;
+    }
+
+    @Override
+    public float getMaxLinearSpeed() {
+        return maxLinearSpeed;
+    }
+
+    @Override
+    public void setMaxLinearSpeed(float maxLinearSpeed) {
+        this.maxLinearSpeed = maxLinearSpeed;
+    }
+
+    @Override
+    public float getMaxLinearAcceleration() {
+        return maxLinearAcceleration;
+    }
+
+    @Override
+    public void setMaxLinearAcceleration(float maxLinearAcceleration) {
+        this.maxLinearAcceleration = maxLinearAcceleration;
+    }
+
+    @Override
+    public float getMaxAngularSpeed() {
+        return maxAngularSpeed;
+    }
+
+    @Override
+    public void setMaxAngularSpeed(float maxAngularSpeed) {
+        this.maxAngularSpeed = maxAngularSpeed;
+    }
+
+    @Override
+    public float getMaxAngularAcceleration() {
+        return maxAngularAcceleration;
+    }
+
+    @Override
+    public void setMaxAngularAcceleration(float maxAngularAcceleration) {
+        this.maxAngularAcceleration = maxAngularAcceleration;
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.some_example_name.ecs;
+
+import com.badlogic.gdx.ai.utils.Location;
+import com.badlogic.gdx.math.Vector3;
+
+/**
+ * A free point on the XZ plane with an orientation, for gdx-ai behaviours that create their own
+ * targets through {@link SteeringComponent#newLocation()}. Angles follow the same convention as
+ * {@link SteeringComponent}.
+ */
+public class SteeringLocation implements Location<Vector3> {
+
+    private final Vector3 position = new Vector3();
+    private float orientation;
+
+    @Override
+    public Vector3 getPosition() {
+        return position;
+    }
+
+    @Override
+    public float getOrientation() {
+        return orientation;
+    }
+
+    @Override
+    public void setOrientation(float orientation) {
+        this.orientation = orientation;
+    }
+
+    @Override
+    public Location<Vector3> newLocation() {
+        return new SteeringLocation();
+    }
+
+    @Override
+    public float vectorToAngle(Vector3 vector) {
+        return toAngle(vector);
+    }
+
+    @Override
+    public Vector3 angleToVector(Vector3 outVector, float angle) {
+        return toVector(outVector, angle);
+    }
+
+    /** Angle about the Y axis; 0 faces +Z. */
+    static float toAngle(Vector3 vector) {
+        return (float) Math.atan2(-vector.x, vector.z);
+    }
+
+    static Vector3 toVector(Vector3 outVector, float angle) {
+        return outVector.set(-(float) Math.sin(angle), 0f, (float) Math.cos(angle));
+    }
+}
@@ -0,0 +1,243 @@
+package io.github.some_example_name.ecs;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.ai.sched.LoadBalancingScheduler;
+import com.badlogic.gdx.ai.sched.Schedulable;
+import com.badlogic.gdx.ai.steer.behaviors.BlendedSteering;
+import com.badlogic.gdx.ai.steer.behaviors.Pursue;
+import com.badlogic.gdx.ai.steer.behaviors.RaycastObstacleAvoidance;
+import com.badlogic.gdx.ai.steer.behaviors.Separation;
+import com.badlogic.gdx.ai.steer.utils.rays.SingleRayConfiguration;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Chooses the steering of every homing entity with gdx-ai behaviours: pursue the nearest player
+ * with prediction, keep apart from other agents, and turn away from the arena walls. The result
+ * is stored in the agent's {@link SteeringComponent} and integrated by {@link HomingSystem} on
+ * every tick.
+ * <p>
+ * Agents are dealt round-robin into {@code interval} slices. A {@link LoadBalancingScheduler}
+ * runs one slice per tick, so each agent is re-planned every {@code interval} ticks and the
+ * per-tick cost stays flat as the crowd grows. With a budget set, a slice stops after re-planning
+ * that many agents and resumes with the ones it skipped the next time it runs; those agents keep
+ * their previous steering meanwhile. The budget counts agents rather than time, so which agents
+ * are skipped depends only on the world and a budgeted run still reproduces from its inputs.
+ * <p>
+ * With a {@link #setPool pool} set, a slice of at least two chunks of agents is planned on
+ * it, one chunk per task. Planning an agent only writes its own component and behaviours and
+ * reads positions that do not change until the physics step, so the result is the same as on
+ * the calling thread, whatever the split.
+ */
+public class SteeringSystem extends EntitySystem implements EntityListener {
+
+    public static final float AGENT_RADIUS = 1.25f;
+    private static final float SEPARATION_RADIUS = 6f;
+    private static final float SEPARATION_DECAY = 150f;
+    private static final int MAX_NEIGHBORS = 8;
+    private static final float MAX_PREDICTION_TIME = 0.5f;
+    private static final float WALL_LOOKAHEAD = 10f;
+    private static final float WALL_CLEARANCE = 4f;
+    /** Agents per task; planning one costs a few microseconds, so a task stays well above the fork-join overhead. */
+    private static final int CHUNK_SIZE = 16;
+
+    private final int interval;
+    private final LoadBalancingScheduler scheduler;
+    private final AgentGrid grid = new AgentGrid();
+    private ImmutableArray<Entity> walls;
+    private ImmutableArray<Entity> agents;
+    private ImmutableArray<Entity> players;
+
+    private int budget;
+    private int overruns;
+    private int nextSlice;
+
+    private ForkJoinPool pool;
+    /** Agents the running slice re-plans. */
+    private final Array<SteeringComponent> batch = new Array<>(false, 64, SteeringComponent.class);
+    private final Array<PlanChunk> chunks = new Array<>(false, 16, PlanChunk.class);
+    private final PlanBatch planBatch = new PlanBatch();
+
+    /** @param interval ticks between two refreshes of the same agent */
+    public SteeringSystem(int interval, int priority) {
+        super(priority);
+        this.interval = Math.max(1, interval);
+        scheduler = new LoadBalancingScheduler(4 * this.interval);
+        for (int i = 0; i < this.interval; i++) scheduler.addWithAutomaticPhasing(new Slice(i), this.interval);
+    }
+
+    /** Caps the agents re-planned per tick; 0, the default, never cuts a slice short. */
+    public void setBudget(int agents) {
+        budget = Math.max(0, agents);
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+
+    /** Sets the pool that slices are planned on, or null to always plan on the calling thread. */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /** Number of slices that ran out of budget before re-planning all their agents. */
+    public int getOverruns() {
+        return overruns;
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        agents = engine.getEntitiesFor(Families.homing);
+        players = engine.getEntitiesFor(Families.steeringTargets);
+        walls = engine.getEntitiesFor(Families.walls);
+        engine.addEntityListener(Families.homing, this);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        engine.removeEntityListener(this);
+        agents = null;
+        players = null;
+        walls = null;
+    }
+
+    @Override
+    public void entityAdded(Entity entity) {
+        SteeringComponent steering = Mappers.steering.get(entity);
+        if (steering.behavior == null) createBehavior(steering);
+        steering.slice = nextSlice;
+        nextSlice = (nextSlice + 1) % interval;
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+    }
+
+    private void createBehavior(SteeringComponent agent) {
+        agent.pursue = new Pursue<>(agent, null, MAX_PREDICTION_TIME);
+        agent.behavior = new BlendedSteering<>(agent)
+            .add(new RaycastObstacleAvoidance<>(agent, new SingleRayConfiguration<>(agent, WALL_LOOKAHEAD),
+                new ArenaRaycaster(walls), WALL_CLEARANCE), 2f)
+            .add(agent.pursue, 1f)
+            .add(new Separation<>(agent, new GridProximity(grid, agent, SEPARATION_RADIUS, MAX_NEIGHBORS))
+                .setDecayCoefficient(SEPARATION_DECAY), 1f);
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        if (deltaTime > 0) {
+            for (int i = 0, n = players.size(); i < n; i++) {
+                Entity player = players.get(i);
+                TransformComponent transform = Mappers.transform.get(player);
+                Mappers.steering.get(player).linearVelocity.set(transform.position).sub(transform.previous).scl(1f / deltaTime);
+            }
+        }
+        grid.rebuild(agents);
+        // slices are cut short by agent count, never by time
+        scheduler.run(Long.MAX_VALUE);
+    }
+
+    private void plan(SteeringComponent agent) {
+        SteeringComponent target = nearestPlayer(agent.position);
+        if (target == null) {
+            agent.acceleration.setZero();
+            return;
+        }
+        agent.pursue.setTarget(target);
+        agent.behavior.calculateSteering(agent.acceleration);
+        agent.acceleration.linear.y = 0;
+    }
+
+    private SteeringComponent nearestPlayer(Vector3 from) {
+        SteeringComponent nearest = null;
+        float nearestDistance2 = Float.POSITIVE_INFINITY;
+        for (int i = 0, n = players.size(); i < n; i++) {
+            SteeringComponent player = Mappers.steering.get(players.get(i));
+            float distance2 = player.position.dst2(from);
+            if (distance2 < nearestDistance2) {
+                nearestDistance2 = distance2;
+                nearest = player;
+            }
+        }
+        return nearest;
+    }
+
+    private class Slice implements Schedulable {
+        private final int index;
+        /** Agent index to start at; past the end of the array when agents were removed. */
+        private int cursor;
+
+        Slice(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public void run(long nanoTimeToRun) {
+            int n = agents.size();
+            if (n == 0) return;
+            int start = cursor < n ? cursor : 0;
+            cursor = start;
+            for (int k = 0; k < n; k++) {
+                int i = start + k < n ? start + k : start + k - n;
+                SteeringComponent agent = Mappers.steering.get(agents.get(i));
+                if (agent.slice != index) continue;
+                if (budget > 0 && batch.size == budget) {
+                    cursor = i;
+                    overruns++;
+                    break;
+                }
+                batch.add(agent);
+            }
+            planBatch();
+        }
+    }
+
+    private void planBatch() {
+        int size = batch.size;
+        if (pool == null || size < 2 * CHUNK_SIZE) {
+            for (int i = 0; i < size; i++) plan(batch.items[i]);
+        } else {
+            int count = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            while (chunks.size < count) chunks.add(new PlanChunk());
+            for (int c = 0; c < count; c++) {
+                PlanChunk chunk = chunks.items[c];
+                // tasks are reused from tick to tick
+                chunk.reinitialize();
+                chunk.from = c * CHUNK_SIZE;
+                chunk.to = Math.min(size, chunk.from + CHUNK_SIZE);
+            }
+            planBatch.reinitialize();
+            planBatch.count = count;
+            pool.invoke(planBatch);
+        }
+        batch.clear();
+    }
+
+    /** Forks every chunk but the first, plans that one itself and joins the rest newest first. */
+    private class PlanBatch extends RecursiveAction {
+        int count;
+
+        @Override
+        protected void compute() {
+            for (int c = 1; c < count; c++) chunks.items[c].fork();
+            chunks.items[0].compute();
+            for (int c = count - 1; c > 0; c--) chunks.items[c].join();
+        }
+    }
+
+    private class PlanChunk extends RecursiveAction {
+        int from, to;
+
+        @Override
+        protected void compute() {
+            for (int i = from; i < to; i++) plan(batch.items[i]);
+        }
+    }
+}
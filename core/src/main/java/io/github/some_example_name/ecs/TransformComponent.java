@@ -0,0 +1,27 @@
+package io.github.some_example_name.ecs;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Pool;
+
+/** Where an entity is and which way it faces. */
+public class TransformComponent implements Component, Pool.Poolable {
+    public final Vector3 position = new Vector3();
+    /** Position at the start of the current tick, for swept collision tests. */
+    public final Vector3 previous = new Vector3();
+    public final Vector3 direction = new Vector3(0, 0, -1);
+
+    /** Places the entity at {@code (x, y, z)} with no motion during the current tick. */
+    public TransformComponent set(float x, float y, float z) {
+        position.set(x, y, z);
+        previous.set(position);
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        position.setZero();
+        previous.setZero();
+        direction.set(0, 0, -1);
+    }
+}
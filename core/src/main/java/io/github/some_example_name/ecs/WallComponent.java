@@ -0,0 +1,15 @@
+package io.github.some_example_name.ecs;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Pool;
+
+/** Static axis-aligned box of the arena, centred on the entity's position. */
+public class WallComponent implements Component, Pool.Poolable {
+    public final Vector3 size = new Vector3();
+
+    @Override
+    public void reset() {
+        size.setZero();
+    }
+}
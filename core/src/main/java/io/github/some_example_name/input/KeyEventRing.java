@@ -0,0 +1,70 @@
+package io.github.some_example_name.input;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free ring of timestamped key events from one producer thread to one consumer thread.
+ * <p>
+ * Events are kept in two parallel arrays, so offering and polling do not allocate. Each side
+ * only writes its own counter and publishes it with a lazy set after touching the slots, which
+ * is enough for a single producer and a single consumer; neither ever waits. A full ring
+ * rejects the event and counts it in {@link #getDropped()}.
+ */
+public class KeyEventRing {
+
+    private final long[] times;
+    private final int[] events;
+    private final int mask;
+    /** Next slot to read; only advanced by the consumer. */
+    private final AtomicLong head = new AtomicLong();
+    /** Next slot to write; only advanced by the producer. */
+    private final AtomicLong tail = new AtomicLong();
+    private volatile int dropped;
+
+    /** @param capacity rounded up to a power of two */
+    public KeyEventRing(int capacity) {
+        int size = capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        times = new long[size];
+        events = new int[size];
+        mask = size - 1;
+    }
+
+    /** Appends an event; producer only. Returns false if the ring is full. */
+    public boolean offer(long nanoTime, int event) {
+        long t = tail.get();
+        if (t - head.get() == times.length) {
+            dropped++;
+            return false;
+        }
+        int slot = (int) t & mask;
+        times[slot] = nanoTime;
+        events[slot] = event;
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /** Whether no event is waiting; consumer only. */
+    public boolean isEmpty() {
+        return head.get() == tail.get();
+    }
+
+    /** Time of the oldest waiting event; consumer only, and only when not {@link #isEmpty() empty}. */
+    public long peekTime() {
+        return times[(int) head.get() & mask];
+    }
+
+    /** The oldest waiting event; consumer only, and only when not {@link #isEmpty() empty}. */
+    public int peekEvent() {
+        return events[(int) head.get() & mask];
+    }
+
+    /** Removes the oldest waiting event; consumer only. */
+    public void poll() {
+        head.lazySet(head.get() + 1);
+    }
+
+    /** Events rejected because the ring was full. */
+    public int getDropped() {
+        return dropped;
+    }
+}
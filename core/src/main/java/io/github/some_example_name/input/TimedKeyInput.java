@@ -0,0 +1,155 @@
+package io.github.some_example_name.input;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input.Keys;
+import com.badlogic.gdx.InputAdapter;
+import com.badlogic.gdx.utils.TimeUtils;
+import io.github.some_example_name.profiling.LatencyHistogram;
+import io.github.some_example_name.sim.InputSampler;
+import io.github.some_example_name.sim.InputState;
+
+/**
+ * Movement keys as timestamped events rather than polled state: an {@link InputAdapter} that
+ * records W, S, A and D going down and up into a {@link KeyEventRing}, and an
+ * {@link InputSampler} that turns them into how long each direction was held during each tick.
+ * <p>
+ * Every event keeps the time the backend received it. A sample replays the events up to its
+ * end and measures, per direction, how much of the span since the previous sample the key was
+ * down, rounded to {@link InputState#HOLD_STEPS}ths. Movement is then integrated between the
+ * events instead of from the frame boundary, and a press and release between two frames is not
+ * lost: every press is held for at least {@code minimumHoldNanos}, the release being moved
+ * later if it came sooner.
+ * <p>
+ * Events go from the thread the backend delivers input on to the thread sampling, which may
+ * differ, e.g. with a {@link io.github.some_example_name.sim.SimulationThread}. For each event
+ * the time from the key going down or up to the tick that used it having {@link #applied run}
+ * is recorded in {@link #getLatency()}. Other keys are left to the next processor.
+ */
+public class TimedKeyInput extends InputAdapter implements InputSampler {
+
+    private static final int CAPACITY = 256;
+    /** Keys of the directions, indexed by the position of the direction's bit. */
+    private static final int[] KEYS = {Keys.W, Keys.S, Keys.A, Keys.D};
+    private static final long NONE = Long.MIN_VALUE;
+    private static final int DOWN = 1;
+    /** Latencies of at most this many events are kept between a sample and its {@link #applied}. */
+    private static final int MAX_PENDING = 64;
+
+    private final KeyEventRing ring = new KeyEventRing(CAPACITY);
+    private final long minimumHoldNanos;
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    private long sampledUntil = NONE;
+    /** Start of each direction's latest hold, or {@link #NONE} when it has none left to count. */
+    private final long[] downAt = new long[InputState.DIRECTIONS];
+    /** End of each direction's latest hold, or {@link Long#MAX_VALUE} while the key is down. */
+    private final long[] upAt = new long[InputState.DIRECTIONS];
+    private final long[] heldNanos = new long[InputState.DIRECTIONS];
+    private final long[] pending = new long[MAX_PENDING];
+    private int pendingCount;
+
+    /** @param minimumHoldNanos shortest hold a tap counts as, typically one tick */
+    public TimedKeyInput(long minimumHoldNanos) {
+        this.minimumHoldNanos = minimumHoldNanos;
+        for (int i = 0; i < InputState.DIRECTIONS; i++) downAt[i] = NONE;
+    }
+
+    @Override
+    public boolean keyDown(int keycode) {
+        return offer(keycode, true);
+    }
+
+    @Override
+    public boolean keyUp(int keycode) {
+        return offer(keycode, false);
+    }
+
+    private boolean offer(int keycode, boolean down) {
+        for (int i = 0; i < KEYS.length; i++) {
+            if (KEYS[i] != keycode) continue;
+            // backends without event times report zero
+            long time = Gdx.input.getCurrentEventTime();
+            ring.offer(time != 0 ? time : TimeUtils.nanoTime(), i << 1 | (down ? DOWN : 0));
+            break;
+        }
+        // the HUD and the polled keys still see every event
+        return false;
+    }
+
+    @Override
+    public void sample(long untilNanos, InputState out) {
+        long from = sampledUntil != NONE ? Math.min(sampledUntil, untilNanos) : untilNanos;
+        for (int i = 0; i < InputState.DIRECTIONS; i++) heldNanos[i] = 0;
+        consume(from, untilNanos, true);
+        long span = untilNanos - from;
+        for (int i = 0; i < InputState.DIRECTIONS; i++) {
+            heldNanos[i] += overlap(i, from, untilNanos);
+            int steps;
+            if (span > 0) {
+                steps = (int) Math.min(InputState.HOLD_STEPS, (heldNanos[i] * InputState.HOLD_STEPS + span / 2) / span);
+            } else {
+                steps = downAt[i] != NONE && upAt[i] > untilNanos ? InputState.HOLD_STEPS : 0;
+            }
+            out.setHold(1 << i, steps);
+        }
+        finish(untilNanos);
+    }
+
+    @Override
+    public void applied(long nanoTime) {
+        for (int i = 0; i < pendingCount; i++) latency.record(nanoTime - pending[i]);
+        pendingCount = 0;
+    }
+
+    @Override
+    public void skip(long untilNanos) {
+        consume(sampledUntil != NONE ? Math.min(sampledUntil, untilNanos) : untilNanos, untilNanos, false);
+        finish(untilNanos);
+    }
+
+    /** Replays the events up to {@code until}, any earlier than {@code from} as if they happened then. */
+    private void consume(long from, long until, boolean measure) {
+        while (!ring.isEmpty() && ring.peekTime() <= until) {
+            long received = ring.peekTime();
+            int event = ring.peekEvent();
+            ring.poll();
+            int direction = event >> 1;
+            long time = Math.max(received, from);
+            if ((event & DOWN) != 0) {
+                if (downAt[direction] != NONE && upAt[direction] < time) {
+                    // the previous hold ended before this press; count it before starting anew
+                    heldNanos[direction] += overlap(direction, from, until);
+                    downAt[direction] = NONE;
+                }
+                if (downAt[direction] == NONE) downAt[direction] = time;
+                upAt[direction] = Long.MAX_VALUE;
+            } else if (downAt[direction] != NONE && upAt[direction] == Long.MAX_VALUE) {
+                upAt[direction] = Math.max(time, downAt[direction] + minimumHoldNanos);
+            }
+            if (measure && pendingCount < MAX_PENDING) pending[pendingCount++] = received;
+        }
+    }
+
+    /** Forgets holds that ended by {@code until}, which the next sample starts from. */
+    private void finish(long until) {
+        for (int i = 0; i < InputState.DIRECTIONS; i++) {
+            if (downAt[i] != NONE && upAt[i] <= until) downAt[i] = NONE;
+        }
+        sampledUntil = until;
+    }
+
+    private long overlap(int direction, long from, long until) {
+        if (downAt[direction] == NONE) return 0;
+        return Math.max(0, Math.min(upAt[direction], until) - Math.max(downAt[direction], from));
+    }
+
+    /** Time from key events to the end of the tick that applied them. */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /** Events lost because the sampler fell too far behind; see {@link KeyEventRing#getDropped()}. */
+    public int getDropped() {
+        return ring.getDropped();
+    }
+}
@@ -0,0 +1,271 @@
+package io.github.some_example_name.net;
+
+import com.badlogic.gdx.math.RandomXS128;
+import io.github.some_example_name.sim.InputState;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.PortUnreachableException;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+
+/**
+ * Client side of the {@link Protocol}: sends the player's controls to a {@link GameServer} and
+ * rebuilds its {@link NetState}s from the snapshots it gets back.
+ * <p>
+ * Nothing here blocks. {@link #connect()} sends a request and {@link #poll()} reads whatever
+ * arrived, so both are meant to be called every frame until {@link #isConnected()}. Decoded
+ * states are kept for the last {@link GameServer#HISTORY} snapshots, as the server may send
+ * a delta against any of them; every input acks the newest one.
+ * <p>
+ * For tests over loopback, {@link #setLossRate} drops packets in both directions at random.
+ */
+public class GameClient implements Closeable {
+
+    private final DatagramChannel channel;
+    private final ByteBuffer receiveBuffer = ByteBuffer.allocateDirect(Protocol.MAX_PACKET);
+    private final ByteBuffer sendBuffer = ByteBuffer.allocateDirect(Protocol.MAX_PACKET);
+    private final long startNanos = System.nanoTime();
+
+    private boolean connected;
+    private int rejectReason;
+    private int playerId;
+    private int tickRate;
+    private int snapshotInterval;
+    private int inputSequence;
+
+    private final NetState[] history = new NetState[GameServer.HISTORY];
+    private final NetState empty = new NetState();
+    private NetState latest;
+    private int latestBase = -1;
+
+    /** Snapshot being reassembled from its parts. */
+    private ByteBuffer assembly = ByteBuffer.allocate(16 * 1024);
+    private int assemblyTick = -1;
+    private int assemblyBase;
+    private int assemblyLength;
+    private boolean[] partReceived = new boolean[Protocol.MAX_PARTS];
+    private int partsMissing;
+
+    private int lastEchoedSequence = -1;
+    private float roundTripMillis;
+    private float lossRate;
+    private final RandomXS128 random = new RandomXS128();
+    private long bytesReceived, bytesSent, snapshots, undecodable;
+
+    public GameClient(InetSocketAddress server) throws IOException {
+        for (int i = 0; i < history.length; i++) history[i] = new NetState();
+        channel = DatagramChannel.open();
+        channel.configureBlocking(false);
+        channel.connect(server);
+    }
+
+    /** Asks to join; repeat until {@link #isConnected()}, as the request or its answer may be lost. */
+    public void connect() throws IOException {
+        if (connected) return;
+        sendBuffer.clear();
+        sendBuffer.put(Protocol.CONNECT);
+        sendBuffer.putInt(Protocol.PROTOCOL_ID);
+        send();
+    }
+
+    /** Sends the current controls, acking the newest decoded snapshot. */
+    public void sendInput(InputState input) throws IOException {
+        if (!connected) return;
+        sendBuffer.clear();
+        sendBuffer.put(Protocol.INPUT);
+        Protocol.putVarInt(sendBuffer, latest != null ? latest.tick + 1 : 0);
+        Protocol.putVarInt(sendBuffer, inputSequence++);
+        Protocol.putVarInt(sendBuffer, clientTime());
+        sendBuffer.put((byte) input.toMask());
+        send();
+    }
+
+    /** Reads every waiting packet; returns whether a newer state was decoded. */
+    public boolean poll() throws IOException {
+        boolean decoded = false;
+        while (true) {
+            receiveBuffer.clear();
+            int length;
+            try {
+                length = channel.read(receiveBuffer);
+            } catch (PortUnreachableException e) {
+                // nothing listening yet; the next connect() tries again
+                return decoded;
+            }
+            if (length <= 0) return decoded;
+            if (lossRate > 0 && random.nextFloat() < lossRate) continue;
+            bytesReceived += length;
+            receiveBuffer.flip();
+            try {
+                decoded |= handle(receiveBuffer);
+            } catch (RuntimeException e) {
+                undecodable++;
+            }
+        }
+    }
+
+    private boolean handle(ByteBuffer packet) {
+        byte type = packet.get();
+        switch (type) {
+            case Protocol.ACCEPT:
+                playerId = Protocol.getVarInt(packet);
+                tickRate = Protocol.getVarInt(packet);
+                snapshotInterval = Protocol.getVarInt(packet);
+                connected = true;
+                return false;
+            case Protocol.REJECT:
+                rejectReason = packet.get();
+                return false;
+            case Protocol.DISCONNECT:
+                connected = false;
+                return false;
+            case Protocol.SNAPSHOT:
+                return connected && receivePart(packet);
+            default:
+                return false;
+        }
+    }
+
+    private boolean receivePart(ByteBuffer packet) {
+        int tick = Protocol.getVarInt(packet);
+        int baseTick = Protocol.getVarInt(packet) - 1;
+        int echoedSequence = Protocol.getVarInt(packet) - 1;
+        int echoedTime = Protocol.getVarInt(packet);
+        int part = packet.get() & 0xff;
+        int parts = packet.get() & 0xff;
+        if (echoedSequence > lastEchoedSequence) {
+            lastEchoedSequence = echoedSequence;
+            roundTripMillis = clientTime() - echoedTime;
+        }
+        if (latest != null && tick <= latest.tick) return false;
+        if (tick != assemblyTick) {
+            // a newer snapshot replaces one still missing parts
+            if (tick < assemblyTick) return false;
+            assemblyTick = tick;
+            assemblyBase = baseTick;
+            assemblyLength = 0;
+            partsMissing = parts;
+            for (int i = 0; i < parts; i++) partReceived[i] = false;
+            if (assembly.capacity() < parts * Protocol.MAX_PART) assembly = ByteBuffer.allocate(parts * Protocol.MAX_PART);
+        }
+        if (part >= parts || partReceived[part]) return false;
+        partReceived[part] = true;
+        partsMissing--;
+        int length = packet.remaining();
+        assembly.clear();
+        assembly.position(part * Protocol.MAX_PART);
+        assembly.put(packet);
+        assemblyLength += length;
+        if (partsMissing > 0) return false;
+
+        assemblyTick = -1;
+        NetState base = assemblyBase < 0 ? empty : getState(assemblyBase);
+        if (base == null) {
+            undecodable++;
+            return false;
+        }
+        NetState state = history[tick / snapshotInterval % history.length];
+        if (state == base) {
+            undecodable++;
+            return false;
+        }
+        assembly.position(0);
+        assembly.limit(assemblyLength);
+        state.tick = tick;
+        SnapshotCodec.read(base, assembly, state);
+        latest = state;
+        latestBase = assemblyBase;
+        snapshots++;
+        return true;
+    }
+
+    /** The decoded state of {@code tick} if it is still kept, or null. */
+    public NetState getState(int tick) {
+        if (tick < 0 || snapshotInterval == 0 || tick % snapshotInterval != 0) return null;
+        NetState state = history[tick / snapshotInterval % history.length];
+        return state.tick == tick && latest != null && tick <= latest.tick ? state : null;
+    }
+
+    private void send() throws IOException {
+        sendBuffer.flip();
+        if (lossRate > 0 && random.nextFloat() < lossRate) return;
+        try {
+            bytesSent += channel.write(sendBuffer);
+        } catch (PortUnreachableException e) {
+            // the server is not up yet
+        }
+    }
+
+    private int clientTime() {
+        return (int) ((System.nanoTime() - startNanos) / 1_000_000L);
+    }
+
+    /** Drops this share of packets in each direction, with a seeded generator. */
+    public void setLossRate(float lossRate, long seed) {
+        this.lossRate = lossRate;
+        random.setSeed(seed);
+    }
+
+    public boolean isConnected() {
+        return connected;
+    }
+
+    /** Why the server refused to connect, one of the {@code Protocol.REJECT_} reasons, or 0. */
+    public int getRejectReason() {
+        return rejectReason;
+    }
+
+    /** Net id of this client's player entity in the states. */
+    public int getPlayerId() {
+        return playerId;
+    }
+
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    /** The newest decoded state, or null before the first snapshot. */
+    public NetState getLatest() {
+        return latest;
+    }
+
+    /** Tick of the state the newest snapshot was a delta against, or -1 if it carried the full state. */
+    public int getLatestBase() {
+        return latestBase;
+    }
+
+    /** Time between sending an input and getting a snapshot that echoes it, as of the last one. */
+    public float getRoundTripMillis() {
+        return roundTripMillis;
+    }
+
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    public long getBytesSent() {
+        return bytesSent;
+    }
+
+    public long getSnapshotCount() {
+        return snapshots;
+    }
+
+    /** Snapshots and packets that could not be decoded, e.g. because their base was gone. */
+    public long getUndecodable() {
+        return undecodable;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (connected) {
+            sendBuffer.clear();
+            sendBuffer.put(Protocol.DISCONNECT);
+            send();
+            connected = false;
+        }
+        channel.close();
+    }
+}
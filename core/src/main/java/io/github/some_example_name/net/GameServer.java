@@ -0,0 +1,405 @@
+package io.github.some_example_name.net;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.math.MathUtils;
+import io.github.some_example_name.ecs.Mappers;
+import io.github.some_example_name.profiling.LatencyHistogram;
+import io.github.some_example_name.sim.InputState;
+import io.github.some_example_name.sim.World;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+
+/**
+ * Authoritative host of a multiplayer arena: runs a {@link World} at a fixed tick rate without
+ * any rendering and keeps up to {@link #MAX_PLAYERS} {@link GameClient}s in sync over UDP.
+ * <p>
+ * Clients only send their controls; see {@link Protocol}. Every client drives its own player
+ * in the world, the first one the world's primary player. Every {@link #SNAPSHOT_INTERVAL}
+ * ticks the server captures a {@link NetState} and sends each client a delta from the last
+ * state that client acked, split into parts that fit a datagram. The captures of the last
+ * {@link #HISTORY} snapshots are kept as bases; a client whose ack is older than that, or who
+ * has acked nothing yet, gets the full state. Snapshots echo the client's latest input
+ * sequence and timestamp, which gives clients their round trip time.
+ * <p>
+ * A round that ends restarts after {@link #RESTART_DELAY} seconds, or as soon as a player asks
+ * for it. With nobody connected the world does not tick, so no one dies in an empty arena.
+ * <p>
+ * {@link #run()} blocks on a {@link Selector} between ticks until {@link #stop()}; embedders,
+ * such as a loopback test driving clients on the same thread, can call {@link #update(long)}
+ * instead.
+ */
+public class GameServer implements Closeable {
+
+    public static final int DEFAULT_PORT = 7777;
+    public static final int MAX_PLAYERS = 32;
+    public static final int TICK_RATE = 60;
+    public static final float TICK_DT = 1f / TICK_RATE;
+    /** Ticks between two snapshots; 2 sends 30 a second. */
+    public static final int SNAPSHOT_INTERVAL = 2;
+    /** Snapshots kept as delta bases, about two seconds' worth. */
+    public static final int HISTORY = 64;
+    public static final float RESTART_DELAY = 3f;
+    private static final long TICK_NANOS = 1_000_000_000L / TICK_RATE;
+    private static final long TIMEOUT_NANOS = 5_000_000_000L;
+    /** Behind by more ticks than this, the server skips them rather than running them back to back. */
+    private static final int MAX_CATCH_UP = 5;
+    /** Radius of the circle the players after the first spawn on. */
+    private static final float SPAWN_RADIUS = 15f;
+
+    private final World world;
+    private final WorldCapture capture;
+    private final DatagramChannel channel;
+    private final Selector selector;
+    private final Connection[] connections = new Connection[MAX_PLAYERS];
+    private int connectionCount;
+    /** Whether the world's primary player has no client, which only happens with nobody connected. */
+    private boolean primaryVacant = true;
+
+    private final NetState[] history = new NetState[HISTORY];
+    private NetState latest;
+    private final NetState empty = new NetState();
+    private final ByteBuffer receiveBuffer = ByteBuffer.allocateDirect(Protocol.MAX_PACKET);
+    private final ByteBuffer sendBuffer = ByteBuffer.allocateDirect(Protocol.MAX_PACKET);
+    private ByteBuffer payload = ByteBuffer.allocate(16 * 1024);
+
+    private int tick;
+    private long nextTickNanos;
+    private float gameOverTime;
+    private volatile boolean running;
+
+    private final LatencyHistogram tickTimes = new LatencyHistogram();
+    private long bytesSent, packetsSent, packetsDropped, bytesReceived, fullSnapshots, deltaSnapshots;
+
+    /**
+     * Binds a server for {@code world} to {@code port}, 0 for any free one.
+     *
+     * @param world owned by the server from now on and disposed with it
+     */
+    public GameServer(World world, int port) throws IOException {
+        this.world = world;
+        capture = new WorldCapture(world);
+        for (int i = 0; i < HISTORY; i++) history[i] = new NetState();
+        channel = DatagramChannel.open();
+        channel.configureBlocking(false);
+        channel.bind(new InetSocketAddress(port));
+        selector = Selector.open();
+        channel.register(selector, SelectionKey.OP_READ);
+        nextTickNanos = System.nanoTime();
+    }
+
+    public int getPort() throws IOException {
+        return ((InetSocketAddress) channel.getLocalAddress()).getPort();
+    }
+
+    /** Serves until {@link #stop()} is called from another thread. */
+    public void run() throws IOException {
+        running = true;
+        nextTickNanos = System.nanoTime();
+        while (running) {
+            long wait = nextTickNanos - System.nanoTime();
+            if (wait > 1_000_000L) selector.select(wait / 1_000_000L);
+            else selector.selectNow();
+            selector.selectedKeys().clear();
+            update(System.nanoTime());
+        }
+    }
+
+    public void stop() {
+        running = false;
+        selector.wakeup();
+    }
+
+    /** Handles every waiting packet, then runs the ticks due by {@code nanoTime}. */
+    public void update(long nanoTime) throws IOException {
+        receive(nanoTime);
+        if (nanoTime - nextTickNanos > MAX_CATCH_UP * TICK_NANOS) nextTickNanos = nanoTime - MAX_CATCH_UP * TICK_NANOS;
+        while (nanoTime - nextTickNanos >= 0) {
+            tick(nanoTime);
+            nextTickNanos += TICK_NANOS;
+        }
+    }
+
+    private void receive(long nanoTime) throws IOException {
+        while (true) {
+            receiveBuffer.clear();
+            SocketAddress address = channel.receive(receiveBuffer);
+            if (address == null) return;
+            receiveBuffer.flip();
+            bytesReceived += receiveBuffer.remaining();
+            try {
+                handle(address, receiveBuffer, nanoTime);
+            } catch (RuntimeException e) {
+                // malformed packet; a UDP server has to shrug those off
+            }
+        }
+    }
+
+    private void handle(SocketAddress address, ByteBuffer packet, long nanoTime) throws IOException {
+        byte type = packet.get();
+        Connection connection = find(address);
+        if (type == Protocol.CONNECT) {
+            if (packet.getInt() != Protocol.PROTOCOL_ID) {
+                sendReject(address, Protocol.REJECT_VERSION);
+                return;
+            }
+            if (connection == null) connection = accept(address);
+            if (connection == null) {
+                sendReject(address, Protocol.REJECT_FULL);
+                return;
+            }
+            connection.lastHeard = nanoTime;
+            sendAccept(connection);
+            return;
+        }
+        if (connection == null) return;
+        connection.lastHeard = nanoTime;
+        if (type == Protocol.INPUT) {
+            int ackTick = Protocol.getVarInt(packet) - 1;
+            int sequence = Protocol.getVarInt(packet);
+            int clientTime = Protocol.getVarInt(packet);
+            int mask = packet.get();
+            if (ackTick > connection.ackTick) connection.ackTick = ackTick;
+            if (sequence > connection.inputSequence) {
+                connection.inputSequence = sequence;
+                connection.clientTime = clientTime;
+                connection.input.setMask(mask);
+            }
+        } else if (type == Protocol.DISCONNECT) {
+            drop(connection);
+        }
+    }
+
+    private Connection find(SocketAddress address) {
+        for (int i = 0; i < MAX_PLAYERS; i++) {
+            Connection connection = connections[i];
+            if (connection != null && connection.address.equals(address)) return connection;
+        }
+        return null;
+    }
+
+    private Connection accept(SocketAddress address) {
+        for (int slot = 0; slot < MAX_PLAYERS; slot++) {
+            if (connections[slot] != null) continue;
+            Entity entity;
+            if (primaryVacant) {
+                entity = world.getPlayer();
+                primaryVacant = false;
+            } else {
+                float angle = slot * MathUtils.PI2 / MAX_PLAYERS;
+                entity = world.addPlayer(MathUtils.cos(angle) * SPAWN_RADIUS, MathUtils.sin(angle) * SPAWN_RADIUS);
+            }
+            Connection connection = new Connection(address, entity, capture.netId(entity));
+            connections[slot] = connection;
+            connectionCount++;
+            return connection;
+        }
+        return null;
+    }
+
+    private void drop(Connection connection) {
+        for (int slot = 0; slot < MAX_PLAYERS; slot++) {
+            if (connections[slot] != connection) continue;
+            connections[slot] = null;
+            connectionCount--;
+            if (world.getPlayers().size() > 1) {
+                world.removePlayer(connection.entity);
+            } else {
+                Mappers.player.get(connection.entity).input.clear();
+                primaryVacant = true;
+            }
+            return;
+        }
+    }
+
+    private void tick(long nanoTime) throws IOException {
+        for (int i = 0; i < MAX_PLAYERS; i++) {
+            Connection connection = connections[i];
+            if (connection != null && nanoTime - connection.lastHeard > TIMEOUT_NANOS) drop(connection);
+        }
+        if (connectionCount == 0) return;
+
+        long start = System.nanoTime();
+        boolean restart = false;
+        for (int i = 0; i < MAX_PLAYERS; i++) {
+            Connection connection = connections[i];
+            if (connection == null) continue;
+            InputState input = Mappers.player.get(connection.entity).input.set(connection.input);
+            restart |= input.restart;
+            input.restart = false;
+        }
+        if (world.isGameOver()) {
+            gameOverTime += TICK_DT;
+            if (restart || gameOverTime >= RESTART_DELAY) {
+                world.restart();
+                gameOverTime = 0;
+            }
+        }
+        world.step(TICK_DT, Mappers.player.get(world.getPlayer()).input);
+        tick++;
+
+        if (tick % SNAPSHOT_INTERVAL == 0) {
+            NetState state = history[tick / SNAPSHOT_INTERVAL % HISTORY];
+            capture.capture(tick, latest, state);
+            latest = state;
+            for (int i = 0; i < MAX_PLAYERS; i++) {
+                if (connections[i] != null) sendSnapshot(connections[i], state);
+            }
+        }
+        tickTimes.record(System.nanoTime() - start);
+    }
+
+    private void sendSnapshot(Connection connection, NetState state) throws IOException {
+        NetState base = getState(connection.ackTick);
+        if (base == null) {
+            base = empty;
+            fullSnapshots++;
+        } else {
+            deltaSnapshots++;
+        }
+        while (true) {
+            payload.clear();
+            try {
+                SnapshotCodec.write(base, state, payload);
+                break;
+            } catch (BufferOverflowException e) {
+                payload = ByteBuffer.allocate(payload.capacity() * 2);
+            }
+        }
+        payload.flip();
+        int length = payload.limit();
+        int parts = Math.max(1, (length + Protocol.MAX_PART - 1) / Protocol.MAX_PART);
+        if (parts > Protocol.MAX_PARTS) {
+            packetsDropped += parts;
+            return;
+        }
+        for (int part = 0; part < parts; part++) {
+            sendBuffer.clear();
+            sendBuffer.put(Protocol.SNAPSHOT);
+            Protocol.putVarInt(sendBuffer, state.tick);
+            Protocol.putVarInt(sendBuffer, base == empty ? 0 : base.tick + 1);
+            Protocol.putVarInt(sendBuffer, connection.inputSequence + 1);
+            Protocol.putVarInt(sendBuffer, connection.clientTime);
+            sendBuffer.put((byte) part);
+            sendBuffer.put((byte) parts);
+            payload.limit(Math.min(length, payload.position() + Protocol.MAX_PART));
+            sendBuffer.put(payload);
+            send(connection.address);
+        }
+    }
+
+    /** The captured state of {@code tick} if it is still kept, or null. */
+    public NetState getState(int tick) {
+        if (tick < 0 || tick % SNAPSHOT_INTERVAL != 0) return null;
+        NetState state = history[tick / SNAPSHOT_INTERVAL % HISTORY];
+        return state.tick == tick && latest != null && tick <= latest.tick ? state : null;
+    }
+
+    private void sendAccept(Connection connection) throws IOException {
+        sendBuffer.clear();
+        sendBuffer.put(Protocol.ACCEPT);
+        Protocol.putVarInt(sendBuffer, connection.netId);
+        Protocol.putVarInt(sendBuffer, TICK_RATE);
+        Protocol.putVarInt(sendBuffer, SNAPSHOT_INTERVAL);
+        send(connection.address);
+    }
+
+    private void sendReject(SocketAddress address, byte reason) throws IOException {
+        sendBuffer.clear();
+        sendBuffer.put(Protocol.REJECT);
+        sendBuffer.put(reason);
+        send(address);
+    }
+
+    private void send(SocketAddress address) throws IOException {
+        sendBuffer.flip();
+        int length = sendBuffer.remaining();
+        if (channel.send(sendBuffer, address) == 0) {
+            packetsDropped++;
+            return;
+        }
+        bytesSent += length;
+        packetsSent++;
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    public int getTick() {
+        return tick;
+    }
+
+    public int getClientCount() {
+        return connectionCount;
+    }
+
+    /** Time spent per tick on simulation, capture, encoding and sending. */
+    public LatencyHistogram getTickTimes() {
+        return tickTimes;
+    }
+
+    public long getBytesSent() {
+        return bytesSent;
+    }
+
+    public long getPacketsSent() {
+        return packetsSent;
+    }
+
+    /** Packets the socket had no room for, plus parts of snapshots too large to send. */
+    public long getPacketsDropped() {
+        return packetsDropped;
+    }
+
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    public long getFullSnapshots() {
+        return fullSnapshots;
+    }
+
+    public long getDeltaSnapshots() {
+        return deltaSnapshots;
+    }
+
+    /** Tells every client, then releases the socket and the world. */
+    @Override
+    public void close() throws IOException {
+        stop();
+        for (int i = 0; i < MAX_PLAYERS; i++) {
+            if (connections[i] == null) continue;
+            sendBuffer.clear();
+            sendBuffer.put(Protocol.DISCONNECT);
+            send(connections[i].address);
+        }
+        selector.close();
+        channel.close();
+        world.dispose();
+    }
+
+    private static class Connection {
+        final SocketAddress address;
+        final Entity entity;
+        final int netId;
+        final InputState input = new InputState();
+        int inputSequence = -1;
+        int clientTime;
+        int ackTick = -1;
+        long lastHeard;
+
+        Connection(SocketAddress address, Entity entity, int netId) {
+            this.address = address;
+            this.entity = entity;
+            this.netId = netId;
+        }
+    }
+}
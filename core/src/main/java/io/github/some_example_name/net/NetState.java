@@ -0,0 +1,141 @@
+package io.github.some_example_name.net;
+
+import java.util.Arrays;
+
+/**
+ * Quantized state of a networked arena at one tick: the players and obstacles, the lasers and
+ * the round. This is exactly what a client can know, so the server's copy and the one a client
+ * decodes from snapshots compare equal; see {@link #equalTo}.
+ * <p>
+ * Entities and lasers are kept sorted by id, which is what lets {@link SnapshotCodec} diff two
+ * states in one merge pass. Lasers never change course, so one is described by where and when
+ * it was first seen and its velocity; {@link #getLaserX} and {@link #getLaserZ} extrapolate it.
+ */
+public class NetState {
+
+    /** Entity flag of a player downed for the rest of the round. */
+    public static final int DOWN = 1;
+
+    public int tick;
+    /** Survival time of the round in milliseconds. */
+    public int survivalMillis;
+    public boolean gameOver;
+
+    public int entityCount;
+    public int[] entityId = new int[0];
+    /** One of the {@link io.github.some_example_name.ecs.RenderableComponent} kinds. */
+    public int[] kind = new int[0];
+    public int[] x = new int[0], z = new int[0], yaw = new int[0], flags = new int[0];
+
+    public int laserCount;
+    public int[] laserId = new int[0];
+    public int[] laserX = new int[0], laserZ = new int[0], laserVx = new int[0], laserVz = new int[0];
+    /** Tick at which {@link #laserX} and {@link #laserZ} were taken. */
+    public int[] laserTick = new int[0];
+
+    public void clear() {
+        tick = 0;
+        survivalMillis = 0;
+        gameOver = false;
+        entityCount = 0;
+        laserCount = 0;
+    }
+
+    public void addEntity(int id, int kind, int x, int z, int yaw, int flags) {
+        int i = entityCount++;
+        if (i == entityId.length) growEntities(Math.max(16, i * 2));
+        entityId[i] = id;
+        this.kind[i] = kind;
+        this.x[i] = x;
+        this.z[i] = z;
+        this.yaw[i] = yaw;
+        this.flags[i] = flags;
+    }
+
+    public void addLaser(int id, int x, int z, int vx, int vz, int tick) {
+        int i = laserCount++;
+        if (i == laserId.length) growLasers(Math.max(64, i * 2));
+        laserId[i] = id;
+        laserX[i] = x;
+        laserZ[i] = z;
+        laserVx[i] = vx;
+        laserVz[i] = vz;
+        laserTick[i] = tick;
+    }
+
+    /** Copies the entity at {@code index} of {@code other} to the end of this state. */
+    void addEntity(NetState other, int index) {
+        addEntity(other.entityId[index], other.kind[index], other.x[index], other.z[index], other.yaw[index], other.flags[index]);
+    }
+
+    /** Copies the laser at {@code index} of {@code other} to the end of this state. */
+    void addLaser(NetState other, int index) {
+        addLaser(other.laserId[index], other.laserX[index], other.laserZ[index], other.laserVx[index],
+            other.laserVz[index], other.laserTick[index]);
+    }
+
+    /** Index of the entity with net id {@code id}, or a negative value if there is none. */
+    public int indexOfEntity(int id) {
+        return Arrays.binarySearch(entityId, 0, entityCount, id);
+    }
+
+    public int indexOfLaser(int id) {
+        return Arrays.binarySearch(laserId, 0, laserCount, id);
+    }
+
+    /** Arena x of laser {@code i} at this state's tick, for ticks of {@code tickDt} seconds. */
+    public float getLaserX(int i, float tickDt) {
+        return Protocol.position(laserX[i]) + Protocol.velocity(laserVx[i]) * (tick - laserTick[i]) * tickDt;
+    }
+
+    public float getLaserZ(int i, float tickDt) {
+        return Protocol.position(laserZ[i]) + Protocol.velocity(laserVz[i]) * (tick - laserTick[i]) * tickDt;
+    }
+
+    public NetState set(NetState other) {
+        tick = other.tick;
+        survivalMillis = other.survivalMillis;
+        gameOver = other.gameOver;
+        entityCount = 0;
+        if (entityId.length < other.entityCount) growEntities(other.entityCount);
+        for (int i = 0; i < other.entityCount; i++) addEntity(other, i);
+        laserCount = 0;
+        if (laserId.length < other.laserCount) growLasers(other.laserCount);
+        for (int i = 0; i < other.laserCount; i++) addLaser(other, i);
+        return this;
+    }
+
+    /** Whether both states hold the same tick, round, entities and lasers. */
+    public boolean equalTo(NetState other) {
+        if (tick != other.tick || survivalMillis != other.survivalMillis || gameOver != other.gameOver
+            || entityCount != other.entityCount || laserCount != other.laserCount) return false;
+        for (int i = 0; i < entityCount; i++) {
+            if (entityId[i] != other.entityId[i] || kind[i] != other.kind[i] || x[i] != other.x[i]
+                || z[i] != other.z[i] || yaw[i] != other.yaw[i] || flags[i] != other.flags[i]) return false;
+        }
+        for (int i = 0; i < laserCount; i++) {
+            if (laserId[i] != other.laserId[i] || laserX[i] != other.laserX[i] || laserZ[i] != other.laserZ[i]
+                || laserVx[i] != other.laserVx[i] || laserVz[i] != other.laserVz[i]
+                || laserTick[i] != other.laserTick[i]) return false;
+        }
+        return true;
+    }
+
+    private void growEntities(int capacity) {
+        entityId = Arrays.copyOf(entityId, capacity);
+        kind = Arrays.copyOf(kind, capacity);
+        x = Arrays.copyOf(x, capacity);
+        z = Arrays.copyOf(z, capacity);
+        yaw = Arrays.copyOf(yaw, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+    }
+
+    private void growLasers(int capacity) {
+        laserId = Arrays.copyOf(laserId, capacity);
+        laserX = Arrays.copyOf(laserX, capacity);
+        laserZ = Arrays.copyOf(laserZ, capacity);
+        laserVx = Arrays.copyOf(laserVx, capacity);
+        laserVz = Arrays.copyOf(laserVz, capacity);
+        laserTick = Arrays.copyOf(laserTick, capacity);
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.some_example_name.net;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Wire format shared by {@link GameServer} and {@link GameClient}.
+ * <p>
+ * Everything goes over UDP in datagrams of at most {@link #MAX_PACKET} bytes, each starting with
+ * a message type byte:
+ * <pre>
+ *   CONNECT     protocol id (int)
+ *   ACCEPT      player net id, tick rate, ticks per snapshot (varints)
+ *   REJECT      reason byte
+ *   INPUT       acked snapshot tick + 1, input sequence, client time in ms (varints), input mask
+ *   SNAPSHOT    tick, base tick + 1, last input sequence, its client time (varints),
+ *               part index, part count (bytes), part of the {@link SnapshotCodec} payload
+ *   DISCONNECT  nothing
+ * </pre>
+ * Inputs are state, not events: every INPUT carries the full control mask, so a lost one is
+ * simply superseded by the next. Snapshots are deltas against the last one the client acked,
+ * so a lost snapshot costs nothing but the bytes; see {@link SnapshotCodec}.
+ * <p>
+ * Positions are quantized to {@code 1 / POSITION_SCALE} arena units, laser velocities to
+ * {@code 1 / VELOCITY_SCALE} units per second and headings to {@link #YAW_STEPS} steps per turn.
+ */
+public final class Protocol {
+
+    public static final int PROTOCOL_ID = 0x44544e31; // "DTN1"
+    public static final int MAX_PACKET = 1400;
+
+    public static final byte CONNECT = 1, ACCEPT = 2, REJECT = 3, INPUT = 4, SNAPSHOT = 5, DISCONNECT = 6;
+    public static final byte REJECT_FULL = 1, REJECT_VERSION = 2;
+
+    public static final float POSITION_SCALE = 64f;
+    public static final float VELOCITY_SCALE = 64f;
+    public static final int YAW_STEPS = 1024;
+
+    /** Largest snapshot header: type, four varints and two part bytes. */
+    static final int SNAPSHOT_HEADER = 1 + 4 * 5 + 2;
+    /** Payload bytes that fit in one snapshot part. */
+    public static final int MAX_PART = MAX_PACKET - SNAPSHOT_HEADER;
+    public static final int MAX_PARTS = 255;
+
+    private Protocol() {
+    }
+
+    public static int quantizePosition(float value) {
+        return Math.round(value * POSITION_SCALE);
+    }
+
+    public static float position(int quantized) {
+        return quantized / POSITION_SCALE;
+    }
+
+    public static int quantizeVelocity(float value) {
+        return Math.round(value * VELOCITY_SCALE);
+    }
+
+    public static float velocity(int quantized) {
+        return quantized / VELOCITY_SCALE;
+    }
+
+    /** Quantizes the heading of the XZ direction {@code (x, z)}; see {@link #yaw}. */
+    public static int quantizeYaw(float x, float z) {
+        double turns = StrictMath.atan2(x, -z) / (2 * Math.PI);
+        return (int) Math.round(turns * YAW_STEPS) & (YAW_STEPS - 1);
+    }
+
+    /** Heading in radians of a quantized yaw, 0 facing -z and growing towards +x. */
+    public static float yaw(int quantized) {
+        return quantized * (float) (2 * Math.PI / YAW_STEPS);
+    }
+
+    public static void putVarInt(ByteBuffer buffer, int value) {
+        while ((value & ~0x7f) != 0) {
+            buffer.put((byte) ((value & 0x7f) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    public static int getVarInt(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = buffer.get();
+            value |= (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    /** Writes a signed value so that small magnitudes of either sign take few bytes. */
+    public static void putSignedVarInt(ByteBuffer buffer, int value) {
+        putVarInt(buffer, (value << 1) ^ (value >> 31));
+    }
+
+    public static int getSignedVarInt(ByteBuffer buffer) {
+        int value = getVarInt(buffer);
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,162 @@
+package io.github.some_example_name.net;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Delta compression of {@link NetState}s. A snapshot is written against a base state the client
+ * already has, or against an empty state if it has none, and only carries what differs:
+ * <ul>
+ * <li>one record per entity that appeared, disappeared or changed, with a mask of the changed
+ * fields and each of them as a zigzag varint difference, so an obstacle moving a few units
+ * costs a handful of bytes and one standing still costs nothing;</li>
+ * <li>the ids of lasers gone since the base and the lasers added since, which never change in
+ * between.</li>
+ * </ul>
+ * Ids are sorted in both states, so records are found in one merge pass and written as varint
+ * gaps from the previous id. A zero mask or gap ends each section. Laser ids are never reused
+ * and only grow, so the lasers added since a base always sort after the ones it had.
+ */
+public final class SnapshotCodec {
+
+    static final int NEW = 1, REMOVED = 2, X = 4, Z = 8, YAW = 16, FLAGS = 32, KIND = 64;
+
+    private SnapshotCodec() {
+    }
+
+    /** Writes {@code state} as a delta from {@code base} into {@code out}. */
+    public static void write(NetState base, NetState state, ByteBuffer out) {
+        Protocol.putVarInt(out, state.survivalMillis);
+        out.put((byte) (state.gameOver ? 1 : 0));
+
+        int b = 0, s = 0, lastId = 0;
+        while (b < base.entityCount || s < state.entityCount) {
+            int baseId = b < base.entityCount ? base.entityId[b] : Integer.MAX_VALUE;
+            int id = s < state.entityCount ? state.entityId[s] : Integer.MAX_VALUE;
+            if (baseId < id) {
+                out.put((byte) REMOVED);
+                Protocol.putVarInt(out, baseId - lastId);
+                lastId = baseId;
+                b++;
+            } else if (id < baseId) {
+                out.put((byte) NEW);
+                Protocol.putVarInt(out, id - lastId);
+                lastId = id;
+                Protocol.putVarInt(out, state.kind[s]);
+                Protocol.putSignedVarInt(out, state.x[s]);
+                Protocol.putSignedVarInt(out, state.z[s]);
+                Protocol.putVarInt(out, state.yaw[s]);
+                Protocol.putVarInt(out, state.flags[s]);
+                s++;
+            } else {
+                int mask = (state.x[s] != base.x[b] ? X : 0) | (state.z[s] != base.z[b] ? Z : 0)
+                    | (state.yaw[s] != base.yaw[b] ? YAW : 0) | (state.flags[s] != base.flags[b] ? FLAGS : 0)
+                    | (state.kind[s] != base.kind[b] ? KIND : 0);
+                if (mask != 0) {
+                    out.put((byte) mask);
+                    Protocol.putVarInt(out, id - lastId);
+                    lastId = id;
+                    if ((mask & X) != 0) Protocol.putSignedVarInt(out, state.x[s] - base.x[b]);
+                    if ((mask & Z) != 0) Protocol.putSignedVarInt(out, state.z[s] - base.z[b]);
+                    if ((mask & YAW) != 0) Protocol.putVarInt(out, state.yaw[s]);
+                    if ((mask & FLAGS) != 0) Protocol.putVarInt(out, state.flags[s]);
+                    if ((mask & KIND) != 0) Protocol.putVarInt(out, state.kind[s]);
+                }
+                b++;
+                s++;
+            }
+        }
+        out.put((byte) 0);
+
+        // removed lasers, then added ones, as gaps from the previous id starting at -1, so that
+        // no gap is zero and zero can end each list
+        lastId = -1;
+        for (b = 0, s = 0; b < base.laserCount; b++) {
+            int id = base.laserId[b];
+            while (s < state.laserCount && state.laserId[s] < id) s++;
+            if (s < state.laserCount && state.laserId[s] == id) continue;
+            Protocol.putVarInt(out, id - lastId);
+            lastId = id;
+        }
+        out.put((byte) 0);
+        lastId = -1;
+        for (s = 0, b = 0; s < state.laserCount; s++) {
+            int id = state.laserId[s];
+            while (b < base.laserCount && base.laserId[b] < id) b++;
+            if (b < base.laserCount && base.laserId[b] == id) continue;
+            Protocol.putVarInt(out, id - lastId);
+            lastId = id;
+            Protocol.putSignedVarInt(out, state.laserX[s]);
+            Protocol.putSignedVarInt(out, state.laserZ[s]);
+            Protocol.putSignedVarInt(out, state.laserVx[s]);
+            Protocol.putSignedVarInt(out, state.laserVz[s]);
+            Protocol.putVarInt(out, state.tick - state.laserTick[s]);
+        }
+        out.put((byte) 0);
+    }
+
+    /**
+     * Reads a delta written by {@link #write} against {@code base} into {@code out}, which must
+     * not be {@code base}. The caller sets {@code out.tick}, which comes with the packet header.
+     */
+    public static void read(NetState base, ByteBuffer in, NetState out) {
+        int tick = out.tick;
+        out.clear();
+        out.tick = tick;
+        out.survivalMillis = Protocol.getVarInt(in);
+        out.gameOver = in.get() != 0;
+
+        int b = 0, lastId = 0;
+        int mask;
+        while ((mask = in.get() & 0xff) != 0) {
+            int id = lastId + Protocol.getVarInt(in);
+            lastId = id;
+            while (b < base.entityCount && base.entityId[b] < id) out.addEntity(base, b++);
+            if ((mask & REMOVED) != 0) {
+                b++;
+            } else if ((mask & NEW) != 0) {
+                int kind = Protocol.getVarInt(in);
+                int x = Protocol.getSignedVarInt(in);
+                int z = Protocol.getSignedVarInt(in);
+                int yaw = Protocol.getVarInt(in);
+                out.addEntity(id, kind, x, z, yaw, Protocol.getVarInt(in));
+            } else {
+                int x = base.x[b], z = base.z[b], yaw = base.yaw[b], flags = base.flags[b], kind = base.kind[b];
+                if ((mask & X) != 0) x += Protocol.getSignedVarInt(in);
+                if ((mask & Z) != 0) z += Protocol.getSignedVarInt(in);
+                if ((mask & YAW) != 0) yaw = Protocol.getVarInt(in);
+                if ((mask & FLAGS) != 0) flags = Protocol.getVarInt(in);
+                if ((mask & KIND) != 0) kind = Protocol.getVarInt(in);
+                out.addEntity(id, kind, x, z, yaw, flags);
+                b++;
+            }
+        }
+        while (b < base.entityCount) out.addEntity(base, b++);
+
+        int removedId = nextId(in, -1);
+        for (b = 0; b < base.laserCount; b++) {
+            int id = base.laserId[b];
+            while (removedId >= 0 && removedId < id) removedId = nextId(in, removedId);
+            if (removedId == id) removedId = nextId(in, removedId);
+            else out.addLaser(base, b);
+        }
+        while (removedId >= 0) removedId = nextId(in, removedId);
+        int addedId = nextId(in, -1);
+        while (addedId >= 0) {
+            if (out.laserCount > 0 && addedId <= out.laserId[out.laserCount - 1]) {
+                throw new IllegalArgumentException("Laser " + addedId + " out of order");
+            }
+            int x = Protocol.getSignedVarInt(in);
+            int z = Protocol.getSignedVarInt(in);
+            int vx = Protocol.getSignedVarInt(in);
+            int vz = Protocol.getSignedVarInt(in);
+            out.addLaser(addedId, x, z, vx, vz, out.tick - Protocol.getVarInt(in));
+            addedId = nextId(in, addedId);
+        }
+    }
+
+    /** Reads the next id of a gap-coded list, or -1 at its end. */
+    private static int nextId(ByteBuffer in, int lastId) {
+        int gap = Protocol.getVarInt(in);
+        return gap == 0 ? -1 : lastId + gap;
+    }
+}
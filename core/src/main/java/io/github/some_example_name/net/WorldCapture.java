@@ -0,0 +1,107 @@
+package io.github.some_example_name.net;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.Vector3;
+import io.github.some_example_name.ecs.Families;
+import io.github.some_example_name.ecs.Mappers;
+import io.github.some_example_name.ecs.PlayerComponent;
+import io.github.some_example_name.ecs.RenderableComponent;
+import io.github.some_example_name.ecs.TransformComponent;
+import io.github.some_example_name.sim.ProjectileEngine;
+import io.github.some_example_name.sim.World;
+
+import java.util.Arrays;
+
+/**
+ * Captures {@link NetState}s of a {@link World} on the server.
+ * <p>
+ * Entities get a net id the first time they are captured, kept in Ashley's
+ * {@link Entity#flags}, which nothing else uses; pooled entities have it reset to 0 when they
+ * are freed. Walls never move and are the same in every arena, so they are left out. A laser
+ * keeps the position and tick it was first captured at, so it is only ever sent once.
+ */
+class WorldCapture {
+
+    private final World world;
+    private final ImmutableArray<Entity> renderables;
+    private final Vector3 scratch = new Vector3();
+    private int nextId = 1;
+    /** Laser id in the high half, engine index in the low half, for sorting without boxing. */
+    private long[] order = new long[256];
+
+    WorldCapture(World world) {
+        this.world = world;
+        renderables = world.getEngine().getEntitiesFor(Families.renderables);
+    }
+
+    /** The net id of {@code entity}, assigned now if it has none yet. */
+    int netId(Entity entity) {
+        if (entity.flags == 0) entity.flags = nextId++;
+        return entity.flags;
+    }
+
+    /**
+     * Captures the world at {@code tick} into {@code out}; lasers already in {@code previous},
+     * the last capture or null, keep their first capture.
+     */
+    void capture(int tick, NetState previous, NetState out) {
+        out.clear();
+        out.tick = tick;
+        out.survivalMillis = Math.round(world.getSurvivalTime() * 1000f);
+        out.gameOver = world.isGameOver();
+
+        boolean sorted = true;
+        for (int i = 0, n = renderables.size(); i < n; i++) {
+            Entity entity = renderables.get(i);
+            int kind = Mappers.renderable.get(entity).kind;
+            if (kind == RenderableComponent.WALL) continue;
+            TransformComponent transform = Mappers.transform.get(entity);
+            PlayerComponent player = Mappers.player.get(entity);
+            int id = netId(entity);
+            if (out.entityCount > 0 && id < out.entityId[out.entityCount - 1]) sorted = false;
+            out.addEntity(id, kind, Protocol.quantizePosition(transform.position.x), Protocol.quantizePosition(transform.position.z),
+                Protocol.quantizeYaw(transform.direction.x, transform.direction.z), player != null && player.down ? NetState.DOWN : 0);
+        }
+        // entities keep their relative order in families, so this is rare and nearly sorted
+        if (!sorted) sortEntities(out);
+
+        ProjectileEngine lasers = world.getLasers();
+        int n = lasers.size();
+        if (order.length < n) order = new long[Math.max(n, order.length * 2)];
+        for (int i = 0; i < n; i++) order[i] = (long) lasers.getId(i) << 32 | i;
+        Arrays.sort(order, 0, n);
+        for (int k = 0; k < n; k++) {
+            int id = (int) (order[k] >>> 32);
+            int i = (int) order[k];
+            int known = previous != null ? previous.indexOfLaser(id) : -1;
+            if (known >= 0) {
+                out.addLaser(previous, known);
+                continue;
+            }
+            lasers.getPosition(i, scratch);
+            int x = Protocol.quantizePosition(scratch.x), z = Protocol.quantizePosition(scratch.z);
+            lasers.getDirection(i, scratch).scl(lasers.getSpeed(i));
+            out.addLaser(id, x, z, Protocol.quantizeVelocity(scratch.x), Protocol.quantizeVelocity(scratch.z), tick);
+        }
+    }
+
+    private static void sortEntities(NetState state) {
+        for (int i = 1; i < state.entityCount; i++) {
+            for (int j = i; j > 0 && state.entityId[j - 1] > state.entityId[j]; j--) {
+                swap(state.entityId, j);
+                swap(state.kind, j);
+                swap(state.x, j);
+                swap(state.z, j);
+                swap(state.yaw, j);
+                swap(state.flags, j);
+            }
+        }
+    }
+
+    private static void swap(int[] values, int j) {
+        int t = values[j];
+        values[j] = values[j - 1];
+        values[j - 1] = t;
+    }
+}
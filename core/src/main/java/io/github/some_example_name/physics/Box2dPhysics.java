@@ -0,0 +1,178 @@
+package io.github.some_example_name.physics;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.badlogic.gdx.physics.box2d.CircleShape;
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.ContactImpulse;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.Manifold;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Box2D backend, with the world's X and Z mapped to Box2D's x and y.
+ * <p>
+ * Solid bodies are dynamic circles and walls static boxes, so Box2D's solver keeps players
+ * out of walls, its broadphase only pairs bodies that are near each other, and bodies that
+ * stop moving fall asleep. Hazards are kinematic sensor circles: they never collide with
+ * walls or each other and only generate sensor contacts with solid bodies. {@link #BULLET}
+ * bodies get Box2D's bullet CCD against other dynamic bodies; sensor contacts are always
+ * found at the end of a step, so a hazard that crosses a solid body within one step can be
+ * missed where {@link KinematicPhysics} would sweep it.
+ * <p>
+ * Contacts are reported once, when they begin, after the step has finished.
+ */
+public class Box2dPhysics implements PhysicsBackend, com.badlogic.gdx.physics.box2d.ContactListener {
+
+    private static final int VELOCITY_ITERATIONS = 6;
+    private static final int POSITION_ITERATIONS = 2;
+
+    private static final short CATEGORY_SOLID = 1;
+    private static final short CATEGORY_HAZARD = 2;
+    private static final short CATEGORY_WALL = 4;
+
+    private final World world;
+    private final Array<Body> bodies = new Array<>();
+    private final IntArray free = new IntArray();
+    /** Pairs of solid and hazard ids whose contact began during the current step. */
+    private final IntArray contacts = new IntArray();
+    private final BodyDef bodyDef = new BodyDef();
+    private final FixtureDef fixtureDef = new FixtureDef();
+    private ContactListener listener;
+
+    public Box2dPhysics() {
+        Box2D.init();
+        world = new World(new Vector2(), true);
+        world.setContactListener(this);
+        bodyDef.fixedRotation = true;
+    }
+
+    @Override
+    public int createBody(float x, float z, float radius, int flags) {
+        int id;
+        if (free.size > 0) {
+            id = free.pop();
+        } else {
+            id = bodies.size;
+            bodies.add(null);
+        }
+        boolean hazard = (flags & HAZARD) != 0;
+        bodyDef.type = hazard ? BodyDef.BodyType.KinematicBody : BodyDef.BodyType.DynamicBody;
+        bodyDef.bullet = (flags & BULLET) != 0;
+        bodyDef.position.set(x, z);
+        Body body = world.createBody(bodyDef);
+        body.setUserData(id);
+
+        CircleShape shape = new CircleShape();
+        shape.setRadius(radius);
+        fixtureDef.shape = shape;
+        fixtureDef.isSensor = hazard;
+        fixtureDef.filter.categoryBits = hazard ? CATEGORY_HAZARD : CATEGORY_SOLID;
+        fixtureDef.filter.maskBits = hazard ? CATEGORY_SOLID : (short) (CATEGORY_WALL | CATEGORY_HAZARD);
+        body.createFixture(fixtureDef);
+        shape.dispose();
+
+        bodies.set(id, body);
+        return id;
+    }
+
+    @Override
+    public void destroyBody(int body) {
+        world.destroyBody(bodies.get(body));
+        bodies.set(body, null);
+        free.add(body);
+    }
+
+    @Override
+    public void addWall(float x, float z, float width, float depth) {
+        BodyDef def = new BodyDef();
+        def.position.set(x, z);
+        Body body = world.createBody(def);
+        PolygonShape shape = new PolygonShape();
+        shape.setAsBox(width / 2f, depth / 2f);
+        FixtureDef fixture = new FixtureDef();
+        fixture.shape = shape;
+        fixture.filter.categoryBits = CATEGORY_WALL;
+        fixture.filter.maskBits = CATEGORY_SOLID;
+        body.createFixture(fixture);
+        shape.dispose();
+    }
+
+    @Override
+    public void setPosition(int body, float x, float z) {
+        Body b = bodies.get(body);
+        b.setTransform(x, z, 0);
+        b.setAwake(true);
+    }
+
+    @Override
+    public void setVelocity(int body, float vx, float vz) {
+        Body b = bodies.get(body);
+        Vector2 current = b.getLinearVelocity();
+        // setting an unchanged velocity would keep sleeping bodies awake
+        if (current.x != vx || current.y != vz) b.setLinearVelocity(vx, vz);
+    }
+
+    @Override
+    public float getX(int body) {
+        return bodies.get(body).getPosition().x;
+    }
+
+    @Override
+    public float getZ(int body) {
+        return bodies.get(body).getPosition().y;
+    }
+
+    @Override
+    public void setContinuous(boolean continuous) {
+        world.setContinuousPhysics(continuous);
+    }
+
+    @Override
+    public void setContactListener(ContactListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public void step(float dt) {
+        contacts.clear();
+        world.step(dt, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
+        // bodies cannot be touched while Box2D is stepping, so contacts are reported afterwards
+        if (listener == null) return;
+        for (int i = 0; i < contacts.size; i += 2) listener.contact(contacts.items[i], contacts.items[i + 1]);
+    }
+
+    @Override
+    public void beginContact(Contact contact) {
+        boolean aIsHazard = contact.getFixtureA().getFilterData().categoryBits == CATEGORY_HAZARD;
+        boolean bIsHazard = contact.getFixtureB().getFilterData().categoryBits == CATEGORY_HAZARD;
+        if (aIsHazard == bIsHazard) return;
+        Body solid = aIsHazard ? contact.getFixtureB().getBody() : contact.getFixtureA().getBody();
+        Body hazard = aIsHazard ? contact.getFixtureA().getBody() : contact.getFixtureB().getBody();
+        contacts.add((Integer) solid.getUserData(), (Integer) hazard.getUserData());
+    }
+
+    @Override
+    public void endContact(Contact contact) {
+    }
+
+    @Override
+    public void preSolve(Contact contact, Manifold oldManifold) {
+    }
+
+    @Override
+    public void postSolve(Contact contact, ContactImpulse impulse) {
+    }
+
+    @Override
+    public void dispose() {
+        world.dispose();
+        bodies.clear();
+        free.clear();
+    }
+}
@@ -0,0 +1,195 @@
+package io.github.some_example_name.physics;
+
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import io.github.some_example_name.sim.Collisions;
+import io.github.some_example_name.sim.SpatialGrid;
+import io.github.some_example_name.sim.World;
+
+import java.util.Arrays;
+
+/**
+ * Straightforward backend: explicit Euler integration, solid bodies pushed back out of walls
+ * along the shortest way, and a uniform grid over the hazards for contact tests.
+ * <p>
+ * Bodies live in parallel arrays indexed by id, so a step does not allocate once the arrays
+ * have grown. Every step reports the first hazard each solid body touches, for as long as it
+ * keeps touching one. Continuous tests sweep both bodies over the step and cannot tunnel.
+ */
+public class KinematicPhysics implements PhysicsBackend {
+
+    private int capacity;
+    private boolean[] alive = new boolean[0];
+    private int[] flags = new int[0];
+    private float[] x = new float[0], z = new float[0];
+    private float[] previousX = new float[0], previousZ = new float[0];
+    private float[] velocityX = new float[0], velocityZ = new float[0];
+    private float[] radius = new float[0];
+    private int count;
+    private final IntArray free = new IntArray();
+
+    /** Wall boxes as consecutive {@code minX, minZ, maxX, maxZ}. */
+    private final FloatArray walls = new FloatArray();
+
+    private final SpatialGrid grid = World.createGrid();
+    private final IntArray candidates = new IntArray();
+    private boolean continuous = true;
+    private ContactListener listener;
+
+    @Override
+    public int createBody(float x, float z, float radius, int flags) {
+        int id = free.size > 0 ? free.pop() : count++;
+        ensureCapacity(id + 1);
+        alive[id] = true;
+        this.flags[id] = flags;
+        this.x[id] = previousX[id] = x;
+        this.z[id] = previousZ[id] = z;
+        velocityX[id] = velocityZ[id] = 0;
+        this.radius[id] = radius;
+        return id;
+    }
+
+    @Override
+    public void destroyBody(int body) {
+        alive[body] = false;
+        free.add(body);
+    }
+
+    @Override
+    public void addWall(float x, float z, float width, float depth) {
+        walls.add(x - width / 2f, z - depth / 2f, x + width / 2f, z + depth / 2f);
+    }
+
+    @Override
+    public void setPosition(int body, float x, float z) {
+        this.x[body] = previousX[body] = x;
+        this.z[body] = previousZ[body] = z;
+    }
+
+    @Override
+    public void setVelocity(int body, float vx, float vz) {
+        velocityX[body] = vx;
+        velocityZ[body] = vz;
+    }
+
+    @Override
+    public float getX(int body) {
+        return x[body];
+    }
+
+    @Override
+    public float getZ(int body) {
+        return z[body];
+    }
+
+    @Override
+    public void setContinuous(boolean continuous) {
+        this.continuous = continuous;
+    }
+
+    @Override
+    public void setContactListener(ContactListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public void step(float dt) {
+        for (int i = 0; i < count; i++) {
+            if (!alive[i]) continue;
+            previousX[i] = x[i];
+            previousZ[i] = z[i];
+            x[i] += velocityX[i] * dt;
+            z[i] += velocityZ[i] * dt;
+            if ((flags[i] & SOLID) != 0) resolveWalls(i);
+        }
+
+        grid.clear();
+        float maxHazardStep2 = 0, maxHazardRadius = 0;
+        for (int i = 0; i < count; i++) {
+            if (!alive[i] || (flags[i] & HAZARD) == 0) continue;
+            grid.insert(i, x[i], z[i]);
+            float dx = x[i] - previousX[i], dz = z[i] - previousZ[i];
+            maxHazardStep2 = Math.max(maxHazardStep2, dx * dx + dz * dz);
+            maxHazardRadius = Math.max(maxHazardRadius, radius[i]);
+        }
+        float maxHazardStep = (float) Math.sqrt(maxHazardStep2);
+        for (int i = 0; i < count; i++) {
+            if (alive[i] && (flags[i] & SOLID) != 0) testHazards(i, maxHazardStep, maxHazardRadius);
+        }
+    }
+
+    private void testHazards(int solid, float maxHazardStep, float maxHazardRadius) {
+        float px = x[solid], pz = z[solid], p0x = previousX[solid], p0z = previousZ[solid];
+        float reach = radius[solid] + maxHazardRadius;
+        if (continuous) {
+            float dx = px - p0x, dz = pz - p0z;
+            reach += (float) Math.sqrt(dx * dx + dz * dz) + maxHazardStep;
+        }
+        grid.query(px, pz, reach, candidates);
+        for (int c = 0; c < candidates.size; c++) {
+            int hazard = candidates.items[c];
+            float r = radius[solid] + radius[hazard];
+            boolean hit;
+            if (continuous) {
+                hit = Collisions.sweptSpheres(p0x, 0, p0z, px, 0, pz,
+                    previousX[hazard], 0, previousZ[hazard], x[hazard], 0, z[hazard], r);
+            } else {
+                float dx = px - x[hazard], dz = pz - z[hazard];
+                hit = dx * dx + dz * dz < r * r;
+            }
+            if (hit) {
+                if (listener != null) listener.contact(solid, hazard);
+                return;
+            }
+        }
+    }
+
+    /** Pushes a solid circle out of every wall it overlaps, axis-aligned when it touches a face. */
+    private void resolveWalls(int i) {
+        float r = radius[i];
+        float[] box = walls.items;
+        for (int w = 0; w < walls.size; w += 4) {
+            float minX = box[w], minZ = box[w + 1], maxX = box[w + 2], maxZ = box[w + 3];
+            float cx = Math.max(minX, Math.min(maxX, x[i]));
+            float cz = Math.max(minZ, Math.min(maxZ, z[i]));
+            float dx = x[i] - cx, dz = z[i] - cz;
+            float d2 = dx * dx + dz * dz;
+            if (d2 >= r * r) continue;
+            if (d2 == 0) {
+                // centre inside the box: leave through the nearest face
+                float left = x[i] - minX, right = maxX - x[i], near = z[i] - minZ, far = maxZ - z[i];
+                float min = Math.min(Math.min(left, right), Math.min(near, far));
+                if (min == left) x[i] = minX - r;
+                else if (min == right) x[i] = maxX + r;
+                else if (min == near) z[i] = minZ - r;
+                else z[i] = maxZ + r;
+            } else if (dz == 0) {
+                x[i] = dx < 0 ? cx - r : cx + r;
+            } else if (dx == 0) {
+                z[i] = dz < 0 ? cz - r : cz + r;
+            } else {
+                float scale = r / (float) Math.sqrt(d2);
+                x[i] = cx + dx * scale;
+                z[i] = cz + dz * scale;
+            }
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= capacity) return;
+        capacity = Math.max(required, Math.max(16, capacity * 2));
+        alive = Arrays.copyOf(alive, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        x = Arrays.copyOf(x, capacity);
+        z = Arrays.copyOf(z, capacity);
+        previousX = Arrays.copyOf(previousX, capacity);
+        previousZ = Arrays.copyOf(previousZ, capacity);
+        velocityX = Arrays.copyOf(velocityX, capacity);
+        velocityZ = Arrays.copyOf(velocityZ, capacity);
+        radius = Arrays.copyOf(radius, capacity);
+    }
+
+    @Override
+    public void dispose() {
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.some_example_name.physics;
+
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Moves circular bodies on the XZ plane, keeps solid bodies out of static walls and reports
+ * when solid bodies touch hazards.
+ * <p>
+ * Bodies are identified by small non-negative ints that are reused after
+ * {@link #destroyBody}. Velocities are set by the caller before every {@link #step}; the
+ * backend only integrates them and resolves walls, there are no forces or restitution.
+ */
+public interface PhysicsBackend extends Disposable {
+
+    /** Blocked by walls and reported when touching a hazard. */
+    int SOLID = 1;
+    /** Passes through walls and other hazards; only detected against solid bodies. */
+    int HAZARD = 2;
+    /** Fast enough to need continuous collision even when the backend does not default to it. */
+    int BULLET = 4;
+
+    /** @param flags a combination of {@link #SOLID}, {@link #HAZARD} and {@link #BULLET} */
+    int createBody(float x, float z, float radius, int flags);
+
+    void destroyBody(int body);
+
+    /** Adds a static axis-aligned box centred on {@code (x, z)}. */
+    void addWall(float x, float z, float width, float depth);
+
+    /** Moves a body without sweeping it, e.g. on respawn. */
+    void setPosition(int body, float x, float z);
+
+    void setVelocity(int body, float vx, float vz);
+
+    float getX(int body);
+
+    float getZ(int body);
+
+    /** Chooses between swept contact tests, which catch touches during the step, and end-of-step overlap tests. */
+    void setContinuous(boolean continuous);
+
+    void setContactListener(ContactListener listener);
+
+    /** Advances all bodies by {@code dt}; contacts are reported before this returns. */
+    void step(float dt);
+
+    interface ContactListener {
+        /**
+         * Called at least once when {@code solid} starts touching {@code hazard}. Backends may
+         * report again on later steps while the two keep touching.
+         */
+        void contact(int solid, int hazard);
+    }
+}
@@ -0,0 +1,122 @@
+package io.github.some_example_name.profiling;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BooleanArray;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+
+/**
+ * Named, nanosecond-timed scopes backed by {@link LatencyHistogram}s.
+ * <p>
+ * Scopes are registered once up front and then addressed by the returned id, so
+ * {@link #begin(int)}/{@link #end(int)} do not allocate. A scope is timed by one thread at
+ * a time; different scopes may be timed on different threads. Counters such as draw calls
+ * per frame share the same histograms but are reported as plain values.
+ */
+public class FrameProfiler {
+
+    private final Array<String> names = new Array<>();
+    private final Array<LatencyHistogram> histograms = new Array<>();
+    private final BooleanArray counters = new BooleanArray();
+    private long[] starts = new long[8];
+    private boolean enabled = true;
+
+    /** Registers a timed scope, or returns the id of the existing one with the same name. */
+    public int register(String name) {
+        return register(name, false);
+    }
+
+    /** Registers a per-frame counter, recorded with {@link #record(int, long)}. */
+    public int registerCounter(String name) {
+        return register(name, true);
+    }
+
+    private synchronized int register(String name, boolean counter) {
+        int existing = names.indexOf(name, false);
+        if (existing >= 0) return existing;
+        names.add(name);
+        histograms.add(new LatencyHistogram());
+        counters.add(counter);
+        if (starts.length < names.size) {
+            long[] grown = new long[names.size * 2];
+            System.arraycopy(starts, 0, grown, 0, starts.length);
+            starts = grown;
+        }
+        return names.size - 1;
+    }
+
+    public void begin(int scope) {
+        if (enabled) starts[scope] = System.nanoTime();
+    }
+
+    public void end(int scope) {
+        if (enabled) histograms.get(scope).record(System.nanoTime() - starts[scope]);
+    }
+
+    /** Records a counter value, or a duration measured elsewhere. */
+    public void record(int scope, long nanos) {
+        if (enabled) histograms.get(scope).record(nanos);
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getScopeCount() {
+        return names.size;
+    }
+
+    public boolean isCounter(int scope) {
+        return counters.get(scope);
+    }
+
+    public String getName(int scope) {
+        return names.get(scope);
+    }
+
+    public LatencyHistogram getHistogram(int scope) {
+        return histograms.get(scope);
+    }
+
+    public void reset() {
+        for (LatencyHistogram histogram : histograms) histogram.reset();
+    }
+
+    /**
+     * Writes one row per scope with count, mean, p50, p99 and max. Timed scopes are in
+     * microseconds, counters in their own unit.
+     */
+    public void writeCsv(Writer writer) throws IOException {
+        writer.write("scope,unit,count,mean,p50,p99,max\n");
+        for (int i = 0; i < names.size; i++) {
+            LatencyHistogram h = histograms.get(i);
+            double div = counters.get(i) ? 1.0 : 1000.0;
+            writer.write(String.format(Locale.ROOT, "%s,%s,%d,%.3f,%.3f,%.3f,%.3f%n", names.get(i), unit(i), h.getCount(),
+                h.getMean() / div, h.percentile(0.5) / div, h.percentile(0.99) / div, h.getMax() / div));
+        }
+    }
+
+    public void writeJson(Writer writer) throws IOException {
+        writer.write("{\n  \"scopes\": [");
+        for (int i = 0; i < names.size; i++) {
+            LatencyHistogram h = histograms.get(i);
+            double div = counters.get(i) ? 1.0 : 1000.0;
+            writer.write(i == 0 ? "\n" : ",\n");
+            writer.write(String.format(Locale.ROOT,
+                "    {\"scope\": \"%s\", \"unit\": \"%s\", \"count\": %d, \"mean\": %.3f, \"p50\": %.3f, \"p99\": %.3f, \"max\": %.3f}",
+                names.get(i), unit(i), h.getCount(), h.getMean() / div, h.percentile(0.5) / div,
+                h.percentile(0.99) / div, h.getMax() / div));
+        }
+        writer.write("\n  ]\n}\n");
+    }
+
+    private String unit(int scope) {
+        return counters.get(scope) ? "count" : "us";
+    }
+}
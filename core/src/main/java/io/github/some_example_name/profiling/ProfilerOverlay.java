@@ -0,0 +1,87 @@
+package io.github.some_example_name.profiling;
+
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+
+import java.util.Locale;
+
+/**
+ * On-screen table of {@link FrameProfiler} percentiles plus draw call, texture bind and
+ * shader switch counts from libGDX's {@link GLProfiler}. GL counters are recorded into the
+ * profiler every frame whether or not the overlay is shown; the text is rebuilt twice a
+ * second and only while visible.
+ */
+public class ProfilerOverlay {
+
+    private static final float REFRESH_INTERVAL = 0.5f;
+
+    private final FrameProfiler profiler;
+    private final GLProfiler glProfiler;
+    private final int drawCallsCounter;
+    private final int textureBindsCounter;
+    private final int shaderSwitchesCounter;
+    private final int verticesCounter;
+
+    private final StringBuilder text = new StringBuilder();
+    private boolean visible;
+    private float sinceRefresh = REFRESH_INTERVAL;
+
+    public ProfilerOverlay(FrameProfiler profiler, Graphics graphics) {
+        this.profiler = profiler;
+        glProfiler = new GLProfiler(graphics);
+        glProfiler.enable();
+        drawCallsCounter = profiler.registerCounter("gl.drawCalls");
+        textureBindsCounter = profiler.registerCounter("gl.textureBinds");
+        shaderSwitchesCounter = profiler.registerCounter("gl.shaderSwitches");
+        verticesCounter = profiler.registerCounter("gl.vertices");
+    }
+
+    /** Records this frame's GL counters and resets them; call after all rendering. */
+    public void endFrame(float delta) {
+        profiler.record(drawCallsCounter, glProfiler.getDrawCalls());
+        profiler.record(textureBindsCounter, glProfiler.getTextureBindings());
+        profiler.record(shaderSwitchesCounter, glProfiler.getShaderSwitches());
+        profiler.record(verticesCounter, (long) glProfiler.getVertexCount().total);
+        glProfiler.reset();
+
+        sinceRefresh += delta;
+        if (visible && sinceRefresh >= REFRESH_INTERVAL) {
+            sinceRefresh = 0;
+            rebuildText();
+        }
+    }
+
+    public void draw(SpriteBatch batch, BitmapFont font, float x, float y) {
+        if (visible) font.draw(batch, text, x, y);
+    }
+
+    public void toggle() {
+        visible = !visible;
+        sinceRefresh = REFRESH_INTERVAL;
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    public void dispose() {
+        glProfiler.disable();
+    }
+
+    private void rebuildText() {
+        text.setLength(0);
+        text.append(String.format(Locale.ROOT, "%-18s %8s %8s %8s%n", "scope", "p50", "p99", "max"));
+        for (int i = 0; i < profiler.getScopeCount(); i++) {
+            LatencyHistogram h = profiler.getHistogram(i);
+            if (profiler.isCounter(i)) {
+                text.append(String.format(Locale.ROOT, "%-18s %8d %8d %8d%n", profiler.getName(i),
+                    h.percentile(0.5), h.percentile(0.99), h.getMax()));
+            } else {
+                text.append(String.format(Locale.ROOT, "%-18s %6.2fms %6.2fms %6.2fms%n", profiler.getName(i),
+                    h.percentile(0.5) / 1e6, h.percentile(0.99) / 1e6, h.getMax() / 1e6));
+            }
+        }
+    }
+}
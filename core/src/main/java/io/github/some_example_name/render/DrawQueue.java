@@ -0,0 +1,28 @@
+package io.github.some_example_name.render;
+
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Receives the draw commands of a frame from a {@link SnapshotRenderer}.
+ * <p>
+ * {@link GdxDrawQueue} turns them into GL draw calls; {@link DrawRecorder} only records them,
+ * so what a frame would draw can be checked without a GPU.
+ */
+public interface DrawQueue {
+
+    /**
+     * Draws the static part of the scene. {@code version} changes whenever {@code instances}
+     * or their transforms do, so implementations may keep whatever they build from them until
+     * it does.
+     */
+    void drawStatic(Array<ModelInstance> instances, int version);
+
+    /**
+     * Draws {@code count} instances of {@code model}, whose transforms are packed in
+     * {@code transforms} in {@link com.badlogic.gdx.math.Matrix4#val} layout, 16 floats per
+     * instance. The array is only read until the end of the frame.
+     */
+    void drawInstances(Model model, float[] transforms, int count);
+}
@@ -0,0 +1,95 @@
+package io.github.some_example_name.render;
+
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * {@link DrawQueue} that records commands instead of drawing them, and never touches GL.
+ * <p>
+ * Commands are merged the way {@link GdxDrawQueue} merges them when it can draw instanced:
+ * the static scene is one command and all instances of a model in a frame are another, so
+ * {@link #getDrawCalls()} is the number of batches a frame submits. A merged static scene
+ * still takes one GL draw call per distinct material and vertex format in it.
+ */
+public class DrawRecorder implements DrawQueue {
+
+    public static final int STATIC = 0;
+    public static final int INSTANCED = 1;
+
+    private final IntArray types = new IntArray();
+    private final Array<Model> models = new Array<>();
+    private final IntArray counts = new IntArray();
+    private int staticVersion = -1;
+    private int staticRebuilds;
+
+    /** Forgets the recorded commands, typically once per frame. */
+    public void clear() {
+        types.clear();
+        models.clear();
+        counts.clear();
+    }
+
+    @Override
+    public void drawStatic(Array<ModelInstance> instances, int version) {
+        if (version != staticVersion) {
+            staticVersion = version;
+            staticRebuilds++;
+        }
+        types.add(STATIC);
+        models.add(null);
+        counts.add(instances.size);
+    }
+
+    @Override
+    public void drawInstances(Model model, float[] transforms, int count) {
+        if (count == 0) return;
+        for (int i = 0; i < models.size; i++) {
+            if (types.get(i) == INSTANCED && models.get(i) == model) {
+                counts.incr(i, count);
+                return;
+            }
+        }
+        types.add(INSTANCED);
+        models.add(model);
+        counts.add(count);
+    }
+
+    public int getDrawCalls() {
+        return types.size;
+    }
+
+    /** Number of recorded commands drawing {@code model}. */
+    public int getDrawCalls(Model model) {
+        int calls = 0;
+        for (int i = 0; i < models.size; i++) if (models.get(i) == model) calls++;
+        return calls;
+    }
+
+    /** Total number of instances drawn by the recorded commands, static ones included. */
+    public int getInstanceCount() {
+        int total = 0;
+        for (int i = 0; i < counts.size; i++) total += counts.get(i);
+        return total;
+    }
+
+    /** {@link #STATIC} or {@link #INSTANCED}. */
+    public int getType(int command) {
+        return types.get(command);
+    }
+
+    /** The model of an instanced command, null for the static scene. */
+    public Model getModel(int command) {
+        return models.get(command);
+    }
+
+    public int getCount(int command) {
+        return counts.get(command);
+    }
+
+    /** How many times the static scene changed, which is how often a {@link GdxDrawQueue} rebuilds its cache. */
+    public int getStaticRebuilds() {
+        return staticRebuilds;
+    }
+}
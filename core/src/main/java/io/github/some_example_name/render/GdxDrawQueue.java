@@ -0,0 +1,100 @@
+package io.github.some_example_name.render;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelCache;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * {@link DrawQueue} that draws with GL.
+ * <p>
+ * The static scene is merged into a {@link ModelCache}, rebuilt only when its version changes,
+ * so the floor and walls take one draw call per material and vertex format instead of one
+ * per instance. Instances go to an {@link InstancedRenderer}, which draws all those of a model
+ * at once after the model batch has flushed. Without GL30, or for models the instanced shader
+ * does not support, every instance is rendered through the {@link ModelBatch} instead, from a
+ * pool of model instances kept per model.
+ */
+public class GdxDrawQueue implements DrawQueue, Disposable {
+
+    private final ModelBatch modelBatch;
+    private final ModelCache staticCache = new ModelCache();
+    private int staticVersion = -1;
+    private final InstancedRenderer instanced;
+    private final ObjectMap<Model, Array<ModelInstance>> fallbackInstances = new ObjectMap<>();
+    /** Fallback instances of each model already handed to the model batch this frame. */
+    private final ObjectIntMap<Model> fallbackUsed = new ObjectIntMap<>();
+    private Camera camera;
+    private Environment environment;
+
+    /** Draws with {@code modelBatch}, and instanced if GL30 is available. */
+    public GdxDrawQueue(ModelBatch modelBatch) {
+        this(modelBatch, Gdx.gl30 != null);
+    }
+
+    public GdxDrawQueue(ModelBatch modelBatch, boolean instancing) {
+        this.modelBatch = modelBatch;
+        instanced = instancing ? new InstancedRenderer() : null;
+    }
+
+    public boolean isInstancing() {
+        return instanced != null;
+    }
+
+    public void begin(Camera camera, Environment environment) {
+        this.camera = camera;
+        this.environment = environment;
+        fallbackUsed.clear();
+        modelBatch.begin(camera);
+    }
+
+    @Override
+    public void drawStatic(Array<ModelInstance> instances, int version) {
+        if (version != staticVersion) {
+            staticVersion = version;
+            staticCache.begin();
+            staticCache.add(instances);
+            staticCache.end();
+        }
+        modelBatch.render(staticCache, environment);
+    }
+
+    @Override
+    public void drawInstances(Model model, float[] transforms, int count) {
+        if (instanced != null && InstancedRenderer.supports(model)) {
+            instanced.add(model, transforms, count);
+            return;
+        }
+        Array<ModelInstance> pool = fallbackInstances.get(model);
+        if (pool == null) {
+            pool = new Array<>();
+            fallbackInstances.put(model, pool);
+        }
+        int used = fallbackUsed.getAndIncrement(model, 0, count);
+        while (pool.size < used + count) pool.add(new ModelInstance(model));
+        for (int i = 0; i < count; i++) {
+            ModelInstance instance = pool.get(used + i);
+            System.arraycopy(transforms, i * 16, instance.transform.val, 0, 16);
+            modelBatch.render(instance, environment);
+        }
+    }
+
+    /** Flushes the model batch, then draws the queued instances. */
+    public void end() {
+        modelBatch.end();
+        if (instanced != null) instanced.flush(camera, environment);
+    }
+
+    @Override
+    public void dispose() {
+        staticCache.dispose();
+        if (instanced != null) instanced.dispose();
+    }
+}
@@ -0,0 +1,268 @@
+package io.github.some_example_name.render;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+import com.badlogic.gdx.graphics.g3d.attributes.DirectionalLightsAttribute;
+import com.badlogic.gdx.graphics.g3d.attributes.TextureAttribute;
+import com.badlogic.gdx.graphics.g3d.environment.DirectionalLight;
+import com.badlogic.gdx.graphics.g3d.model.Node;
+import com.badlogic.gdx.graphics.g3d.model.NodePart;
+import com.badlogic.gdx.graphics.g3d.utils.DefaultTextureBinder;
+import com.badlogic.gdx.graphics.g3d.utils.RenderContext;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Draws every instance of a model with one instanced draw call per mesh part, the per
+ * instance transforms coming from an instance buffer refilled every frame. Needs GL30.
+ * <p>
+ * Instancing is enabled on copies of the models' meshes, so the models themselves can still
+ * be drawn by a {@link com.badlogic.gdx.graphics.g3d.ModelBatch}. The shader covers what the
+ * arena's models use: a diffuse texture and colour, ambient light and one directional light,
+ * lit per vertex like the default shader. Models whose meshes lack normals or texture
+ * coordinates are not {@link #supports supported}.
+ */
+public class InstancedRenderer implements Disposable {
+
+    private static final String VERTEX_SHADER = ""
+        + "attribute vec3 a_position;\n"
+        + "attribute vec3 a_normal;\n"
+        + "attribute vec2 a_texCoord0;\n"
+        + "attribute vec4 a_instance0;\n"
+        + "attribute vec4 a_instance1;\n"
+        + "attribute vec4 a_instance2;\n"
+        + "attribute vec4 a_instance3;\n"
+        + "uniform mat4 u_projViewTrans;\n"
+        + "uniform mat4 u_nodeTrans;\n"
+        + "uniform vec3 u_ambient;\n"
+        + "uniform vec3 u_lightDirection;\n"
+        + "uniform vec3 u_lightColor;\n"
+        + "varying vec2 v_texCoord;\n"
+        + "varying vec3 v_light;\n"
+        + "void main() {\n"
+        + "    mat4 world = mat4(a_instance0, a_instance1, a_instance2, a_instance3) * u_nodeTrans;\n"
+        + "    vec3 normal = normalize((world * vec4(a_normal, 0.0)).xyz);\n"
+        + "    v_texCoord = a_texCoord0;\n"
+        + "    v_light = u_ambient + u_lightColor * max(dot(normal, -u_lightDirection), 0.0);\n"
+        + "    gl_Position = u_projViewTrans * world * vec4(a_position, 1.0);\n"
+        + "}\n";
+
+    private static final String FRAGMENT_SHADER = ""
+        + "#ifdef GL_ES\n"
+        + "precision mediump float;\n"
+        + "#endif\n"
+        + "uniform sampler2D u_diffuseTexture;\n"
+        + "uniform vec4 u_diffuseColor;\n"
+        + "varying vec2 v_texCoord;\n"
+        + "varying vec3 v_light;\n"
+        + "void main() {\n"
+        + "    vec4 diffuse = texture2D(u_diffuseTexture, v_texCoord) * u_diffuseColor;\n"
+        + "    gl_FragColor = vec4(diffuse.rgb * v_light, diffuse.a);\n"
+        + "}\n";
+
+    /** The four columns of a {@link Matrix4}. */
+    private static final VertexAttribute[] INSTANCE_ATTRIBUTES = {
+        new VertexAttribute(Usage.Generic, 4, "a_instance0"),
+        new VertexAttribute(Usage.Generic, 4, "a_instance1"),
+        new VertexAttribute(Usage.Generic, 4, "a_instance2"),
+        new VertexAttribute(Usage.Generic, 4, "a_instance3"),
+    };
+
+    private final ShaderProgram shader;
+    private final RenderContext context = new RenderContext(new DefaultTextureBinder(DefaultTextureBinder.LRU, 1));
+    private final ObjectMap<Model, Batch> batches = new ObjectMap<>();
+    private final ObjectMap<Mesh, InstancedMesh> meshes = new ObjectMap<>();
+    private final Array<Batch> pending = new Array<>(false, 16);
+    private final Texture blank;
+    private final Color ambient = new Color();
+    private final Color lightColor = new Color();
+    private final Vector3 lightDirection = new Vector3(0f, -1f, 0f);
+
+    public InstancedRenderer() {
+        if (Gdx.gl30 == null) throw new GdxRuntimeException("Instanced rendering needs GL30");
+        shader = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+        if (!shader.isCompiled()) throw new GdxRuntimeException("Instanced shader: " + shader.getLog());
+        // bound for parts without a diffuse texture, so they still sample white
+        Pixmap white = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+        white.setColor(Color.WHITE);
+        white.fill();
+        blank = new Texture(white);
+        white.dispose();
+    }
+
+    /** Whether every mesh of {@code model} has the attributes the shader reads. */
+    public static boolean supports(Model model) {
+        for (Mesh mesh : model.meshes) {
+            if (mesh.getVertexAttribute(Usage.Position) == null
+                || mesh.getVertexAttribute(Usage.Normal) == null
+                || mesh.getVertexAttribute(Usage.TextureCoordinates) == null) return false;
+        }
+        return true;
+    }
+
+    /** Queues {@code count} instances of {@code model} for the next {@link #flush}, copying their transforms. */
+    public void add(Model model, float[] transforms, int count) {
+        if (count == 0) return;
+        Batch batch = batches.get(model);
+        if (batch == null) {
+            batch = new Batch(model);
+            batches.put(model, batch);
+        }
+        if (batch.count == 0) pending.add(batch);
+        batch.add(transforms, count);
+    }
+
+    /** Draws and forgets the queued instances, lit by {@code environment}. */
+    public void flush(Camera camera, Environment environment) {
+        if (pending.size == 0) return;
+        readLights(environment);
+        context.begin();
+        context.setDepthTest(GL20.GL_LEQUAL);
+        context.setDepthMask(true);
+        context.setCullFace(GL20.GL_BACK);
+        shader.bind();
+        shader.setUniformMatrix("u_projViewTrans", camera.combined);
+        shader.setUniformf("u_ambient", ambient.r, ambient.g, ambient.b);
+        shader.setUniformf("u_lightColor", lightColor.r, lightColor.g, lightColor.b);
+        shader.setUniformf("u_lightDirection", lightDirection);
+        for (Batch batch : pending) {
+            batch.draw();
+            batch.count = 0;
+        }
+        pending.clear();
+        context.end();
+    }
+
+    private void readLights(Environment environment) {
+        ambient.set(0f, 0f, 0f, 1f);
+        lightColor.set(0f, 0f, 0f, 1f);
+        ColorAttribute ambientLight = environment.get(ColorAttribute.class, ColorAttribute.AmbientLight);
+        if (ambientLight != null) ambient.set(ambientLight.color);
+        DirectionalLightsAttribute lights = environment.get(DirectionalLightsAttribute.class, DirectionalLightsAttribute.Type);
+        if (lights != null && lights.lights.size > 0) {
+            DirectionalLight light = lights.lights.first();
+            lightColor.set(light.color);
+            lightDirection.set(light.direction).nor();
+        }
+    }
+
+    private InstancedMesh getInstancedMesh(Mesh mesh) {
+        InstancedMesh instanced = meshes.get(mesh);
+        if (instanced == null) {
+            instanced = new InstancedMesh(mesh.copy(true));
+            meshes.put(mesh, instanced);
+        }
+        return instanced;
+    }
+
+    @Override
+    public void dispose() {
+        shader.dispose();
+        blank.dispose();
+        for (InstancedMesh mesh : meshes.values()) mesh.mesh.dispose();
+        meshes.clear();
+        batches.clear();
+    }
+
+    /** The node parts of one model and the transforms of its instances queued this frame. */
+    private class Batch {
+        final Array<Part> parts = new Array<>();
+        final Array<InstancedMesh> meshes = new Array<>();
+        float[] transforms = new float[0];
+        int count;
+
+        Batch(Model model) {
+            for (Node node : model.nodes) addParts(node);
+        }
+
+        private void addParts(Node node) {
+            for (NodePart nodePart : node.parts) {
+                if (!nodePart.enabled) continue;
+                InstancedMesh mesh = getInstancedMesh(nodePart.meshPart.mesh);
+                if (!meshes.contains(mesh, true)) meshes.add(mesh);
+                parts.add(new Part(mesh, nodePart, node.globalTransform));
+            }
+            for (Node child : node.getChildren()) addParts(child);
+        }
+
+        void add(float[] source, int n) {
+            int needed = (count + n) * 16;
+            if (transforms.length < needed) {
+                float[] grown = new float[Math.max(needed, transforms.length * 2)];
+                System.arraycopy(transforms, 0, grown, 0, count * 16);
+                transforms = grown;
+            }
+            System.arraycopy(source, 0, transforms, count * 16, n * 16);
+            count += n;
+        }
+
+        void draw() {
+            for (InstancedMesh mesh : meshes) mesh.upload(transforms, count);
+            for (Part part : parts) part.draw();
+        }
+    }
+
+    /** One node part, drawn from the instanced copy of its mesh. */
+    private class Part {
+        final InstancedMesh mesh;
+        final int primitiveType, offset, size;
+        final Matrix4 nodeTransform;
+        final Texture texture;
+        final Color color = new Color(Color.WHITE);
+
+        Part(InstancedMesh mesh, NodePart nodePart, Matrix4 nodeTransform) {
+            this.mesh = mesh;
+            this.primitiveType = nodePart.meshPart.primitiveType;
+            this.offset = nodePart.meshPart.offset;
+            this.size = nodePart.meshPart.size;
+            this.nodeTransform = nodeTransform;
+            Material material = nodePart.material;
+            TextureAttribute diffuse = material.get(TextureAttribute.class, TextureAttribute.Diffuse);
+            texture = diffuse != null ? diffuse.textureDescription.texture : null;
+            ColorAttribute diffuseColor = material.get(ColorAttribute.class, ColorAttribute.Diffuse);
+            if (diffuseColor != null) color.set(diffuseColor.color);
+        }
+
+        void draw() {
+            shader.setUniformMatrix("u_nodeTrans", nodeTransform);
+            shader.setUniformi("u_diffuseTexture", context.textureBinder.bind(texture != null ? texture : blank));
+            shader.setUniformf("u_diffuseColor", color);
+            mesh.mesh.render(shader, primitiveType, offset, size);
+        }
+    }
+
+    /** Copy of a model mesh with an instance buffer that grows to the largest batch drawn from it. */
+    private static class InstancedMesh {
+        final Mesh mesh;
+        int capacity;
+
+        InstancedMesh(Mesh mesh) {
+            this.mesh = mesh;
+        }
+
+        void upload(float[] transforms, int count) {
+            if (count > capacity) {
+                if (capacity > 0) mesh.disableInstancedRendering();
+                capacity = Math.max(count, capacity * 2);
+                mesh.enableInstancedRendering(false, capacity, INSTANCE_ATTRIBUTES);
+            }
+            mesh.setInstanceData(transforms, 0, count * 16);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.some_example_name.render;
+
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * A model with its levels of detail and a bounding sphere, computed once from the most
+ * detailed level, in model space.
+ */
+public class LodModel {
+
+    /** Projected radii in pixels below which the second and third levels are drawn. */
+    public static final float[] DEFAULT_THRESHOLDS = {40f, 16f};
+
+    private final Array<Model> levels;
+    private final float[] thresholds;
+    private final Vector3 center = new Vector3();
+    private final float radius;
+
+    public LodModel(Model model) {
+        this(Array.with(model));
+    }
+
+    public LodModel(Array<Model> levels) {
+        this(levels, DEFAULT_THRESHOLDS);
+    }
+
+    /** @param thresholds see {@link LodSelector#select}; only as many as there are extra levels are used */
+    public LodModel(Array<Model> levels, float[] thresholds) {
+        this.levels = levels;
+        int used = Math.min(thresholds.length, levels.size - 1);
+        this.thresholds = new float[used];
+        System.arraycopy(thresholds, 0, this.thresholds, 0, used);
+        BoundingBox bounds = levels.first().calculateBoundingBox(new BoundingBox());
+        bounds.getCenter(center);
+        radius = bounds.getDimensions(new Vector3()).len() / 2f;
+    }
+
+    public Model getLevel(int level) {
+        return levels.get(level);
+    }
+
+    public int getLevelCount() {
+        return levels.size;
+    }
+
+    public float[] getThresholds() {
+        return thresholds;
+    }
+
+    /** Centre of the bounding sphere in model space. */
+    public Vector3 getCenter() {
+        return center;
+    }
+
+    /** Radius of the bounding sphere in model space. */
+    public float getRadius() {
+        return radius;
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.some_example_name.render;
+
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.math.Vector3;
+
+/**
+ * Frustum culling and level-of-detail choice for bounding spheres, by how large they appear
+ * from a {@link PerspectiveCamera}.
+ * <p>
+ * A sphere's projected radius in pixels is its radius times the distance from the eye at
+ * which one world unit spans one pixel, divided by its distance. Level {@code i + 1} is
+ * chosen once that radius drops below {@code thresholds[i]}, then moved {@link #setBias bias}
+ * levels coarser. Only the camera's frustum, position, field of view and viewport are read,
+ * so this works without a GL context.
+ */
+public class LodSelector {
+
+    public static final int CULLED = -1;
+
+    private PerspectiveCamera camera;
+    private float pixelsPerUnit;
+    private int bias;
+
+    /** Takes over the camera's current state; call after each {@code camera.update()}. */
+    public void update(PerspectiveCamera camera) {
+        this.camera = camera;
+        pixelsPerUnit = camera.viewportHeight / 2f / (float) Math.tan(Math.toRadians(camera.fieldOfView / 2f));
+    }
+
+    /** Draws everything this many levels coarser than its size on screen calls for, as far as there are levels. */
+    public void setBias(int bias) {
+        this.bias = bias;
+    }
+
+    public int getBias() {
+        return bias;
+    }
+
+    /**
+     * Returns {@link #CULLED} if the sphere is entirely outside the frustum, otherwise the
+     * level of detail to draw it with, at most {@code thresholds.length}.
+     *
+     * @param thresholds projected radii in pixels, in decreasing order, below which each
+     *     following level is used
+     */
+    public int select(Vector3 center, float radius, float[] thresholds) {
+        if (!camera.frustum.sphereInFrustum(center, radius)) return CULLED;
+        if (thresholds.length == 0) return 0;
+        float distance = camera.position.dst(center);
+        int level = 0;
+        if (distance > radius) {
+            float projected = radius * pixelsPerUnit / distance;
+            while (level < thresholds.length && projected < thresholds[level]) level++;
+        }
+        return Math.min(level + bias, thresholds.length);
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.some_example_name.render;
+
+import java.util.Arrays;
+
+/**
+ * Picks a quality tier from recent frame times: steps down while frames run over budget and
+ * back up once they have stayed comfortably within it.
+ * <p>
+ * Frame times go into a rolling window of {@code windowSize} frames. Once the window is full,
+ * a frame whose window has a 95th percentile above {@code target * downgradeRatio} moves to
+ * the next cheaper tier. Moving back up takes the percentile staying at or below
+ * {@code target * upgradeRatio} for {@code upgradeHold} frames in a row, and each time an
+ * upgrade is followed by a downgrade within the hold, the hold for the next upgrade doubles,
+ * up to {@code maxUpgradeHold}; this is the hysteresis that keeps a machine right at the edge
+ * of a tier from flipping between two. Every change empties the window, so the next decision
+ * only looks at frames rendered at the new tier.
+ * <p>
+ * The governor only does arithmetic on the times it is given, so synthetic traces drive it
+ * exactly like a real frame loop; it does not allocate after construction.
+ */
+public class QualityGovernor {
+
+    public static final int DEFAULT_WINDOW = 120;
+    public static final float DEFAULT_DOWNGRADE_RATIO = 1.25f;
+    /** At or barely above the target, as vsync holds frame times right at it. */
+    public static final float DEFAULT_UPGRADE_RATIO = 1.05f;
+    public static final int DEFAULT_UPGRADE_HOLD = 300;
+    public static final int DEFAULT_MAX_UPGRADE_HOLD = 4800;
+
+    private final int tierCount;
+    private final float downgradeThreshold;
+    private final float upgradeThreshold;
+    private final int baseUpgradeHold;
+    private final int maxUpgradeHold;
+
+    private final float[] window;
+    private final float[] sorted;
+    private int windowCount;
+    private int windowNext;
+
+    private int tier;
+    private int upgradeHold;
+    private int framesWithinBudget;
+    /** Frames since the last upgrade, or -1 if a downgrade came after it. */
+    private int framesSinceUpgrade = -1;
+
+    /** Governs {@code tierCount} tiers against a frame time budget of {@code target} seconds, with the default tuning. */
+    public QualityGovernor(int tierCount, float target) {
+        this(tierCount, target, DEFAULT_WINDOW, DEFAULT_DOWNGRADE_RATIO, DEFAULT_UPGRADE_RATIO, DEFAULT_UPGRADE_HOLD,
+            DEFAULT_MAX_UPGRADE_HOLD);
+    }
+
+    public QualityGovernor(int tierCount, float target, int windowSize, float downgradeRatio, float upgradeRatio,
+                           int upgradeHold, int maxUpgradeHold) {
+        if (tierCount < 1) throw new IllegalArgumentException("tierCount must be at least 1: " + tierCount);
+        if (upgradeRatio > downgradeRatio) throw new IllegalArgumentException("upgradeRatio must not exceed downgradeRatio");
+        this.tierCount = tierCount;
+        downgradeThreshold = target * downgradeRatio;
+        upgradeThreshold = target * upgradeRatio;
+        baseUpgradeHold = upgradeHold;
+        this.maxUpgradeHold = Math.max(upgradeHold, maxUpgradeHold);
+        this.upgradeHold = upgradeHold;
+        window = new float[windowSize];
+        sorted = new float[windowSize];
+    }
+
+    /**
+     * Records the duration of one frame in seconds and returns whether the tier changed as a
+     * result; if so, apply {@link #getTier()} before the next frame.
+     */
+    public boolean frame(float seconds) {
+        window[windowNext] = seconds;
+        windowNext = (windowNext + 1) % window.length;
+        if (windowCount < window.length) windowCount++;
+        if (framesSinceUpgrade >= 0) framesSinceUpgrade++;
+        if (windowCount < window.length) return false;
+
+        float p95 = percentile(0.95f);
+        if (p95 > downgradeThreshold) {
+            framesWithinBudget = 0;
+            if (tier == tierCount - 1) return false;
+            if (framesSinceUpgrade >= 0 && framesSinceUpgrade < upgradeHold) {
+                // the tier just left was too expensive after all; wait longer before trying it again
+                upgradeHold = Math.min(upgradeHold * 2, maxUpgradeHold);
+            }
+            framesSinceUpgrade = -1;
+            setTier(tier + 1);
+            return true;
+        }
+        if (p95 > upgradeThreshold || tier == 0) {
+            framesWithinBudget = 0;
+            return false;
+        }
+        if (++framesWithinBudget < upgradeHold) return false;
+        framesWithinBudget = 0;
+        framesSinceUpgrade = 0;
+        setTier(tier - 1);
+        return true;
+    }
+
+    private float percentile(float p) {
+        System.arraycopy(window, 0, sorted, 0, window.length);
+        Arrays.sort(sorted);
+        return sorted[Math.min(window.length - 1, (int) Math.ceil(p * window.length) - 1)];
+    }
+
+    private void setTier(int tier) {
+        this.tier = tier;
+        windowCount = 0;
+        windowNext = 0;
+    }
+
+    /** Current tier, 0 being the best quality. */
+    public int getTier() {
+        return tier;
+    }
+
+    /** Frames the percentile must stay within budget before the next upgrade. */
+    public int getUpgradeHold() {
+        return upgradeHold;
+    }
+
+    /** Back to the best tier with an empty window and the initial upgrade hold. */
+    public void reset() {
+        setTier(0);
+        upgradeHold = baseUpgradeHold;
+        framesWithinBudget = 0;
+        framesSinceUpgrade = -1;
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.some_example_name.render;
+
+/**
+ * One step of the rendering quality ladder a {@link QualityGovernor} moves along. Each setting
+ * trades a different cost: fill rate, vertices, per-fragment lighting and per-laser work.
+ */
+public class QualityTier {
+
+    /** From full quality down to the cheapest; the governor starts at the first. */
+    public static final QualityTier[] DEFAULTS = {
+        new QualityTier("high", 1f, 0, true, Integer.MAX_VALUE),
+        new QualityTier("medium", 1f, 1, true, 2000),
+        new QualityTier("low", 0.75f, 1, false, 1000),
+        new QualityTier("lowest", 0.5f, 2, false, 500),
+    };
+
+    public final String name;
+    /** Fraction of the window's size the scene is rendered at before being scaled up. */
+    public final float renderScale;
+    /** Levels of detail added to every model's choice; see {@link LodSelector#setBias}. */
+    public final int lodBias;
+    /** Whether the directional light is on; without it the scene is lit by ambient light only. */
+    public final boolean directionalLight;
+    /** Lasers drawn with their selected level of detail; the rest get the coarsest. */
+    public final int detailedLasers;
+
+    public QualityTier(String name, float renderScale, int lodBias, boolean directionalLight, int detailedLasers) {
+        this.name = name;
+        this.renderScale = renderScale;
+        this.lodBias = lodBias;
+        this.directionalLight = directionalLight;
+        this.detailedLasers = detailedLasers;
+    }
+}
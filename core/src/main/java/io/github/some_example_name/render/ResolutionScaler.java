@@ -0,0 +1,74 @@
+package io.github.some_example_name.render;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Renders the scene at a fraction of the window's size into an offscreen {@link FrameBuffer}
+ * and stretches it over the window, trading sharpness for fill rate. At a scale of 1 it stays
+ * out of the way and the scene is drawn straight to the window.
+ * <p>
+ * The frame buffer is only recreated when the scaled size changes. Everything drawn between
+ * {@link #begin} and {@link #end} lands in it, so the HUD should be drawn after {@link #end}
+ * to stay sharp.
+ */
+public class ResolutionScaler implements Disposable {
+
+    private final SpriteBatch batch;
+    private FrameBuffer frameBuffer;
+    private float scale = 1f;
+    private boolean active;
+
+    /** @param batch used to draw the scaled scene; not owned */
+    public ResolutionScaler(SpriteBatch batch) {
+        this.batch = batch;
+    }
+
+    /** Fraction of the window's width and height to render at, up to 1. */
+    public void setScale(float scale) {
+        this.scale = Math.min(1f, scale);
+    }
+
+    public float getScale() {
+        return scale;
+    }
+
+    /** Redirects rendering into the frame buffer if the scale is below 1. */
+    public void begin() {
+        active = scale < 1f;
+        if (!active) return;
+        int width = Math.max(1, Math.round(Gdx.graphics.getBackBufferWidth() * scale));
+        int height = Math.max(1, Math.round(Gdx.graphics.getBackBufferHeight() * scale));
+        if (frameBuffer == null || frameBuffer.getWidth() != width || frameBuffer.getHeight() != height) {
+            if (frameBuffer != null) frameBuffer.dispose();
+            frameBuffer = new FrameBuffer(Pixmap.Format.RGB888, width, height, true);
+            frameBuffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        }
+        frameBuffer.begin();
+    }
+
+    /** Stretches what was rendered since {@link #begin} over the window. */
+    public void end() {
+        if (!active) return;
+        frameBuffer.end();
+        int width = Gdx.graphics.getWidth(), height = Gdx.graphics.getHeight();
+        batch.getProjectionMatrix().setToOrtho2D(0, 0, width, height);
+        batch.disableBlending();
+        batch.begin();
+        // frame buffer textures are upside down
+        batch.draw(frameBuffer.getColorBufferTexture(), 0, 0, width, height, 0, 0, 1, 1);
+        batch.end();
+        batch.enableBlending();
+        active = false;
+    }
+
+    @Override
+    public void dispose() {
+        if (frameBuffer != null) frameBuffer.dispose();
+        frameBuffer = null;
+    }
+}
@@ -0,0 +1,231 @@
+package io.github.some_example_name.render;
+
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import io.github.some_example_name.ecs.RenderableComponent;
+import io.github.some_example_name.ecs.WallComponent;
+import io.github.some_example_name.sim.WorldSnapshot;
+
+import java.util.Arrays;
+
+/**
+ * Turns the renderables and lasers of a {@link WorldSnapshot} into the draw commands of a
+ * {@link DrawQueue}.
+ * <p>
+ * Walls never move, so they join the instances added with {@link #addStatic} in the static
+ * scene, whose version only changes when a wall does. Every other instance's transform is
+ * packed into a buffer per kind and level of detail, and each buffer becomes one
+ * {@link DrawQueue#drawInstances} command, so entities never own render state. Transforms are
+ * built for the whole snapshot at once by a {@link TransformBatch}. Each instance's bounding
+ * sphere is its {@link LodModel}'s, moved by its transform; instances outside the camera
+ * frustum are not submitted at all and the others get a level of detail by their size on
+ * screen, see {@link LodSelector}. Lasers past the {@link #setDetailedLasers detail budget}
+ * all get the coarsest level.
+ * <p>
+ * The renderer never reads the world itself, so it works the same whether the snapshot was
+ * captured on the render thread or published by a
+ * {@link io.github.some_example_name.sim.SimulationThread}; call {@link #sync} and
+ * {@link #submit} once per frame.
+ */
+public class SnapshotRenderer {
+
+    private final LodModel[] models = new LodModel[RenderableComponent.KIND_COUNT];
+    private final float[] scales = new float[RenderableComponent.KIND_COUNT];
+    private final InstanceList[][] instances = new InstanceList[RenderableComponent.KIND_COUNT][];
+    private LodModel laserModel;
+    private float laserScale;
+    private InstanceList[] laserInstances = new InstanceList[0];
+
+    /** Instances added with {@link #addStatic}, followed by one per wall. */
+    private final Array<ModelInstance> staticInstances = new Array<>();
+    private int addedStatics;
+    private final Array<ModelInstance> wallInstances = new Array<>();
+    private float[] wallTransforms = new float[0];
+    private int wallCount;
+    private int staticVersion;
+
+    private final TransformBatch batch = TransformBatch.create();
+    private final TransformBatch laserBatch = TransformBatch.create();
+    private final LodSelector selector = new LodSelector();
+    private float[] instanceScales = new float[0];
+    private float[] laserScales = new float[0];
+    private int culled;
+    private int detailedLasers = Integer.MAX_VALUE;
+    private final Vector3 tmpPosition = new Vector3();
+    private final Vector3 tmpSize = new Vector3();
+    private final Matrix4 tmpMatrix = new Matrix4();
+
+    /**
+     * Draws renderables of {@code kind} with {@code model} scaled uniformly by {@code scale}.
+     * Walls are instead scaled to their {@link WallComponent#size}, so their model should be a
+     * unit box; they are always drawn at full detail, as part of the static scene.
+     */
+    public void setModel(int kind, LodModel model, float scale) {
+        models[kind] = model;
+        scales[kind] = scale;
+        instances[kind] = createLists(model);
+        if (kind == RenderableComponent.WALL) {
+            wallInstances.clear();
+            wallCount = -1;
+        }
+    }
+
+    public void setLaserModel(LodModel model, float scale) {
+        laserModel = model;
+        laserScale = scale;
+        laserInstances = createLists(model);
+        Arrays.fill(laserScales, scale);
+    }
+
+    /** Adds scenery that never moves, such as the floor, to the static scene. */
+    public void addStatic(ModelInstance instance) {
+        staticInstances.insert(addedStatics++, instance);
+        staticVersion++;
+    }
+
+    /**
+     * Packs the snapshot's transforms, interpolated a fraction {@code alpha} of the way from
+     * the start to the end of its tick, for the instances that {@code camera} sees at their
+     * levels of detail. The camera must be up to date.
+     */
+    public void sync(WorldSnapshot snapshot, float alpha, PerspectiveCamera camera) {
+        selector.update(camera);
+        culled = 0;
+
+        int n = snapshot.size;
+        if (instanceScales.length < n) instanceScales = new float[Math.max(n, instanceScales.length * 2)];
+        for (int i = 0; i < n; i++) instanceScales[i] = scales[snapshot.kind[i]];
+        batch.interpolate(snapshot.previous, snapshot.position, alpha, n);
+        batch.fill(snapshot.direction, instanceScales, n);
+
+        for (InstanceList[] lists : instances) reset(lists);
+        boolean wallsChanged = false;
+        int walls = 0;
+        for (int i = 0; i < n; i++) {
+            int kind = snapshot.kind[i];
+            LodModel model = models[kind];
+            if (model == null) continue;
+            if (kind == RenderableComponent.WALL) {
+                Vector3 size = snapshot.getExtent(i, tmpSize);
+                tmpMatrix.setToTranslation(batch.getPosition(i, tmpPosition)).scale(size.x, size.y, size.z);
+                wallsChanged |= putWall(walls++, tmpMatrix);
+                continue;
+            }
+            int level = select(batch, i, model, scales[kind]);
+            if (level != LodSelector.CULLED) instances[kind][level].add(batch, i);
+        }
+        if (wallsChanged || walls != wallCount) rebuildStatics(walls);
+
+        reset(laserInstances);
+        int lasers = laserModel == null ? 0 : snapshot.laserCount;
+        if (laserScales.length < lasers) {
+            laserScales = new float[Math.max(lasers, laserScales.length * 2)];
+            Arrays.fill(laserScales, laserScale);
+        }
+        // lasers move in straight lines, so their velocity also serves as their direction
+        laserBatch.extrapolate(snapshot.laserPosition, snapshot.laserVelocity, (alpha - 1f) * snapshot.dt, lasers);
+        laserBatch.fill(snapshot.laserVelocity, laserScales, lasers);
+        int coarsest = laserInstances.length - 1, detailed = 0;
+        for (int i = 0; i < lasers; i++) {
+            int level = select(laserBatch, i, laserModel, laserScale);
+            if (level == LodSelector.CULLED) continue;
+            if (detailed < detailedLasers) detailed++;
+            else level = coarsest;
+            laserInstances[level].add(laserBatch, i);
+        }
+    }
+
+    /** Sends the static scene and the instances picked by the last {@link #sync} to {@code queue}. */
+    public void submit(DrawQueue queue) {
+        if (staticInstances.size > 0) queue.drawStatic(staticInstances, staticVersion);
+        for (InstanceList[] lists : instances) submit(lists, queue);
+        submit(laserInstances, queue);
+    }
+
+    /** Sets the lasers drawn at their own level of detail per frame; the rest take the coarsest. */
+    public void setDetailedLasers(int detailedLasers) {
+        this.detailedLasers = detailedLasers;
+    }
+
+    /** LOD choice for every model; see {@link LodSelector#setBias}. */
+    public void setLodBias(int bias) {
+        selector.setBias(bias);
+    }
+
+    /** Instances left out by the last {@link #sync} because the camera could not see them. */
+    public int getCulledCount() {
+        return culled;
+    }
+
+    /** Stores the transform of wall {@code w}, returning whether it differs from the last frame's. */
+    private boolean putWall(int w, Matrix4 transform) {
+        if (wallTransforms.length < (w + 1) * 16) wallTransforms = Arrays.copyOf(wallTransforms, Math.max((w + 1) * 16, wallTransforms.length * 2));
+        boolean changed = w >= wallCount;
+        for (int j = 0, o = w * 16; j < 16; j++) {
+            if (wallTransforms[o + j] != transform.val[j]) {
+                wallTransforms[o + j] = transform.val[j];
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private void rebuildStatics(int walls) {
+        Model wallModel = models[RenderableComponent.WALL].getLevel(0);
+        while (wallInstances.size < walls) wallInstances.add(new ModelInstance(wallModel));
+        staticInstances.truncate(addedStatics);
+        for (int w = 0; w < walls; w++) {
+            ModelInstance wall = wallInstances.get(w);
+            System.arraycopy(wallTransforms, w * 16, wall.transform.val, 0, 16);
+            staticInstances.add(wall);
+        }
+        wallCount = walls;
+        staticVersion++;
+    }
+
+    private int select(TransformBatch batch, int i, LodModel model, float scale) {
+        Vector3 center = batch.transform(i, tmpPosition.set(model.getCenter()));
+        int level = selector.select(center, model.getRadius() * scale, model.getThresholds());
+        if (level == LodSelector.CULLED) culled++;
+        return level;
+    }
+
+    private static InstanceList[] createLists(LodModel model) {
+        InstanceList[] lists = new InstanceList[model.getLevelCount()];
+        for (int level = 0; level < lists.length; level++) lists[level] = new InstanceList(model.getLevel(level));
+        return lists;
+    }
+
+    private static void reset(InstanceList[] lists) {
+        if (lists == null) return;
+        for (InstanceList list : lists) list.count = 0;
+    }
+
+    private static void submit(InstanceList[] lists, DrawQueue queue) {
+        if (lists == null) return;
+        for (InstanceList list : lists) {
+            if (list.count > 0) queue.drawInstances(list.model, list.transforms, list.count);
+        }
+    }
+
+    /** Packed transforms of one model, the first {@link #count} of which are drawn this frame. */
+    private static class InstanceList {
+        final Model model;
+        float[] transforms = new float[0];
+        int count;
+
+        InstanceList(Model model) {
+            this.model = model;
+        }
+
+        /** Appends the transform of instance {@code i} of {@code batch}. */
+        void add(TransformBatch batch, int i) {
+            if ((count + 1) * 16 > transforms.length) transforms = Arrays.copyOf(transforms, Math.max(16, transforms.length * 2));
+            batch.get(i, transforms, count++ * 16);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package io.github.some_example_name.render;
+
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+
+import java.util.Arrays;
+
+/**
+ * Builds model transforms for a batch of instances from flat {@code x, y, z} arrays, such as
+ * those of a {@link io.github.some_example_name.sim.WorldSnapshot}.
+ * <p>
+ * Every model in the arena only turns about the Y axis, so instead of
+ * {@code setToLookAt(direction, Y).inv().setTranslation(position).scale(s, s, s)}, which
+ * inverts a full 4x4 matrix per instance, the rotation is written directly from the
+ * direction's X and Z: the model's +X axis goes to {@code (-dz, 0, dx)} and its +Z axis to
+ * {@code (-dx, 0, -dz)}. The result is the same as the look-at for any horizontal direction;
+ * the direction's Y is ignored and a zero direction faces -Z.
+ * <p>
+ * Positions are first staged with {@link #interpolate} or {@link #extrapolate}, then
+ * {@link #fill} writes one column-major matrix per instance, which {@link #get} copies out.
+ * Only the translation, rotation and scale entries are ever written; the others keep their
+ * identity values.
+ * <p>
+ * This class is the scalar implementation, whose flat staging loops C2 already
+ * auto-vectorizes. {@link #create()} returns the {@code jdk.incubator.vector} one from the
+ * {@code simd} module instead when {@code -Dtransforms.simd=true} is set, the module is on the
+ * classpath and the JVM has {@code jdk.incubator.vector}; its results are bit-identical.
+ */
+public class TransformBatch {
+
+    private static final String VECTOR_IMPLEMENTATION = "io.github.some_example_name.simd.VectorTransformBatch";
+    private static final String VECTOR_PROPERTY = "transforms.simd";
+
+    /** Staged positions, 3 floats per instance. */
+    protected float[] positions = new float[0];
+    /** Matrices in {@link Matrix4#val} layout, 16 floats per instance. */
+    protected float[] matrices = new float[0];
+
+    /** The vectorized batch if it is enabled and can be loaded, otherwise a scalar one. */
+    public static TransformBatch create() {
+        if (!Boolean.getBoolean(VECTOR_PROPERTY)) return new TransformBatch();
+        try {
+            return (TransformBatch) Class.forName(VECTOR_IMPLEMENTATION).getConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // no simd module, or a JVM started without --add-modules jdk.incubator.vector
+            return new TransformBatch();
+        }
+    }
+
+    /** Whether this batch uses SIMD instructions for its loops. */
+    public boolean isVectorized() {
+        return false;
+    }
+
+    /** Stages {@code from + (to - from) * alpha} for the first {@code count} instances. */
+    public void interpolate(float[] from, float[] to, float alpha, int count) {
+        ensureCapacity(count);
+        float[] out = positions;
+        for (int i = 0, n = count * 3; i < n; i++) out[i] = from[i] + (to[i] - from[i]) * alpha;
+    }
+
+    /** Stages {@code position + velocity * t} for the first {@code count} instances. */
+    public void extrapolate(float[] position, float[] velocity, float t, int count) {
+        ensureCapacity(count);
+        float[] out = positions;
+        for (int i = 0, n = count * 3; i < n; i++) out[i] = position[i] + velocity[i] * t;
+    }
+
+    /**
+     * Writes the matrices of the first {@code count} staged instances, facing along
+     * {@code direction}, which need not be normalized, and scaled by {@code scale}.
+     */
+    public void fill(float[] direction, float[] scale, int count) {
+        fillRange(direction, scale, 0, count);
+    }
+
+    /** {@link #fill} for instances {@code start} to {@code end}, exclusive. */
+    protected void fillRange(float[] direction, float[] scale, int start, int end) {
+        float[] p = positions, m = matrices;
+        for (int i = start; i < end; i++) {
+            float dx = direction[i * 3], dz = direction[i * 3 + 2], s = scale[i];
+            float length2 = dx * dx + dz * dz;
+            float sx, sz;
+            if (length2 == 0f) {
+                sx = 0f;
+                sz = -s;
+            } else {
+                float k = s / (float) Math.sqrt(length2);
+                sx = dx * k;
+                sz = dz * k;
+            }
+            int o = i * 16;
+            m[o + Matrix4.M00] = -sz;
+            m[o + Matrix4.M20] = sx;
+            m[o + Matrix4.M11] = s;
+            m[o + Matrix4.M02] = -sx;
+            m[o + Matrix4.M22] = -sz;
+            m[o + Matrix4.M03] = p[i * 3];
+            m[o + Matrix4.M13] = p[i * 3 + 1];
+            m[o + Matrix4.M23] = p[i * 3 + 2];
+        }
+    }
+
+    /** Copies the matrix of instance {@code i} written by the last {@link #fill}. */
+    public Matrix4 get(int i, Matrix4 out) {
+        System.arraycopy(matrices, i * 16, out.val, 0, 16);
+        return out;
+    }
+
+    /** Copies the matrix of instance {@code i} into {@code out} from {@code offset}, 16 floats. */
+    public void get(int i, float[] out, int offset) {
+        System.arraycopy(matrices, i * 16, out, offset, 16);
+    }
+
+    /** Transforms the model-space point {@code point} by the matrix of instance {@code i}. */
+    public Vector3 transform(int i, Vector3 point) {
+        float[] m = matrices;
+        int o = i * 16;
+        return point.set(
+            m[o + Matrix4.M00] * point.x + m[o + Matrix4.M01] * point.y + m[o + Matrix4.M02] * point.z + m[o + Matrix4.M03],
+            m[o + Matrix4.M10] * point.x + m[o + Matrix4.M11] * point.y + m[o + Matrix4.M12] * point.z + m[o + Matrix4.M13],
+            m[o + Matrix4.M20] * point.x + m[o + Matrix4.M21] * point.y + m[o + Matrix4.M22] * point.z + m[o + Matrix4.M23]);
+    }
+
+    /** The staged position of instance {@code i}. */
+    public Vector3 getPosition(int i, Vector3 out) {
+        return out.set(positions[i * 3], positions[i * 3 + 1], positions[i * 3 + 2]);
+    }
+
+    protected void ensureCapacity(int count) {
+        int capacity = positions.length / 3;
+        if (count <= capacity) return;
+        int grown = Math.max(count, capacity * 2);
+        positions = Arrays.copyOf(positions, grown * 3);
+        matrices = Arrays.copyOf(matrices, grown * 16);
+        for (int i = capacity; i < grown; i++) matrices[i * 16 + Matrix4.M33] = 1f;
+    }
+}
@@ -0,0 +1,268 @@
+package io.github.some_example_name.replay;
+
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongArray;
+import io.github.some_example_name.sim.InputState;
+import io.github.some_example_name.sim.World;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A recorded session: everything needed to rebuild the starting {@link World} plus the
+ * input of every tick, and the state the world ended in as a fingerprint for playback.
+ * <p>
+ * Inputs are stored as runs of identical {@link InputState#toMask() masks}, each encoded as
+ * one varint {@code length << MASK_BITS | mask}, so holding a key costs a couple of bytes
+ * however long it is held; a minute of play is typically well under a kilobyte. Runs with
+ * directions {@link InputState#getPartial() held for part of each tick} are written as the
+ * mask alone, which no whole-tick run can be since it would have no length, followed by the
+ * {@link InputState#getHoldSteps steps} of each such direction packed seven bits apart and
+ * the length, both as varints. Those only occur around key events, so they cost a few bytes
+ * per press. Fixed-size header and footer fields are written with {@link DataOutputStream}.
+ * <p>
+ * The projectile engine is not recorded; playback uses the default one.
+ */
+public class Replay {
+
+    public static final int MAGIC = 0x44545250; // "DTRP"
+    /** Bumped whenever the simulation rules change, since older replays no longer reproduce. */
+    public static final int VERSION = 5;
+
+    private static final int HOLD_BITS = 7;
+
+    private long seed;
+    private float fixedDt;
+    private boolean sweptCollisions;
+    private int steeringBudget;
+    private final Vector3 forward = new Vector3();
+    private final Vector3 right = new Vector3();
+
+    private final IntArray masks = new IntArray();
+    /** Packed steps of the partially held directions of each run, 0 if none. */
+    private final IntArray holds = new IntArray();
+    private final LongArray lengths = new LongArray();
+    private long ticks;
+
+    private boolean finished;
+    private float survivalTime;
+    private final Vector3 playerPosition = new Vector3();
+    private boolean gameOver;
+    private int laserCount, obstacleCount;
+
+    private Replay() {
+    }
+
+    /** Starts recording {@code world}, which must not have been stepped yet. */
+    public static Replay start(World world, float fixedDt) {
+        Replay replay = new Replay();
+        replay.seed = world.getSeed();
+        replay.fixedDt = fixedDt;
+        replay.sweptCollisions = world.isSweptCollisions();
+        replay.steeringBudget = world.getSteeringBudget();
+        replay.forward.set(world.getForward());
+        replay.right.set(world.getRight());
+        return replay;
+    }
+
+    /** Appends the input of one tick. */
+    public void record(InputState input) {
+        int mask = input.toMask();
+        int hold = packHolds(input);
+        int last = masks.size - 1;
+        if (last >= 0 && masks.get(last) == mask && holds.get(last) == hold) {
+            lengths.incr(last, 1);
+        } else {
+            masks.add(mask);
+            holds.add(hold);
+            lengths.add(1);
+        }
+        ticks++;
+    }
+
+    /** Stores the state {@code world} ended in, which playback is checked against. */
+    public void finish(World world) {
+        finished = true;
+        survivalTime = world.getSurvivalTime();
+        playerPosition.set(world.getPlayerPosition());
+        gameOver = world.isGameOver();
+        laserCount = world.getLasers().size();
+        obstacleCount = world.getObstacles().size();
+    }
+
+    /** Builds a world in the state this replay started from. */
+    public World createWorld() {
+        World world = new World();
+        world.setSeed(seed);
+        world.setMoveAxes(forward, right);
+        world.setSweptCollisions(sweptCollisions);
+        world.setSteeringBudget(steeringBudget);
+        return world;
+    }
+
+    /** Whether {@code world} ended in the recorded state; always true for unfinished replays. */
+    public boolean matches(World world) {
+        if (!finished) return true;
+        return world.getSurvivalTime() == survivalTime
+            && world.getPlayerPosition().equals(playerPosition)
+            && world.isGameOver() == gameOver
+            && world.getLasers().size() == laserCount
+            && world.getObstacles().size() == obstacleCount;
+    }
+
+    public void write(OutputStream stream) throws IOException {
+        DataOutputStream out = new DataOutputStream(stream);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(seed);
+        out.writeFloat(fixedDt);
+        out.writeBoolean(sweptCollisions);
+        out.writeInt(steeringBudget);
+        writeVector(out, forward);
+        writeVector(out, right);
+
+        for (int i = 0; i < masks.size; i++) {
+            int hold = holds.get(i);
+            if (hold != 0) {
+                writeVarLong(out, masks.get(i));
+                writeVarLong(out, hold);
+                writeVarLong(out, lengths.get(i));
+            } else {
+                writeVarLong(out, lengths.get(i) << InputState.MASK_BITS | masks.get(i));
+            }
+        }
+        writeVarLong(out, 0);
+
+        writeVarLong(out, ticks);
+        out.writeBoolean(finished);
+        if (finished) {
+            out.writeFloat(survivalTime);
+            writeVector(out, playerPosition);
+            out.writeBoolean(gameOver);
+            writeVarLong(out, laserCount);
+            writeVarLong(out, obstacleCount);
+        }
+        out.flush();
+    }
+
+    public static Replay read(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(stream);
+        if (in.readInt() != MAGIC) throw new IOException("Not a replay");
+        int version = in.readInt();
+        if (version != VERSION) throw new IOException("Unsupported replay version " + version);
+        Replay replay = new Replay();
+        replay.seed = in.readLong();
+        replay.fixedDt = in.readFloat();
+        replay.sweptCollisions = in.readBoolean();
+        replay.steeringBudget = in.readInt();
+        readVector(in, replay.forward);
+        readVector(in, replay.right);
+
+        long total = 0;
+        for (long run = readVarLong(in); run != 0; run = readVarLong(in)) {
+            long length = run >>> InputState.MASK_BITS;
+            replay.masks.add((int) (run & (1 << InputState.MASK_BITS) - 1));
+            replay.holds.add(length == 0 ? (int) readVarLong(in) : 0);
+            if (length == 0) length = readVarLong(in);
+            replay.lengths.add(length);
+            total += length;
+        }
+        replay.ticks = readVarLong(in);
+        if (replay.ticks != total) throw new IOException("Corrupt replay: " + total + " of " + replay.ticks + " ticks");
+        replay.finished = in.readBoolean();
+        if (replay.finished) {
+            replay.survivalTime = in.readFloat();
+            readVector(in, replay.playerPosition);
+            replay.gameOver = in.readBoolean();
+            replay.laserCount = (int) readVarLong(in);
+            replay.obstacleCount = (int) readVarLong(in);
+        }
+        return replay;
+    }
+
+    /** Steps of each partially held direction of {@code input}, seven bits per direction. */
+    private static int packHolds(InputState input) {
+        int partial = input.getPartial();
+        int hold = 0;
+        for (int i = 0; i < InputState.DIRECTIONS; i++) {
+            if ((partial & 1 << i) != 0) hold |= input.getHoldSteps(1 << i) << i * HOLD_BITS;
+        }
+        return hold;
+    }
+
+    private static void writeVector(DataOutputStream out, Vector3 v) throws IOException {
+        out.writeFloat(v.x);
+        out.writeFloat(v.y);
+        out.writeFloat(v.z);
+    }
+
+    private static void readVector(DataInputStream in, Vector3 v) throws IOException {
+        v.set(in.readFloat(), in.readFloat(), in.readFloat());
+    }
+
+    /** Unsigned LEB128: seven bits per byte, high bit set on all but the last. */
+    static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7fL) != 0) {
+            out.writeByte((int) (value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public float getFixedDt() {
+        return fixedDt;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public int getRunCount() {
+        return masks.size;
+    }
+
+    public int getRunMask(int run) {
+        return masks.get(run);
+    }
+
+    /** Sets {@code out} to the input of every tick of {@code run}. */
+    public InputState getRunInput(int run, InputState out) {
+        out.setMask(masks.get(run));
+        int hold = holds.get(run);
+        for (int i = 0; hold != 0 && i < InputState.DIRECTIONS; i++) {
+            int steps = hold >>> i * HOLD_BITS & (1 << HOLD_BITS) - 1;
+            if (steps != 0) out.setHold(1 << i, steps);
+        }
+        return out;
+    }
+
+    public long getRunLength(int run) {
+        return lengths.get(run);
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public float getSurvivalTime() {
+        return survivalTime;
+    }
+}
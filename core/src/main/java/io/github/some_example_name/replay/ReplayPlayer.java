@@ -0,0 +1,47 @@
+package io.github.some_example_name.replay;
+
+import io.github.some_example_name.sim.InputState;
+import io.github.some_example_name.sim.Simulation;
+import io.github.some_example_name.sim.World;
+
+/**
+ * Re-simulates a {@link Replay} headlessly as fast as the simulation allows: no rendering,
+ * no frame pacing, just one {@link Simulation#tick} per recorded input.
+ */
+public class ReplayPlayer {
+
+    private final InputState input = new InputState();
+
+    public Result play(Replay replay) {
+        World world = replay.createWorld();
+        Simulation simulation = new Simulation(world, replay.getFixedDt());
+        long start = System.nanoTime();
+        for (int run = 0; run < replay.getRunCount(); run++) {
+            for (long i = replay.getRunLength(run); i > 0; i--) {
+                // the simulation clears restart after each tick
+                simulation.tick(replay.getRunInput(run, input));
+            }
+        }
+        long nanos = System.nanoTime() - start;
+        return new Result(world, simulation.getTicks(), nanos, replay.matches(world));
+    }
+
+    public static class Result {
+        public final World world;
+        public final long ticks;
+        public final long nanos;
+        /** Whether the run ended in the state recorded in the replay. */
+        public final boolean matches;
+
+        Result(World world, long ticks, long nanos, boolean matches) {
+            this.world = world;
+            this.ticks = ticks;
+            this.nanos = nanos;
+            this.matches = matches;
+        }
+
+        public double getTicksPerSecond() {
+            return nanos == 0 ? 0 : ticks * 1e9 / nanos;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package io.github.some_example_name.sim;
+
+import com.badlogic.gdx.math.Vector3;
+
+import java.util.Arrays;
+
+/**
+ * Event-driven projectile engine. Projectiles fly in straight lines at constant speed, so
+ * only origin, direction, speed and spawn time are stored and positions are evaluated
+ * lazily when someone asks for them.
+ * <p>
+ * The target is modelled as moving at constant velocity since the last time its velocity
+ * changed. Against that motion each projectile gets exactly one pending event in an
+ * {@link EventQueue}: its first contact with the target if it happens before the projectile
+ * expires, otherwise its expiry. A tick only pops the events that are due, so its cost is
+ * proportional to events rather than live projectiles; all predictions are redone only when
+ * the target's velocity changes, or when it is not where its last motion would have put it,
+ * e.g. after it was switched for another player.
+ * <p>
+ * Extra targets of a multiplayer arena have no predictions; {@link #hits} sweeps every live
+ * projectile over the tick for them instead.
+ */
+public class AnalyticProjectiles implements ProjectileEngine {
+
+    /** Velocity changes smaller than this (units/s) keep the current predictions. */
+    private static final float VELOCITY_EPSILON = 1e-2f;
+    /** Targets further than this from where their motion predicts them are re-predicted. */
+    private static final float POSITION_EPSILON = 1e-2f;
+
+    private float[] originX, originY, originZ;
+    private float[] dirX, dirY, dirZ;
+    private float[] speed;
+    private float[] spawnTime;
+    private float[] expiryTime;
+    private boolean[] hitPredicted;
+    private int[] ids;
+    private int size;
+    private int nextId;
+
+    private final EventQueue events = new EventQueue();
+    private final float maxDistance;
+    private float radius;
+    private float now;
+
+    // target motion: at epochTime it was at epochPosition, moving at epochVelocity
+    private float epochTime;
+    private final Vector3 epochPosition = new Vector3();
+    private final Vector3 epochVelocity = new Vector3();
+    private final Vector3 velocity = new Vector3();
+
+    public AnalyticProjectiles(float maxDistance) {
+        this.maxDistance = maxDistance;
+        allocate(256);
+    }
+
+    @Override
+    public void spawn(float x, float y, float z, float dx, float dy, float dz, float projectileSpeed, float lifetime) {
+        if (size == speed.length) allocate(size * 2);
+        int i = size++;
+        originX[i] = x;
+        originY[i] = y;
+        originZ[i] = z;
+        dirX[i] = dx;
+        dirY[i] = dy;
+        dirZ[i] = dz;
+        speed[i] = projectileSpeed;
+        spawnTime[i] = now;
+        expiryTime[i] = now + Math.min(lifetime, exitTime(x, y, z, dx, dy, dz, projectileSpeed));
+        ids[i] = nextId++;
+        plan(i);
+    }
+
+    @Override
+    public boolean step(float dt, Vector3 from, Vector3 to, float hitRadius) {
+        float start = now;
+        now += dt;
+        if (hitRadius != radius) {
+            radius = hitRadius;
+            retarget(start, from, dt, to);
+        } else {
+            velocity.set(to).sub(from).scl(1f / dt);
+            float elapsed = start - epochTime;
+            float ex = epochPosition.x + epochVelocity.x * elapsed - from.x;
+            float ey = epochPosition.y + epochVelocity.y * elapsed - from.y;
+            float ez = epochPosition.z + epochVelocity.z * elapsed - from.z;
+            if (!velocity.epsilonEquals(epochVelocity, VELOCITY_EPSILON)
+                || ex * ex + ey * ey + ez * ez > POSITION_EPSILON * POSITION_EPSILON) retarget(start, from, dt, to);
+        }
+
+        boolean hit = false;
+        while (!events.isEmpty() && events.peekTime() <= now) {
+            int i = events.peekId();
+            if (hitPredicted[i]) {
+                // report the contact once, then let the projectile fly on until it expires
+                hit = true;
+                hitPredicted[i] = false;
+                events.schedule(i, expiryTime[i]);
+                continue;
+            }
+            events.remove(i);
+            remove(i);
+        }
+        return hit;
+    }
+
+    @Override
+    public boolean hits(float dt, Vector3 from, Vector3 to, float hitRadius) {
+        float start = now - dt;
+        for (int i = 0; i < size; i++) {
+            // projectiles spawned during the tick are only swept from their spawn
+            float t0 = Math.max(start, spawnTime[i]);
+            float k = (t0 - start) / dt;
+            float d0 = speed[i] * (t0 - spawnTime[i]), d1 = speed[i] * (now - spawnTime[i]);
+            if (Collisions.sweptSpheres(
+                from.x + (to.x - from.x) * k, from.y + (to.y - from.y) * k, from.z + (to.z - from.z) * k, to.x, to.y, to.z,
+                originX[i] + dirX[i] * d0, originY[i] + dirY[i] * d0, originZ[i] + dirZ[i] * d0,
+                originX[i] + dirX[i] * d1, originY[i] + dirY[i] * d1, originZ[i] + dirZ[i] * d1, hitRadius)) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void setSweptCollisions(boolean swept) {
+        // contact times are exact; there is no discrete mode
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Vector3 getPosition(int i, Vector3 out) {
+        float d = speed[i] * (now - spawnTime[i]);
+        return out.set(originX[i] + dirX[i] * d, originY[i] + dirY[i] * d, originZ[i] + dirZ[i] * d);
+    }
+
+    @Override
+    public Vector3 getDirection(int i, Vector3 out) {
+        return out.set(dirX[i], dirY[i], dirZ[i]);
+    }
+
+    @Override
+    public float getSpeed(int i) {
+        return speed[i];
+    }
+
+    @Override
+    public int getId(int i) {
+        return ids[i];
+    }
+
+    @Override
+    public void clear() {
+        events.clear();
+        size = 0;
+        now = 0;
+        epochTime = 0;
+        epochVelocity.setZero();
+    }
+
+    /** Starts a new motion epoch at the beginning of the tick and re-predicts every projectile. */
+    private void retarget(float start, Vector3 from, float dt, Vector3 to) {
+        epochTime = start;
+        epochPosition.set(from);
+        epochVelocity.set(to).sub(from).scl(1f / dt);
+        for (int i = 0; i < size; i++) plan(i);
+    }
+
+    /** Schedules the first contact of projectile {@code i} with the target, or its expiry. */
+    private void plan(int i) {
+        float s = speed[i];
+        // relative position as a function of absolute time: a + b * t
+        float bx = dirX[i] * s - epochVelocity.x;
+        float by = dirY[i] * s - epochVelocity.y;
+        float bz = dirZ[i] * s - epochVelocity.z;
+        float ax = originX[i] - dirX[i] * s * spawnTime[i] - epochPosition.x + epochVelocity.x * epochTime;
+        float ay = originY[i] - dirY[i] * s * spawnTime[i] - epochPosition.y + epochVelocity.y * epochTime;
+        float az = originZ[i] - dirZ[i] * s * spawnTime[i] - epochPosition.z + epochVelocity.z * epochTime;
+
+        float from = Math.max(epochTime, spawnTime[i]);
+        float contact = firstContact(ax, ay, az, bx, by, bz, from);
+        boolean hit = contact <= expiryTime[i];
+        hitPredicted[i] = hit;
+        events.schedule(i, hit ? contact : expiryTime[i]);
+    }
+
+    /** Earliest t >= from with |a + b * t| < radius, or positive infinity. */
+    private float firstContact(float ax, float ay, float az, float bx, float by, float bz, float from) {
+        float r2 = radius * radius;
+        float cx = ax + bx * from, cy = ay + by * from, cz = az + bz * from;
+        if (cx * cx + cy * cy + cz * cz < r2) return from;
+
+        float bb = bx * bx + by * by + bz * bz;
+        if (bb < 1e-12f) return Float.POSITIVE_INFINITY;
+        // solve |c + b * u|^2 = r^2 for u >= 0, relative to 'from'
+        float cb = cx * bx + cy * by + cz * bz;
+        float cc = cx * cx + cy * cy + cz * cz;
+        float disc = cb * cb - bb * (cc - r2);
+        if (disc < 0) return Float.POSITIVE_INFINITY;
+        float u = (-cb - (float) Math.sqrt(disc)) / bb;
+        return u >= 0 ? from + u : Float.POSITIVE_INFINITY;
+    }
+
+    /** Time for a projectile to leave the sphere of {@code maxDistance} around the origin. */
+    private float exitTime(float x, float y, float z, float dx, float dy, float dz, float s) {
+        float od = x * dx + y * dy + z * dz;
+        float oo = x * x + y * y + z * z;
+        float disc = od * od - (oo - maxDistance * maxDistance);
+        if (disc < 0 || s <= 0) return 0;
+        return Math.max(0, (-od + (float) Math.sqrt(disc)) / s);
+    }
+
+    private void remove(int i) {
+        int last = --size;
+        if (i == last) return;
+        originX[i] = originX[last];
+        originY[i] = originY[last];
+        originZ[i] = originZ[last];
+        dirX[i] = dirX[last];
+        dirY[i] = dirY[last];
+        dirZ[i] = dirZ[last];
+        speed[i] = speed[last];
+        spawnTime[i] = spawnTime[last];
+        expiryTime[i] = expiryTime[last];
+        hitPredicted[i] = hitPredicted[last];
+        ids[i] = ids[last];
+        events.move(last, i);
+    }
+
+    private void allocate(int capacity) {
+        originX = resize(originX, capacity);
+        originY = resize(originY, capacity);
+        originZ = resize(originZ, capacity);
+        dirX = resize(dirX, capacity);
+        dirY = resize(dirY, capacity);
+        dirZ = resize(dirZ, capacity);
+        speed = resize(speed, capacity);
+        spawnTime = resize(spawnTime, capacity);
+        expiryTime = resize(expiryTime, capacity);
+        hitPredicted = hitPredicted == null ? new boolean[capacity] : Arrays.copyOf(hitPredicted, capacity);
+        ids = ids == null ? new int[capacity] : Arrays.copyOf(ids, capacity);
+    }
+
+    private static float[] resize(float[] array, int capacity) {
+        return array == null ? new float[capacity] : Arrays.copyOf(array, capacity);
+    }
+}
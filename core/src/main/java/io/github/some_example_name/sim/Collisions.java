@@ -0,0 +1,37 @@
+package io.github.some_example_name.sim;
+
+/** Narrow-phase tests shared by the simulation. */
+public final class Collisions {
+
+    private Collisions() {
+    }
+
+    /**
+     * Tests two spheres moving linearly over one tick, A from {@code a0} to {@code a1} and B
+     * from {@code b0} to {@code b1}, for contact closer than {@code radius} (the sum of both
+     * radii) at any time within the tick. Unlike a point test at the end of the tick this
+     * cannot tunnel, whatever the step length.
+     */
+    public static boolean sweptSpheres(float a0x, float a0y, float a0z, float a1x, float a1y, float a1z,
+                                       float b0x, float b0y, float b0z, float b1x, float b1y, float b1z,
+                                       float radius) {
+        // relative motion of B seen from A: s + v * t, t in [0, 1]
+        float sx = b0x - a0x, sy = b0y - a0y, sz = b0z - a0z;
+        float vx = (b1x - b0x) - (a1x - a0x);
+        float vy = (b1y - b0y) - (a1y - a0y);
+        float vz = (b1z - b0z) - (a1z - a0z);
+        return closestApproach2(sx, sy, sz, vx, vy, vz) < radius * radius;
+    }
+
+    /** Squared minimum of {@code |s + v * t|} over {@code t} in [0, 1]. */
+    static float closestApproach2(float sx, float sy, float sz, float vx, float vy, float vz) {
+        float vv = vx * vx + vy * vy + vz * vz;
+        float t = 0;
+        if (vv > 1e-12f) {
+            t = -(sx * vx + sy * vy + sz * vz) / vv;
+            t = t < 0 ? 0 : t > 1 ? 1 : t;
+        }
+        float cx = sx + vx * t, cy = sy + vy * t, cz = sz + vz * t;
+        return cx * cx + cy * cy + cz * cz;
+    }
+}
@@ -0,0 +1,120 @@
+package io.github.some_example_name.sim;
+
+import java.util.Arrays;
+
+/**
+ * Indexed binary min-heap of event times keyed by small int ids, at most one event per id.
+ * All operations are allocation-free once the id capacity is reached.
+ */
+public class EventQueue {
+
+    private static final int ABSENT = -1;
+
+    private int[] heap = new int[16];
+    private int[] position = new int[0];
+    private float[] time = new float[0];
+    private int size;
+
+    /** Schedules the event of {@code id} at {@code at}, replacing any pending one. */
+    public void schedule(int id, float at) {
+        ensureCapacity(id + 1);
+        int pos = position[id];
+        if (pos == ABSENT) {
+            if (size == heap.length) heap = Arrays.copyOf(heap, size * 2);
+            pos = size++;
+            heap[pos] = id;
+            position[id] = pos;
+            time[id] = at;
+            siftUp(pos);
+            return;
+        }
+        float old = time[id];
+        time[id] = at;
+        if (at < old) siftUp(pos);
+        else siftDown(pos);
+    }
+
+    public void remove(int id) {
+        if (id >= position.length) return;
+        int pos = position[id];
+        if (pos == ABSENT) return;
+        position[id] = ABSENT;
+        int last = heap[--size];
+        if (pos == size) return;
+        heap[pos] = last;
+        position[last] = pos;
+        siftDown(pos);
+        siftUp(position[last]);
+    }
+
+    /** Gives the pending event of {@code from} to {@code to}, which must have none. */
+    public void move(int from, int to) {
+        ensureCapacity(Math.max(from, to) + 1);
+        int pos = position[from];
+        if (pos == ABSENT) return;
+        heap[pos] = to;
+        position[to] = pos;
+        time[to] = time[from];
+        position[from] = ABSENT;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Id of the earliest event; the queue must not be empty. */
+    public int peekId() {
+        return heap[0];
+    }
+
+    public float peekTime() {
+        return time[heap[0]];
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) position[heap[i]] = ABSENT;
+        size = 0;
+    }
+
+    private void siftUp(int pos) {
+        int id = heap[pos];
+        float t = time[id];
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            int parentId = heap[parent];
+            if (time[parentId] <= t) break;
+            heap[pos] = parentId;
+            position[parentId] = pos;
+            pos = parent;
+        }
+        heap[pos] = id;
+        position[id] = pos;
+    }
+
+    private void siftDown(int pos) {
+        int id = heap[pos];
+        float t = time[id];
+        int half = size >>> 1;
+        while (pos < half) {
+            int child = 2 * pos + 1;
+            int right = child + 1;
+            if (right < size && time[heap[right]] < time[heap[child]]) child = right;
+            int childId = heap[child];
+            if (t <= time[childId]) break;
+            heap[pos] = childId;
+            position[childId] = pos;
+            pos = child;
+        }
+        heap[pos] = id;
+        position[id] = pos;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= position.length) return;
+        int newCapacity = Math.max(capacity, position.length * 2);
+        int oldLength = position.length;
+        position = Arrays.copyOf(position, newCapacity);
+        Arrays.fill(position, oldLength, newCapacity, ABSENT);
+        time = Arrays.copyOf(time, newCapacity);
+    }
+}
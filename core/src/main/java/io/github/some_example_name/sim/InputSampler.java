@@ -0,0 +1,18 @@
+package io.github.some_example_name.sim;
+
+/**
+ * Source of controls for ticks that each cover a span of real time, such as a buffer of
+ * timestamped key events. Times are {@link System#nanoTime()} values, and each call starts
+ * where the previous one ended.
+ */
+public interface InputSampler {
+
+    /** Fills the directions of {@code out} with how they were held up to {@code untilNanos}. */
+    void sample(long untilNanos, InputState out);
+
+    /** Called once the tick that used the last sample has run, so its input now shows in the world. */
+    void applied(long nanoTime);
+
+    /** Moves on to {@code untilNanos} without sampling, e.g. while paused. */
+    void skip(long untilNanos);
+}
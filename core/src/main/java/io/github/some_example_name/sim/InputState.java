@@ -0,0 +1,105 @@
+package io.github.some_example_name.sim;
+
+/**
+ * Snapshot of the player controls for a single simulation tick.
+ * <p>
+ * A direction is normally held for the whole tick or not at all. When input is sampled from
+ * timestamped key events, a key pressed or released during the tick was only held for part of
+ * it; that part is kept in {@link #HOLD_STEPS}ths of the tick, see {@link #setHold}, so every
+ * hold is exactly representable and replays reproduce it bit for bit.
+ */
+public class InputState {
+    public static final int FORWARD = 1, BACK = 2, LEFT = 4, RIGHT = 8, RESTART = 16;
+    /** Number of bits used by {@link #toMask()}. */
+    public static final int MASK_BITS = 5;
+    /** The four movement directions, in the order of their bits. */
+    public static final int DIRECTIONS = 4;
+    /** Resolution of partial holds: parts a tick is divided into. */
+    public static final int HOLD_STEPS = 64;
+
+    public boolean forward;
+    public boolean back;
+    public boolean left;
+    public boolean right;
+    public boolean restart;
+    /** Directions, as bits, that were held for only part of the tick. */
+    private int partial;
+    /** Steps held of each partially held direction, indexed by bit position. */
+    private final int[] holdSteps = new int[DIRECTIONS];
+
+    public InputState set(InputState other) {
+        forward = other.forward;
+        back = other.back;
+        left = other.left;
+        right = other.right;
+        restart = other.restart;
+        partial = other.partial;
+        System.arraycopy(other.holdSteps, 0, holdSteps, 0, DIRECTIONS);
+        return this;
+    }
+
+    /**
+     * Sets how many {@link #HOLD_STEPS}ths of the tick {@code direction} was held: none releases
+     * it, all holds it for the whole tick and anything between holds it for part of the tick.
+     */
+    public InputState setHold(int direction, int steps) {
+        int index = Integer.numberOfTrailingZeros(direction);
+        setDirection(direction, steps > 0);
+        if (steps > 0 && steps < HOLD_STEPS) {
+            partial |= direction;
+            holdSteps[index] = steps;
+        } else {
+            partial &= ~direction;
+        }
+        return this;
+    }
+
+    /** Steps of the tick {@code direction} was held for, from 0 to {@link #HOLD_STEPS}. */
+    public int getHoldSteps(int direction) {
+        if ((toMask() & direction) == 0) return 0;
+        if ((partial & direction) != 0) return holdSteps[Integer.numberOfTrailingZeros(direction)];
+        return HOLD_STEPS;
+    }
+
+    /** Fraction of the tick {@code direction} was held for; exactly 1 for a whole tick. */
+    public float getHold(int direction) {
+        return getHoldSteps(direction) / (float) HOLD_STEPS;
+    }
+
+    /** Held directions, as bits, that were held for only part of the tick. */
+    public int getPartial() {
+        return partial & toMask();
+    }
+
+    private void setDirection(int direction, boolean held) {
+        switch (direction) {
+            case FORWARD: forward = held; break;
+            case BACK: back = held; break;
+            case LEFT: left = held; break;
+            case RIGHT: right = held; break;
+            default: throw new IllegalArgumentException("Not a direction: " + direction);
+        }
+    }
+
+    /** Packs the controls into the low {@link #MASK_BITS} bits. */
+    public int toMask() {
+        return (forward ? FORWARD : 0) | (back ? BACK : 0) | (left ? LEFT : 0) | (right ? RIGHT : 0)
+            | (restart ? RESTART : 0);
+    }
+
+    /** Sets the controls from {@link #toMask()} bits, every held direction being held for the whole tick. */
+    public InputState setMask(int mask) {
+        partial = 0;
+        forward = (mask & FORWARD) != 0;
+        back = (mask & BACK) != 0;
+        left = (mask & LEFT) != 0;
+        right = (mask & RIGHT) != 0;
+        restart = (mask & RESTART) != 0;
+        return this;
+    }
+
+    public void clear() {
+        forward = back = left = right = restart = false;
+        partial = 0;
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.some_example_name.sim;
+
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Integrates every projectile every tick in a {@link ProjectileStore}.
+ * <p>
+ * Hits are found by one batched scan over the store rather than through a
+ * {@link SpatialGrid}: with a single target, rebuilding a grid costs more than the scan it
+ * saves (see {@code CollisionBenchmark}). The grid pays off once many targets query the
+ * same projectiles, so the extra targets of a multiplayer arena go through one, built at most
+ * once per tick by the first {@link #hits} call.
+ */
+public class IntegratedProjectiles implements ProjectileEngine {
+
+    private final ProjectileStore store = new ProjectileStore(256);
+    private final float maxDistance;
+    private boolean swept = true;
+    private final SpatialGrid grid = World.createGrid();
+    private final IntArray candidates = new IntArray();
+    private boolean gridValid;
+    private float lastDt;
+
+    public IntegratedProjectiles(float maxDistance) {
+        this.maxDistance = maxDistance;
+    }
+
+    @Override
+    public void spawn(float x, float y, float z, float dirX, float dirY, float dirZ, float speed, float lifetime) {
+        store.add(x, y, z, dirX, dirY, dirZ, speed, lifetime);
+    }
+
+    @Override
+    public boolean step(float dt, Vector3 from, Vector3 to, float radius) {
+        store.update(dt, maxDistance);
+        gridValid = false;
+        lastDt = dt;
+        if (swept) return store.findSweptHit(dt, from.x, from.y, from.z, to.x, to.y, to.z, radius) >= 0;
+        return store.findWithin(to.x, to.y, to.z, radius) >= 0;
+    }
+
+    @Override
+    public boolean hits(float dt, Vector3 from, Vector3 to, float radius) {
+        if (!gridValid) {
+            grid.clear();
+            for (int i = 0, n = store.size(); i < n; i++) grid.insert(i, store.x[i], store.z[i]);
+            gridValid = true;
+        }
+        // a projectile that ends the tick further away than this cannot have come within radius
+        float reach = radius + store.getMaxSpeed() * lastDt + from.dst(to);
+        grid.query(to.x, to.z, reach, candidates);
+        if (swept) return store.findSweptHit(candidates, dt, from.x, from.y, from.z, to.x, to.y, to.z, radius) >= 0;
+        float radius2 = radius * radius;
+        for (int c = 0; c < candidates.size; c++) {
+            int i = candidates.get(c);
+            float dx = store.x[i] - to.x, dy = store.y[i] - to.y, dz = store.z[i] - to.z;
+            if (dx * dx + dy * dy + dz * dz < radius2) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void setSweptCollisions(boolean swept) {
+        this.swept = swept;
+    }
+
+    @Override
+    public int size() {
+        return store.size();
+    }
+
+    @Override
+    public Vector3 getPosition(int index, Vector3 out) {
+        return out.set(store.x[index], store.y[index], store.z[index]);
+    }
+
+    @Override
+    public Vector3 getDirection(int index, Vector3 out) {
+        return out.set(store.dirX[index], store.dirY[index], store.dirZ[index]);
+    }
+
+    @Override
+    public float getSpeed(int index) {
+        return store.speed[index];
+    }
+
+    @Override
+    public int getId(int index) {
+        return store.id[index];
+    }
+
+    @Override
+    public void clear() {
+        store.clear();
+        gridValid = false;
+    }
+
+    public ProjectileStore getStore() {
+        return store;
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.some_example_name.sim;
+
+import com.badlogic.gdx.math.Vector3;
+
+/**
+ * Owns the lasers of a {@link World}: spawning, motion, expiry and hits against the player.
+ * Indices passed to the accessors are only valid until the next {@link #step}.
+ */
+public interface ProjectileEngine {
+
+    /** Spawns a projectile at the start of the current tick. The direction must be normalized. */
+    void spawn(float x, float y, float z, float dirX, float dirY, float dirZ, float speed, float lifetime);
+
+    /**
+     * Advances all projectiles by {@code dt}, during which the target moved from {@code from}
+     * to {@code to}, and removes the expired ones.
+     *
+     * @return whether any projectile came within {@code radius} of the target during the tick
+     */
+    boolean step(float dt, Vector3 from, Vector3 to, float radius);
+
+    /**
+     * Tests another target against the tick last {@link #step stepped}, during which it moved
+     * from {@code from} to {@code to}, for arenas with more than one player. Unlike
+     * {@link #step}, reports every contact during the tick, not just the first one.
+     */
+    boolean hits(float dt, Vector3 from, Vector3 to, float radius);
+
+    /** Switches between swept and end-of-tick hit tests where the engine supports both. */
+    void setSweptCollisions(boolean swept);
+
+    int size();
+
+    Vector3 getPosition(int index, Vector3 out);
+
+    Vector3 getDirection(int index, Vector3 out);
+
+    float getSpeed(int index);
+
+    /** Identifies the projectile at {@code index} for as long as it lives; ids are never reused. */
+    int getId(int index);
+
+    void clear();
+}
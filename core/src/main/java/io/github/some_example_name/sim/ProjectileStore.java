@@ -0,0 +1,160 @@
+package io.github.some_example_name.sim;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * Structure-of-arrays container for straight-flying projectiles.
+ * <p>
+ * Live projectiles occupy indices {@code [0, size)}; removal moves the last one
+ * into the freed slot, so the arrays stay dense and the update and expiry pass is
+ * a single loop over primitive arrays. Indices are not stable across ticks; {@link #id}s are,
+ * and are never reused, not even after {@link #clear()}.
+ */
+public class ProjectileStore {
+
+    public float[] x, y, z;
+    public float[] dirX, dirY, dirZ;
+    public float[] speed;
+    public float[] lifetime;
+    public int[] id;
+
+    private int size;
+    private int nextId;
+    private float maxSpeed;
+
+    public ProjectileStore() {
+        this(64);
+    }
+
+    public ProjectileStore(int initialCapacity) {
+        allocate(Math.max(1, initialCapacity));
+    }
+
+    /** Adds a projectile and returns its current index. The direction must be normalized. */
+    public int add(float px, float py, float pz, float dx, float dy, float dz, float projectileSpeed, float life) {
+        if (size == x.length) allocate(size * 2);
+        int i = size++;
+        x[i] = px;
+        y[i] = py;
+        z[i] = pz;
+        dirX[i] = dx;
+        dirY[i] = dy;
+        dirZ[i] = dz;
+        speed[i] = projectileSpeed;
+        lifetime[i] = life;
+        id[i] = nextId++;
+        if (projectileSpeed > maxSpeed) maxSpeed = projectileSpeed;
+        return i;
+    }
+
+    /** Swap-removes the projectile at {@code index}. */
+    public void remove(int index) {
+        int last = --size;
+        if (index == last) return;
+        x[index] = x[last];
+        y[index] = y[last];
+        z[index] = z[last];
+        dirX[index] = dirX[last];
+        dirY[index] = dirY[last];
+        dirZ[index] = dirZ[last];
+        speed[index] = speed[last];
+        lifetime[index] = lifetime[last];
+        id[index] = id[last];
+    }
+
+    /**
+     * Moves every projectile along its direction and drops the ones whose lifetime ran
+     * out or that left the sphere of {@code maxDistance} around the origin.
+     */
+    public void update(float dt, float maxDistance) {
+        float maxDistance2 = maxDistance * maxDistance;
+        float[] x = this.x, y = this.y, z = this.z, speed = this.speed, lifetime = this.lifetime;
+        float[] dirX = this.dirX, dirY = this.dirY, dirZ = this.dirZ;
+        for (int i = 0, n = size; i < n; i++) {
+            float step = speed[i] * dt;
+            x[i] += dirX[i] * step;
+            y[i] += dirY[i] * step;
+            z[i] += dirZ[i] * step;
+            lifetime[i] -= dt;
+        }
+        for (int i = size - 1; i >= 0; i--) {
+            if (lifetime[i] <= 0 || x[i] * x[i] + y[i] * y[i] + z[i] * z[i] > maxDistance2) remove(i);
+        }
+    }
+
+    /** Returns the index of the first projectile closer than {@code radius} to the point, or -1. */
+    public int findWithin(float px, float py, float pz, float radius) {
+        float radius2 = radius * radius;
+        float[] x = this.x, y = this.y, z = this.z;
+        for (int i = 0, n = size; i < n; i++) {
+            float ddx = x[i] - px, ddy = y[i] - py, ddz = z[i] - pz;
+            if (ddx * ddx + ddy * ddy + ddz * ddz < radius2) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Swept variant of {@link #findWithin}: each projectile is treated as having moved in a
+     * straight line during the last {@code dt} seconds, and the target as having moved from
+     * {@code p0} to {@code p1}. Returns the index of the first projectile whose path came
+     * closer than {@code radius} to the target's path at the same moment, or -1.
+     */
+    public int findSweptHit(float dt, float p0x, float p0y, float p0z, float p1x, float p1y, float p1z, float radius) {
+        for (int i = 0, n = size; i < n; i++) {
+            if (sweptHit(i, dt, p0x, p0y, p0z, p1x, p1y, p1z, radius)) return i;
+        }
+        return -1;
+    }
+
+    /** Same as {@link #findSweptHit(float, float, float, float, float, float, float, float)} limited to {@code candidates}. */
+    public int findSweptHit(IntArray candidates, float dt, float p0x, float p0y, float p0z,
+                            float p1x, float p1y, float p1z, float radius) {
+        int[] items = candidates.items;
+        for (int c = 0, n = candidates.size; c < n; c++) {
+            int i = items[c];
+            if (sweptHit(i, dt, p0x, p0y, p0z, p1x, p1y, p1z, radius)) return i;
+        }
+        return -1;
+    }
+
+    private boolean sweptHit(int i, float dt, float p0x, float p0y, float p0z, float p1x, float p1y, float p1z, float radius) {
+        float step = speed[i] * dt;
+        float dx = dirX[i] * step, dy = dirY[i] * step, dz = dirZ[i] * step;
+        // relative start offset and relative displacement over the tick
+        float sx = x[i] - dx - p0x, sy = y[i] - dy - p0y, sz = z[i] - dz - p0z;
+        float vx = dx - (p1x - p0x), vy = dy - (p1y - p0y), vz = dz - (p1z - p0z);
+        return Collisions.closestApproach2(sx, sy, sz, vx, vy, vz) < radius * radius;
+    }
+
+    /** Fastest speed added since the last {@link #clear()}; bounds how far any projectile moves per tick. */
+    public float getMaxSpeed() {
+        return maxSpeed;
+    }
+
+    public void clear() {
+        size = 0;
+        maxSpeed = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void allocate(int capacity) {
+        x = resize(x, capacity);
+        y = resize(y, capacity);
+        z = resize(z, capacity);
+        dirX = resize(dirX, capacity);
+        dirY = resize(dirY, capacity);
+        dirZ = resize(dirZ, capacity);
+        speed = resize(speed, capacity);
+        lifetime = resize(lifetime, capacity);
+        id = id == null ? new int[capacity] : Arrays.copyOf(id, capacity);
+    }
+
+    private static float[] resize(float[] array, int capacity) {
+        return array == null ? new float[capacity] : Arrays.copyOf(array, capacity);
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.some_example_name.sim;
+
+import io.github.some_example_name.replay.Replay;
+
+/**
+ * Drives a {@link World} with a fixed timestep from variable frame deltas.
+ * Leftover time is kept in an accumulator so the simulation cadence does not
+ * depend on the frame rate.
+ */
+public class Simulation {
+
+    public static final float DEFAULT_STEP = 1f / 60f;
+    /** Frame deltas are clamped to this so a long stall does not cause a spiral of catch-up ticks. */
+    private static final float MAX_FRAME_TIME = 0.25f;
+
+    private final World world;
+    private final float fixedDt;
+    private float accumulator;
+    private long ticks;
+    private Replay recording;
+
+    public Simulation(World world) {
+        this(world, DEFAULT_STEP);
+    }
+
+    public Simulation(World world, float fixedDt) {
+        this.world = world;
+        this.fixedDt = fixedDt;
+    }
+
+    /**
+     * Adds the frame time to the accumulator and runs as many fixed ticks as fit.
+     * A pending {@link InputState#restart} is consumed by the first tick.
+     *
+     * @return number of ticks executed
+     */
+    public int update(float frameDelta, InputState input) {
+        return update(frameDelta, 0, null, input);
+    }
+
+    /**
+     * Like {@link #update(float, InputState)}, but each tick takes its directions from
+     * {@code sampler}. The last tick run samples up to {@code nanoTime} and each earlier one up
+     * to a tick before the next, so everything pressed before this frame moves the player in
+     * this frame's ticks instead of waiting for the accumulator to catch up.
+     */
+    public int update(float frameDelta, long nanoTime, InputSampler sampler, InputState input) {
+        accumulator += Math.min(frameDelta, MAX_FRAME_TIME);
+        int pending = 0;
+        for (float left = accumulator; left >= fixedDt; left -= fixedDt) pending++;
+        long tickNanos = (long) (fixedDt * 1e9);
+        int steps = 0;
+        while (accumulator >= fixedDt) {
+            accumulator -= fixedDt;
+            if (sampler != null) sampler.sample(nanoTime - (pending - 1 - steps) * tickNanos, input);
+            if (recording != null) recording.record(input);
+            world.step(fixedDt, input);
+            if (sampler != null) sampler.applied(System.nanoTime());
+            input.restart = false;
+            ticks++;
+            steps++;
+        }
+        return steps;
+    }
+
+    /** Runs exactly one tick, bypassing the accumulator. Used by headless runs. */
+    public void tick(InputState input) {
+        if (recording != null) recording.record(input);
+        world.step(fixedDt, input);
+        input.restart = false;
+        ticks++;
+    }
+
+    /** Records the input of every following tick into {@code recording}, or stops recording if null. */
+    public void setRecording(Replay recording) {
+        this.recording = recording;
+    }
+
+    /** Fraction of a tick left in the accumulator, for interpolating rendered state. */
+    public float getAlpha() {
+        return accumulator / fixedDt;
+    }
+
+    public float getFixedDt() {
+        return fixedDt;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public World getWorld() {
+        return world;
+    }
+}
@@ -0,0 +1,129 @@
+package io.github.some_example_name.sim;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs a {@link Simulation} on its own thread at its fixed rate, so frame stalls and vsync
+ * waits on the render thread no longer delay game logic.
+ * <p>
+ * After every tick the world is captured into a {@link WorldSnapshot} and published through a
+ * {@link SnapshotExchange}; the render thread only ever reads snapshots and must not touch the
+ * world while the thread runs. Input goes the other way through atomics: held controls are
+ * sampled by every tick and a restart stays latched until a tick consumes it. With an
+ * {@link InputSampler}, ticks instead take their directions from it, up to the moment they
+ * run; it must then be safe to read from this thread. If the thread falls more than
+ * {@link #MAX_LAG_NANOS} behind, e.g. after the process was suspended, it drops the missed
+ * ticks instead of running them back to back.
+ */
+public class SimulationThread implements Runnable {
+
+    private static final long MAX_LAG_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+
+    private final Simulation simulation;
+    private final long tickNanos;
+    private final SnapshotExchange exchange = new SnapshotExchange();
+    private final InputState tickInput = new InputState();
+    private final AtomicInteger heldControls = new AtomicInteger();
+    private final AtomicBoolean restart = new AtomicBoolean();
+    private final Thread thread;
+    private InputSampler sampler;
+    private volatile boolean running;
+    private volatile boolean paused;
+    private volatile Throwable failure;
+
+    public SimulationThread(Simulation simulation) {
+        this.simulation = simulation;
+        tickNanos = (long) (simulation.getFixedDt() * 1e9);
+        thread = new Thread(this, "simulation");
+        thread.setDaemon(true);
+        // the reader must never see an empty snapshot
+        publish(System.nanoTime());
+    }
+
+    public void start() {
+        running = true;
+        thread.start();
+    }
+
+    /** Stops ticking and waits for the thread, after which the world may be used directly again. */
+    public void stop() {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Hands the current controls to the following ticks; a pending restart is taken over and cleared. */
+    public void setInput(InputState input) {
+        heldControls.set(input.toMask() & ~InputState.RESTART);
+        if (input.restart) {
+            restart.set(true);
+            input.restart = false;
+        }
+    }
+
+    /** Makes ticks take their directions from {@code sampler}, or from {@link #setInput} if null. Call before {@link #start}. */
+    public void setInputSampler(InputSampler sampler) {
+        this.sampler = sampler;
+    }
+
+    /** Stops or resumes ticking; the latest snapshot stays published while paused. */
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+        LockSupport.unpark(thread);
+    }
+
+    /** The latest snapshot; see {@link SnapshotExchange#acquire()}. Call from one thread only. */
+    public WorldSnapshot acquire() {
+        return exchange.acquire();
+    }
+
+    /** The error that stopped the thread, or null while it runs normally. */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    @Override
+    public void run() {
+        long next = System.nanoTime() + tickNanos;
+        try {
+            while (running) {
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(this, wait);
+                    continue;
+                }
+                if (paused) {
+                    // keep the schedule a tick ahead, so resuming does not run the paused ticks
+                    next += tickNanos;
+                    if (sampler != null) sampler.skip(next);
+                    continue;
+                }
+                if (-wait > MAX_LAG_NANOS) next = System.nanoTime();
+                if (sampler != null) sampler.sample(System.nanoTime(), tickInput);
+                else tickInput.setMask(heldControls.get());
+                tickInput.restart = restart.getAndSet(false);
+                simulation.tick(tickInput);
+                if (sampler != null) sampler.applied(System.nanoTime());
+                // interpolated from the previous tick's state now to this tick's one tick later
+                publish(next);
+                next += tickNanos;
+            }
+        } catch (Throwable t) {
+            failure = t;
+        }
+    }
+
+    private void publish(long time) {
+        WorldSnapshot snapshot = exchange.getWriteBuffer();
+        snapshot.capture(simulation.getWorld(), simulation.getTicks(), simulation.getFixedDt());
+        snapshot.time = time;
+        exchange.publish();
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.some_example_name.sim;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lock-free triple buffer handing {@link WorldSnapshot}s from one writer thread to one reader
+ * thread.
+ * <p>
+ * The writer fills {@link #getWriteBuffer()} and {@link #publish()}es it; the reader calls
+ * {@link #acquire()} and reads the returned snapshot until its next acquire. Each side owns
+ * one buffer and the third sits in between, so neither ever waits for the other or sees a
+ * half-written snapshot, and the reader always gets the latest published one. Buffers are
+ * swapped by index through a single {@link AtomicInteger}, so handing over does not allocate.
+ */
+public class SnapshotExchange {
+
+    private static final int INDEX_MASK = 3;
+    /** Set on {@link #middle} when it holds a snapshot the reader has not acquired yet. */
+    private static final int FRESH = 4;
+
+    private final WorldSnapshot[] buffers = {new WorldSnapshot(), new WorldSnapshot(), new WorldSnapshot()};
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int write = 0;
+    private int read = 2;
+
+    /** The buffer the writer may fill; only valid until the next {@link #publish()}. */
+    public WorldSnapshot getWriteBuffer() {
+        return buffers[write];
+    }
+
+    /** Makes the write buffer the latest snapshot and hands the writer a free one. */
+    public void publish() {
+        write = middle.getAndSet(write | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Returns the latest published snapshot, which stays untouched until the next acquire.
+     * Returns the same snapshot again if nothing was published in between.
+     */
+    public WorldSnapshot acquire() {
+        if ((middle.get() & FRESH) != 0) read = middle.getAndSet(read) & INDEX_MASK;
+        return buffers[read];
+    }
+}
@@ -0,0 +1,133 @@
+package io.github.some_example_name.sim;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * Uniform grid broadphase over the XZ plane.
+ * <p>
+ * Entities are identified by small non-negative ints and kept in per-cell doubly
+ * linked lists backed by int arrays, so insert, update, remove and query do not
+ * allocate once the id capacity is reached. Points outside the grid are clamped
+ * into the border cells, which keeps queries correct at the cost of selectivity.
+ */
+public class SpatialGrid {
+
+    private static final int NONE = -1;
+
+    private final float minX, minZ;
+    private final float invCellSize;
+    private final int columns, rows;
+
+    private final int[] head;
+    private int[] next = new int[0];
+    private int[] prev = new int[0];
+    private int[] cellOf = new int[0];
+
+    public SpatialGrid(float minX, float minZ, float maxX, float maxZ, float cellSize) {
+        this.minX = minX;
+        this.minZ = minZ;
+        this.invCellSize = 1f / cellSize;
+        this.columns = Math.max(1, (int) Math.ceil((maxX - minX) / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil((maxZ - minZ) / cellSize));
+        head = new int[columns * rows];
+        Arrays.fill(head, NONE);
+    }
+
+    /** Adds an entity, or moves it if it is already in the grid. */
+    public void insert(int id, float x, float z) {
+        update(id, x, z);
+    }
+
+    /**
+     * Moves an entity, inserting it if it is not in the grid yet; only touches the lists
+     * when it changed cell, so grids kept across ticks need not be rebuilt.
+     */
+    public void update(int id, float x, float z) {
+        ensureCapacity(id + 1);
+        int cell = cell(x, z);
+        int current = cellOf[id];
+        if (current == cell) return;
+        if (current != NONE) unlink(id);
+        link(id, cell);
+    }
+
+    public void remove(int id) {
+        if (id < cellOf.length && cellOf[id] != NONE) unlink(id);
+    }
+
+    /** Removes every entity; cost is proportional to the number of cells. */
+    public void clear() {
+        Arrays.fill(head, NONE);
+        Arrays.fill(cellOf, NONE);
+    }
+
+    /**
+     * Collects the ids of entities in every cell overlapped by the square of half size
+     * {@code radius} around the point. The result is a superset of the entities actually
+     * within {@code radius}; callers do the exact test.
+     *
+     * @param out cleared and filled with candidate ids
+     */
+    public void query(float x, float z, float radius, IntArray out) {
+        out.clear();
+        int c0 = column(x - radius), c1 = column(x + radius);
+        int r0 = row(z - radius), r1 = row(z + radius);
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                for (int id = head[r * columns + c]; id != NONE; id = next[id]) out.add(id);
+            }
+        }
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    private void link(int id, int cell) {
+        int first = head[cell];
+        next[id] = first;
+        prev[id] = NONE;
+        if (first != NONE) prev[first] = id;
+        head[cell] = id;
+        cellOf[id] = cell;
+    }
+
+    private void unlink(int id) {
+        int cell = cellOf[id];
+        int n = next[id], p = prev[id];
+        if (p != NONE) next[p] = n;
+        else head[cell] = n;
+        if (n != NONE) prev[n] = p;
+        cellOf[id] = NONE;
+    }
+
+    private int cell(float x, float z) {
+        return row(z) * columns + column(x);
+    }
+
+    private int column(float x) {
+        int c = (int) ((x - minX) * invCellSize);
+        return c < 0 ? 0 : c >= columns ? columns - 1 : c;
+    }
+
+    private int row(float z) {
+        int r = (int) ((z - minZ) * invCellSize);
+        return r < 0 ? 0 : r >= rows ? rows - 1 : r;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= cellOf.length) return;
+        int newCapacity = Math.max(capacity, cellOf.length * 2);
+        next = Arrays.copyOf(next, newCapacity);
+        prev = Arrays.copyOf(prev, newCapacity);
+        int oldLength = cellOf.length;
+        cellOf = Arrays.copyOf(cellOf, newCapacity);
+        Arrays.fill(cellOf, oldLength, newCapacity, NONE);
+    }
+}
@@ -0,0 +1,493 @@
+package io.github.some_example_name.sim;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Disposable;
+import io.github.some_example_name.ecs.BodyComponent;
+import io.github.some_example_name.ecs.Families;
+import io.github.some_example_name.ecs.HazardComponent;
+import io.github.some_example_name.ecs.HitListener;
+import io.github.some_example_name.ecs.HomingComponent;
+import io.github.some_example_name.ecs.HomingSystem;
+import io.github.some_example_name.ecs.LaserSystem;
+import io.github.some_example_name.ecs.LifetimeComponent;
+import io.github.some_example_name.ecs.LifetimeSystem;
+import io.github.some_example_name.ecs.Mappers;
+import io.github.some_example_name.ecs.PhysicsSystem;
+import io.github.some_example_name.ecs.PlayerComponent;
+import io.github.some_example_name.ecs.PlayerMovementSystem;
+import io.github.some_example_name.ecs.RenderableComponent;
+import io.github.some_example_name.ecs.SteeringComponent;
+import io.github.some_example_name.ecs.SteeringSystem;
+import io.github.some_example_name.ecs.TransformComponent;
+import io.github.some_example_name.ecs.WallComponent;
+import io.github.some_example_name.physics.KinematicPhysics;
+import io.github.some_example_name.physics.PhysicsBackend;
+import io.github.some_example_name.profiling.FrameProfiler;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Game rules of the arena without any rendering or {@code Gdx.graphics} dependency.
+ * Advanced with {@link #step(float, InputState)}; the renderer only reads the state.
+ * <p>
+ * The player, obstacles and walls are entities of an Ashley {@link PooledEngine}; a tick runs
+ * the player movement, lifetime, steering, homing, physics and laser systems in that order.
+ * Obstacles are steered by gdx-ai behaviours, re-planned a slice at a time; see
+ * {@link SteeringSystem}. Bodies are moved, kept out of the walls and tested against each
+ * other by a {@link PhysicsBackend}, {@link KinematicPhysics} unless another is passed in.
+ * Lasers stay in a {@link ProjectileEngine} driven by the {@link LaserSystem}. A steady-state
+ * tick does not allocate with the default backends: entities and components come from the
+ * engine's pools and all vector math goes through scratch fields.
+ * <p>
+ * Spawns draw from a seeded {@link RandomXS128} and use {@link StrictMath} for their
+ * trigonometry, so the same seed, movement axes and per-tick inputs always reproduce the
+ * same run; see {@link io.github.some_example_name.replay.Replay}.
+ * <p>
+ * A world starts with one player, the primary one, which {@link #step} feeds the given input.
+ * A multiplayer host can {@link #addPlayer add} more and set their
+ * {@link PlayerComponent#input} directly before each step. Obstacles pursue the nearest player
+ * and lasers aim at a random one; a hit player is downed for the rest of the round, and the
+ * game ends when the last one standing is hit.
+ */
+public class World implements Disposable {
+
+    public static final float PLAYER_SPEED = 30f;
+    public static final float COLLISION_DISTANCE = 2.5f;
+    /** Radius of the player's body; hazards get the rest of the collision distance. */
+    public static final float PLAYER_RADIUS = 2f;
+    public static final float OBSTACLE_SPAWN_INTERVAL = 1.3f;
+    public static final float BOUNDS_X = 70f;
+    public static final float BOUNDS_Z = 70f;
+    public static final float ENTITY_Y = 5f;
+    public static final int MAX_OBSTACLES = 256;
+    public static final float LASER_LIFETIME = 10f;
+    public static final float LASER_MAX_DISTANCE = 200f;
+    public static final float GRID_CELL_SIZE = 5f;
+
+    public static final String OBSTACLE_HIT = "Collision with obstacle!";
+
+    private final Vector3 forward = new Vector3(0f, 0f, -1f);
+    private final Vector3 right = new Vector3(1f, 0f, 0f);
+
+    private final WorldConfig config;
+    private final ProjectileEngine lasers;
+
+    private final PooledEngine engine = new PooledEngine();
+    private final SteeringSystem steeringSystem;
+    private final PhysicsSystem physicsSystem;
+    private final LaserSystem laserSystem;
+    private final ImmutableArray<Entity> obstacles;
+    private final ImmutableArray<Entity> players;
+    private final ImmutableArray<Entity> targets;
+    private Entity player;
+    private TransformComponent playerTransform;
+    private InputState playerInput;
+
+    private final HitListener hitListener = new HitListener() {
+        @Override
+        public void hit(Entity entity, String reason) {
+            PlayerComponent hit = Mappers.player.get(entity);
+            if (hit == null || hit.down || gameOver || invulnerable) return;
+            if (targets.size() <= 1) {
+                endGame(reason);
+                return;
+            }
+            hit.down = true;
+            hit.downReason = reason;
+            // no longer pursued, aimed at or tested against lasers
+            entity.remove(SteeringComponent.class);
+        }
+    };
+
+    private final RandomXS128 random = new RandomXS128();
+    private long seed;
+
+    private FrameProfiler profiler;
+    private int spawnScope, updateScope, physicsScope, laserScope;
+
+    private boolean sweptCollisions = true;
+    private boolean invulnerable = false;
+
+    private float obstacleSpawnTimer = 0;
+    private float survivalTime = 0;
+    private boolean gameOver = false;
+    private String gameOverReason;
+
+    public World() {
+        this(new IntegratedProjectiles(LASER_MAX_DISTANCE));
+    }
+
+    public World(ProjectileEngine lasers) {
+        this(lasers, new WorldConfig());
+    }
+
+    public World(ProjectileEngine lasers, WorldConfig config) {
+        this(lasers, config, new KinematicPhysics());
+    }
+
+    /**
+     * @param config copied; later changes to it have no effect
+     * @param physics owned by the world from now on and disposed with it
+     */
+    public World(ProjectileEngine lasers, WorldConfig config, PhysicsBackend physics) {
+        this.lasers = lasers;
+        this.config = new WorldConfig().set(config);
+        setSeed(System.nanoTime());
+
+        steeringSystem = new SteeringSystem(this.config.steeringInterval, 2);
+        engine.addSystem(new PlayerMovementSystem(forward, right, this.config.playerSpeed, 0));
+        engine.addSystem(new LifetimeSystem(1));
+        engine.addSystem(steeringSystem);
+        engine.addSystem(new HomingSystem(3));
+        // run by step() after the engine update so they can be timed on their own
+        physicsSystem = new PhysicsSystem(physics, hitListener, 4);
+        physicsSystem.setProcessing(false);
+        engine.addSystem(physicsSystem);
+        laserSystem = new LaserSystem(lasers, this.config.collisionDistance, hitListener, 5);
+        laserSystem.setProcessing(false);
+        engine.addSystem(laserSystem);
+
+        obstacles = engine.getEntitiesFor(Families.homing);
+        players = engine.getEntitiesFor(Families.players);
+        targets = engine.getEntitiesFor(Families.steeringTargets);
+        setPrimary(addPlayer(0f, 0f));
+
+        // inner faces at x = +-70, z = -55 and z = 70
+        addWall(0, -55.5f, 142f, 1f);
+        addWall(0, 70.5f, 142f, 1f);
+        addWall(-70.5f, 7.5f, 1f, 127f);
+        addWall(70.5f, 7.5f, 1f, 127f);
+    }
+
+    public static SpatialGrid createGrid() {
+        return new SpatialGrid(-BOUNDS_X, -BOUNDS_Z, BOUNDS_X, BOUNDS_Z, GRID_CELL_SIZE);
+    }
+
+    /**
+     * Chooses between swept tests, which catch hits anywhere along the tick and so stay
+     * correct for any timestep, and plain end-of-tick distance tests.
+     */
+    public void setSweptCollisions(boolean sweptCollisions) {
+        this.sweptCollisions = sweptCollisions;
+        lasers.setSweptCollisions(sweptCollisions);
+        physicsSystem.getBackend().setContinuous(sweptCollisions);
+    }
+
+    public boolean isSweptCollisions() {
+        return sweptCollisions;
+    }
+
+    /**
+     * Times the spawn, update, physics and laser phases of every tick into {@code profiler}.
+     * The update phase runs player input and obstacle steering; the laser phase includes the
+     * projectile engine, which also finds laser hits.
+     */
+    public void setProfiler(FrameProfiler profiler) {
+        this.profiler = profiler;
+        if (profiler == null) return;
+        spawnScope = profiler.register("sim.spawn");
+        updateScope = profiler.register("sim.update");
+        physicsScope = profiler.register("sim.physics");
+        laserScope = profiler.register("sim.lasers");
+    }
+
+    /**
+     * Plans obstacle steering in chunks on {@code pool} once a slice is big enough to split;
+     * null, the default, keeps every tick on the calling thread. Results are the same either
+     * way. The pool stays owned by the caller.
+     */
+    public void setWorkerPool(ForkJoinPool pool) {
+        steeringSystem.setPool(pool);
+    }
+
+    /**
+     * Caps the obstacles re-planned per tick; 0, the default, means no cap. The rest keep their
+     * previous steering until their slice comes round again; see {@link SteeringSystem}.
+     */
+    public void setSteeringBudget(int obstacles) {
+        steeringSystem.setBudget(obstacles);
+    }
+
+    public int getSteeringBudget() {
+        return steeringSystem.getBudget();
+    }
+
+    /** Number of times obstacle re-planning was cut short by the steering budget. */
+    public int getSteeringOverruns() {
+        return steeringSystem.getOverruns();
+    }
+
+    /** Keeps testing collisions but never ends the game; for benchmarks and soak runs. */
+    public void setInvulnerable(boolean invulnerable) {
+        this.invulnerable = invulnerable;
+    }
+
+    /** Reseeds the spawn generator; call before the first tick to make the run reproducible. */
+    public void setSeed(long seed) {
+        this.seed = seed;
+        random.setSeed(seed);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /** Sets the camera-relative movement axes; only the XZ part of the direction is used. */
+    public void setViewDirection(Vector3 direction, Vector3 up) {
+        forward.set(direction.x, 0f, direction.z).nor();
+        right.set(forward).crs(up).nor();
+    }
+
+    /** Sets the movement axes directly, e.g. to the ones a replay was recorded with. */
+    public void setMoveAxes(Vector3 forward, Vector3 right) {
+        this.forward.set(forward);
+        this.right.set(right);
+    }
+
+    public Vector3 getForward() {
+        return forward;
+    }
+
+    public Vector3 getRight() {
+        return right;
+    }
+
+    public void step(float dt, InputState input) {
+        if (gameOver) {
+            if (input.restart) restart();
+            return;
+        }
+
+        FrameProfiler profiler = this.profiler;
+        survivalTime += dt;
+        obstacleSpawnTimer += dt;
+        if (profiler != null) profiler.begin(spawnScope);
+        if (obstacleSpawnTimer > config.spawnInterval) {
+            if (random.nextFloat() < config.laserChance) spawnLaser();
+            else if (obstacles.size() < config.maxObstacles) spawnObstacle();
+            obstacleSpawnTimer = 0;
+        }
+        if (profiler != null) {
+            profiler.end(spawnScope);
+            profiler.begin(updateScope);
+        }
+
+        playerInput.set(input);
+        engine.update(dt);
+        if (profiler != null) {
+            profiler.end(updateScope);
+            profiler.begin(physicsScope);
+        }
+
+        physicsSystem.update(dt);
+        if (profiler != null) {
+            profiler.end(physicsScope);
+            profiler.begin(laserScope);
+        }
+
+        laserSystem.update(dt);
+        if (profiler != null) profiler.end(laserScope);
+    }
+
+    public void restart() {
+        survivalTime = 0;
+        obstacleSpawnTimer = 0;
+        gameOver = false;
+        gameOverReason = null;
+        engine.removeAllEntities(Families.homing);
+        lasers.clear();
+        for (int i = 0, n = players.size(); i < n; i++) {
+            Entity entity = players.get(i);
+            PlayerComponent state = Mappers.player.get(entity);
+            TransformComponent transform = Mappers.transform.get(entity);
+            if (state.down) {
+                state.down = false;
+                state.downReason = null;
+                entity.add(steering(transform));
+            }
+            transform.set(state.spawnX, ENTITY_Y, state.spawnZ);
+            transform.direction.set(0f, 0f, -1f);
+            physicsSystem.teleport(entity);
+        }
+    }
+
+    /**
+     * Adds a player starting every round at the given arena position; it is moved by its own
+     * {@link PlayerComponent#input}. Joining mid-round is allowed, at the spawn position.
+     */
+    public Entity addPlayer(float x, float z) {
+        Entity entity = engine.createEntity();
+        TransformComponent transform = engine.createComponent(TransformComponent.class).set(x, ENTITY_Y, z);
+        entity.add(transform);
+        PlayerComponent state = engine.createComponent(PlayerComponent.class);
+        state.spawnX = x;
+        state.spawnZ = z;
+        entity.add(state);
+        entity.add(engine.createComponent(BodyComponent.class).set(PLAYER_RADIUS, PhysicsBackend.SOLID | PhysicsBackend.BULLET));
+        entity.add(steering(transform));
+        entity.add(renderable(RenderableComponent.PLAYER));
+        engine.addEntity(entity);
+        return entity;
+    }
+
+    /**
+     * Removes a player added by {@link #addPlayer}. If it was the primary player, another one
+     * becomes primary. The last player cannot be removed.
+     */
+    public void removePlayer(Entity entity) {
+        if (players.size() <= 1) throw new IllegalStateException("Cannot remove the last player");
+        engine.removeEntity(entity);
+        if (entity == player) setPrimary(players.first());
+    }
+
+    private void setPrimary(Entity entity) {
+        player = entity;
+        playerTransform = Mappers.transform.get(entity);
+        playerInput = Mappers.player.get(entity).input;
+        laserSystem.setTarget(entity);
+    }
+
+    private SteeringComponent steering(TransformComponent transform) {
+        return engine.createComponent(SteeringComponent.class).set(transform, SteeringSystem.AGENT_RADIUS, config.playerSpeed, 0f);
+    }
+
+    private void addWall(float x, float z, float width, float depth) {
+        Entity entity = engine.createEntity();
+        entity.add(engine.createComponent(TransformComponent.class).set(x, 5f, z));
+        WallComponent wall = engine.createComponent(WallComponent.class);
+        wall.size.set(width, 10f, depth);
+        entity.add(wall);
+        entity.add(renderable(RenderableComponent.WALL));
+        engine.addEntity(entity);
+    }
+
+    private RenderableComponent renderable(int kind) {
+        RenderableComponent renderable = engine.createComponent(RenderableComponent.class);
+        renderable.kind = kind;
+        return renderable;
+    }
+
+    private void spawnObstacle() {
+        if (obstacles.size() >= config.maxObstacles) return;
+        float angle = random.nextFloat() * 360;
+        float distance = config.obstacleSpawnDistance;
+        float speed = config.obstacleSpeedMin + random.nextFloat() * (config.obstacleSpeedMax - config.obstacleSpeedMin);
+        addObstacle((float) StrictMath.cos(angle) * distance, (float) StrictMath.sin(angle) * distance, speed);
+    }
+
+    private void spawnLaser() {
+        float angle = random.nextFloat() * 360;
+        float distance = config.laserSpawnDistance;
+        float speed = config.laserSpeedMin + random.nextFloat() * (config.laserSpeedMax - config.laserSpeedMin);
+        addLaser((float) StrictMath.cos(angle) * distance, (float) StrictMath.sin(angle) * distance, speed);
+    }
+
+    /** Adds a homing obstacle at the given arena position, ignoring the spawn cap; it starts off towards the player at full speed. */
+    public Entity addObstacle(float x, float z, float speed) {
+        Entity entity = engine.createEntity();
+        TransformComponent transform = engine.createComponent(TransformComponent.class).set(x, ENTITY_Y, z);
+        entity.add(transform);
+        HomingComponent homing = engine.createComponent(HomingComponent.class);
+        homing.speed = speed;
+        entity.add(homing);
+        SteeringComponent steering = engine.createComponent(SteeringComponent.class)
+            .set(transform, SteeringSystem.AGENT_RADIUS, speed, config.obstacleAcceleration);
+        steering.linearVelocity.set(playerTransform.position).sub(transform.position).nor().scl(speed);
+        transform.direction.set(steering.linearVelocity).nor();
+        entity.add(steering);
+        float radius = Math.max(0.1f, config.collisionDistance - PLAYER_RADIUS);
+        entity.add(engine.createComponent(BodyComponent.class).set(radius, PhysicsBackend.HAZARD));
+        LifetimeComponent lifetime = engine.createComponent(LifetimeComponent.class);
+        lifetime.remaining = config.obstacleLifetime;
+        entity.add(lifetime);
+        HazardComponent hazard = engine.createComponent(HazardComponent.class);
+        hazard.reason = OBSTACLE_HIT;
+        entity.add(hazard);
+        entity.add(renderable(RenderableComponent.OBSTACLE));
+        engine.addEntity(entity);
+        return entity;
+    }
+
+    /**
+     * Adds a laser at the given arena position aimed at the player's current position, or at
+     * a random player still standing if there are several.
+     */
+    public void addLaser(float x, float z, float speed) {
+        // a single player draws nothing here, so single-player runs replay as before
+        Vector3 target = targets.size() > 1
+            ? Mappers.transform.get(targets.get(random.nextInt(targets.size()))).position
+            : playerTransform.position;
+        float dx = target.x - x, dy = target.y - ENTITY_Y, dz = target.z - z;
+        float len = (float) Math.sqrt(dx * dx + dy * dy + dz * dz);
+        if (len != 0) {
+            dx /= len;
+            dy /= len;
+            dz /= len;
+        }
+        lasers.spawn(x, ENTITY_Y, z, dx, dy, dz, speed, config.laserLifetime);
+    }
+
+    private void endGame(String reason) {
+        if (gameOver || invulnerable) return;
+        gameOver = true;
+        gameOverReason = reason;
+    }
+
+    public WorldConfig getConfig() {
+        return config;
+    }
+
+    /** The entity engine, for systems outside the simulation such as rendering. */
+    public PooledEngine getEngine() {
+        return engine;
+    }
+
+    /** The primary player, driven by the input passed to {@link #step}. */
+    public Entity getPlayer() {
+        return player;
+    }
+
+    /** Every player, downed or not, in the order they were added. */
+    public ImmutableArray<Entity> getPlayers() {
+        return players;
+    }
+
+    public Vector3 getPlayerPosition() {
+        return playerTransform.position;
+    }
+
+    public Vector3 getPlayerDirection() {
+        return playerTransform.direction;
+    }
+
+    /** Live obstacle entities, in spawn order; each has a transform and a {@link HomingComponent}. */
+    public ImmutableArray<Entity> getObstacles() {
+        return obstacles;
+    }
+
+    public ProjectileEngine getLasers() {
+        return lasers;
+    }
+
+    public float getSurvivalTime() {
+        return survivalTime;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public String getGameOverReason() {
+        return gameOverReason;
+    }
+
+    /** Releases the physics backend, which may hold native memory. */
+    @Override
+    public void dispose() {
+        physicsSystem.getBackend().dispose();
+    }
+}
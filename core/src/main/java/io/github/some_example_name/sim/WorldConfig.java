@@ -0,0 +1,47 @@
+package io.github.some_example_name.sim;
+
+/**
+ * Difficulty parameters of a {@link World}. The defaults are the hand-tuned values the game
+ * ships with; headless runs override them to explore other spawn curves.
+ */
+public class WorldConfig {
+    /** Seconds between spawns. */
+    public float spawnInterval = World.OBSTACLE_SPAWN_INTERVAL;
+    /** Probability that a spawn is a laser rather than an obstacle. */
+    public float laserChance = 0.8f;
+    /** Obstacle spawns are skipped while this many are alive. */
+    public int maxObstacles = World.MAX_OBSTACLES;
+    public float obstacleSpeedMin = 10f;
+    public float obstacleSpeedMax = 30f;
+    public float obstacleSpawnDistance = 50f;
+    public float obstacleLifetime = 15f;
+    /** Steering acceleration of obstacles; lower values make them turn wider. */
+    public float obstacleAcceleration = 60f;
+    /** Ticks between two steering re-plans of the same obstacle. */
+    public int steeringInterval = 4;
+    public float laserSpeedMin = 30f;
+    public float laserSpeedMax = 70f;
+    public float laserSpawnDistance = 60f;
+    public float laserLifetime = World.LASER_LIFETIME;
+    public float collisionDistance = World.COLLISION_DISTANCE;
+    public float playerSpeed = World.PLAYER_SPEED;
+
+    public WorldConfig set(WorldConfig other) {
+        spawnInterval = other.spawnInterval;
+        laserChance = other.laserChance;
+        maxObstacles = other.maxObstacles;
+        obstacleSpeedMin = other.obstacleSpeedMin;
+        obstacleSpeedMax = other.obstacleSpeedMax;
+        obstacleSpawnDistance = other.obstacleSpawnDistance;
+        obstacleLifetime = other.obstacleLifetime;
+        obstacleAcceleration = other.obstacleAcceleration;
+        steeringInterval = other.steeringInterval;
+        laserSpeedMin = other.laserSpeedMin;
+        laserSpeedMax = other.laserSpeedMax;
+        laserSpawnDistance = other.laserSpawnDistance;
+        laserLifetime = other.laserLifetime;
+        collisionDistance = other.collisionDistance;
+        playerSpeed = other.playerSpeed;
+        return this;
+    }
+}
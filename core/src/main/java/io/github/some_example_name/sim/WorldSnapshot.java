@@ -0,0 +1,118 @@
+package io.github.some_example_name.sim;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.Vector3;
+import io.github.some_example_name.ecs.Families;
+import io.github.some_example_name.ecs.Mappers;
+import io.github.some_example_name.ecs.RenderableComponent;
+import io.github.some_example_name.ecs.TransformComponent;
+
+import java.util.Arrays;
+
+/**
+ * Copy of everything the renderer reads from a {@link World} after a tick, so the world can
+ * keep ticking on another thread while a frame is drawn; see {@link SnapshotExchange}.
+ * <p>
+ * Each renderable keeps both its position at the start and at the end of the tick, so a
+ * single snapshot is enough to interpolate between the last two ticks. Lasers only keep
+ * their end position and velocity, from which their start can be extrapolated. Arrays grow to the
+ * largest count seen and are reused, so capturing does not allocate in steady state.
+ */
+public class WorldSnapshot {
+
+    /** Number of ticks the world had run when this was captured. */
+    public long tick;
+    /** {@link System#nanoTime()} at which the tick was due; see {@link #getAlpha(long)}. */
+    public long time;
+    public float dt;
+
+    public float survivalTime;
+    public boolean gameOver;
+    public String gameOverReason;
+
+    /** Number of renderables; the arrays below hold 1 or 3 entries per renderable. */
+    public int size;
+    public int[] kind = new int[0];
+    public float[] previous = new float[0];
+    public float[] position = new float[0];
+    public float[] direction = new float[0];
+    /** Wall extents, zero for other kinds. */
+    public float[] extent = new float[0];
+
+    public int laserCount;
+    public float[] laserPosition = new float[0];
+    public float[] laserVelocity = new float[0];
+
+    private ImmutableArray<Entity> renderables;
+    private World capturedWorld;
+    private final Vector3 tmp = new Vector3();
+
+    /** Copies the state of {@code world}, whose last tick was {@code tick}, into this snapshot. */
+    public void capture(World world, long tick, float dt) {
+        if (capturedWorld != world) {
+            capturedWorld = world;
+            renderables = world.getEngine().getEntitiesFor(Families.renderables);
+        }
+        this.tick = tick;
+        this.dt = dt;
+        survivalTime = world.getSurvivalTime();
+        gameOver = world.isGameOver();
+        gameOverReason = world.getGameOverReason();
+
+        size = renderables.size();
+        ensureCapacity(size);
+        for (int i = 0; i < size; i++) {
+            Entity entity = renderables.get(i);
+            int k = Mappers.renderable.get(entity).kind;
+            TransformComponent transform = Mappers.transform.get(entity);
+            kind[i] = k;
+            put(previous, i, transform.previous);
+            put(position, i, transform.position);
+            put(direction, i, transform.direction);
+            if (k == RenderableComponent.WALL) put(extent, i, Mappers.wall.get(entity).size);
+            else extent[i * 3] = extent[i * 3 + 1] = extent[i * 3 + 2] = 0;
+        }
+
+        ProjectileEngine lasers = world.getLasers();
+        laserCount = lasers.size();
+        if (laserPosition.length < laserCount * 3) {
+            int capacity = Math.max(laserCount, laserPosition.length / 3 * 2) * 3;
+            laserPosition = Arrays.copyOf(laserPosition, capacity);
+            laserVelocity = Arrays.copyOf(laserVelocity, capacity);
+        }
+        for (int i = 0; i < laserCount; i++) {
+            put(laserPosition, i, lasers.getPosition(i, tmp));
+            put(laserVelocity, i, lasers.getDirection(i, tmp).scl(lasers.getSpeed(i)));
+        }
+    }
+
+    public Vector3 getExtent(int i, Vector3 out) {
+        return out.set(extent[i * 3], extent[i * 3 + 1], extent[i * 3 + 2]);
+    }
+
+    /**
+     * How far through the tick the snapshot is at {@code nanoTime}, for snapshots published
+     * by a {@link SimulationThread}: 0 when the tick was due, 1 a tick later.
+     */
+    public float getAlpha(long nanoTime) {
+        float alpha = (nanoTime - time) / (dt * 1e9f);
+        return alpha < 0f ? 0f : alpha > 1f ? 1f : alpha;
+    }
+
+    private void ensureCapacity(int count) {
+        if (kind.length >= count) return;
+        int capacity = Math.max(count, kind.length * 2);
+        kind = Arrays.copyOf(kind, capacity);
+        previous = Arrays.copyOf(previous, capacity * 3);
+        position = Arrays.copyOf(position, capacity * 3);
+        direction = Arrays.copyOf(direction, capacity * 3);
+        extent = Arrays.copyOf(extent, capacity * 3);
+    }
+
+    private static void put(float[] array, int i, Vector3 v) {
+        array[i * 3] = v.x;
+        array[i * 3 + 1] = v.y;
+        array[i * 3 + 2] = v.z;
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.some_example_name.tuning;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.Vector3;
+import io.github.some_example_name.ecs.Mappers;
+import io.github.some_example_name.sim.InputState;
+import io.github.some_example_name.sim.ProjectileEngine;
+import io.github.some_example_name.sim.World;
+
+/**
+ * Scripted player for headless runs. Every tick it tries the nine key combinations, predicts
+ * where the player and every hazard will be over the next {@link #SAMPLE_TIMES}, and picks the
+ * combination that keeps the most clearance. Lasers are extrapolated in a straight line and
+ * obstacles are assumed to home in on the predicted player position.
+ * <p>
+ * It is deliberately a decent rather than a perfect player, so that survival times react to
+ * difficulty changes the way a human's would. It does not allocate.
+ */
+public class DodgeBot {
+
+    private static final float[] SAMPLE_TIMES = {0.05f, 0.15f, 0.3f, 0.5f, 0.75f};
+    /** Clearance bonus per second of look-ahead, so imminent threats outweigh distant ones. */
+    private static final float URGENCY = 6f;
+    /** Clearance cost per unit of distance from the arena centre, so the bot avoids corners. */
+    private static final float CENTERING = 0.05f;
+    /** A new choice must beat the current one by this much, which stops dithering between equals. */
+    private static final float HYSTERESIS = 0.25f;
+
+    private final InputState input = new InputState();
+    private final Vector3 position = new Vector3();
+    private final Vector3 direction = new Vector3();
+    private int choice = 4;
+
+    /** Returns the input for the next tick of {@code world}; the instance is reused. */
+    public InputState think(World world) {
+        float best = Float.NEGATIVE_INFINITY;
+        int bestChoice = choice;
+        for (int c = 0; c < 9; c++) {
+            float score = score(world, c / 3 - 1, c % 3 - 1);
+            if (c == choice) score += HYSTERESIS;
+            if (score > best) {
+                best = score;
+                bestChoice = c;
+            }
+        }
+        choice = bestChoice;
+        int f = choice / 3 - 1, r = choice % 3 - 1;
+        input.clear();
+        input.forward = f > 0;
+        input.back = f < 0;
+        input.right = r > 0;
+        input.left = r < 0;
+        return input;
+    }
+
+    /** Worst clearance along the path produced by holding forward {@code f} and right {@code r}. */
+    private float score(World world, int f, int r) {
+        Vector3 forward = world.getForward(), right = world.getRight();
+        Vector3 player = world.getPlayerPosition();
+        float speed = world.getConfig().playerSpeed;
+        // World adds both axes at full speed, so diagonals are faster
+        float vx = (forward.x * f + right.x * r) * speed;
+        float vz = (forward.z * f + right.z * r) * speed;
+
+        ProjectileEngine lasers = world.getLasers();
+        ImmutableArray<Entity> obstacles = world.getObstacles();
+        float worst = Float.POSITIVE_INFINITY;
+        for (float t : SAMPLE_TIMES) {
+            float px = clamp(player.x + vx * t, -World.BOUNDS_X + 2f, World.BOUNDS_X - 2f);
+            float pz = clamp(player.z + vz * t, -World.BOUNDS_Z + 17f, World.BOUNDS_Z - 2f);
+            float nearest = Float.POSITIVE_INFINITY;
+            for (int i = 0, n = lasers.size(); i < n; i++) {
+                lasers.getPosition(i, position);
+                lasers.getDirection(i, direction);
+                float step = lasers.getSpeed(i) * t;
+                float dx = position.x + direction.x * step - px;
+                float dz = position.z + direction.z * step - pz;
+                nearest = Math.min(nearest, dx * dx + dz * dz);
+            }
+            for (int i = 0, n = obstacles.size(); i < n; i++) {
+                Entity obstacle = obstacles.get(i);
+                Vector3 o = Mappers.transform.get(obstacle).position;
+                float dx = o.x - px, dz = o.z - pz;
+                float distance = (float) Math.sqrt(dx * dx + dz * dz);
+                float remaining = Math.max(0, distance - Mappers.homing.get(obstacle).speed * t);
+                nearest = Math.min(nearest, remaining * remaining);
+            }
+            float clearance = (float) Math.sqrt(nearest) + URGENCY * t - CENTERING * (float) Math.sqrt(px * px + pz * pz);
+            worst = Math.min(worst, clearance);
+        }
+        return worst;
+    }
+
+    private static float clamp(float value, float min, float max) {
+        return value < min ? min : value > max ? max : value;
+    }
+}
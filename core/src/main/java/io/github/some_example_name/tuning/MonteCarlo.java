@@ -0,0 +1,80 @@
+package io.github.some_example_name.tuning;
+
+import io.github.some_example_name.sim.IntegratedProjectiles;
+import io.github.some_example_name.sim.Simulation;
+import io.github.some_example_name.sim.World;
+import io.github.some_example_name.sim.WorldConfig;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Runs many independent headless sessions of one {@link WorldConfig}, each played by a
+ * {@link DodgeBot}, and collects their survival times.
+ * <p>
+ * Session {@code i} uses seed {@code baseSeed + i}, and sessions share nothing, so results
+ * do not depend on how the work is split across threads. Each session also plans its
+ * obstacle steering on the pool it runs on; see {@link World#setWorkerPool}.
+ */
+public class MonteCarlo {
+
+    /** Sessions per fork-join leaf; large enough to amortize task overhead. */
+    private static final int LEAF_SESSIONS = 8;
+
+    private final WorldConfig config;
+    private final float maxTime;
+
+    /** @param maxTime sessions still alive after this many simulated seconds count as {@link SurvivalStats#SURVIVED} */
+    public MonteCarlo(WorldConfig config, float maxTime) {
+        this.config = new WorldConfig().set(config);
+        this.maxTime = maxTime;
+    }
+
+    public SurvivalStats run(ForkJoinPool pool, int sessions, long baseSeed) {
+        return pool.invoke(new Batch(pool, baseSeed, 0, sessions));
+    }
+
+    /**
+     * Plays one session to game over or the time limit with a fresh bot, adding it to {@code stats}.
+     *
+     * @param workers pool the world plans steering on, or null for the calling thread
+     */
+    public void runSession(long seed, SurvivalStats stats, ForkJoinPool workers) {
+        DodgeBot bot = new DodgeBot();
+        World world = new World(new IntegratedProjectiles(World.LASER_MAX_DISTANCE), config);
+        world.setSeed(seed);
+        world.setWorkerPool(workers);
+        Simulation simulation = new Simulation(world);
+        long maxTicks = (long) Math.ceil(maxTime / simulation.getFixedDt());
+        while (!world.isGameOver() && simulation.getTicks() < maxTicks) simulation.tick(bot.think(world));
+        stats.add(world.getSurvivalTime(), world.isGameOver() ? world.getGameOverReason() : SurvivalStats.SURVIVED);
+        world.dispose();
+    }
+
+    private class Batch extends RecursiveTask<SurvivalStats> {
+        private final ForkJoinPool pool;
+        private final long baseSeed;
+        private final int from, to;
+
+        Batch(ForkJoinPool pool, long baseSeed, int from, int to) {
+            this.pool = pool;
+            this.baseSeed = baseSeed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SurvivalStats compute() {
+            if (to - from <= LEAF_SESSIONS) {
+                SurvivalStats stats = new SurvivalStats();
+                for (int i = from; i < to; i++) runSession(baseSeed + i, stats, pool);
+                return stats;
+            }
+            int mid = (from + to) >>> 1;
+            Batch left = new Batch(pool, baseSeed, from, mid);
+            left.fork();
+            SurvivalStats right = new Batch(pool, baseSeed, mid, to).compute();
+            return left.join().merge(right);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.some_example_name.tuning;
+
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+import java.util.Arrays;
+
+/** Survival times of a batch of sessions and how each one ended. Not thread-safe; merge per-thread instances. */
+public class SurvivalStats {
+
+    /** Reason recorded for sessions that reached the time limit. */
+    public static final String SURVIVED = "Survived";
+
+    private final FloatArray times = new FloatArray();
+    private final ObjectIntMap<String> reasons = new ObjectIntMap<>();
+    private float[] sorted;
+
+    public void add(float survivalTime, String reason) {
+        times.add(survivalTime);
+        reasons.getAndIncrement(reason, 0, 1);
+        sorted = null;
+    }
+
+    public SurvivalStats merge(SurvivalStats other) {
+        times.addAll(other.times);
+        for (ObjectIntMap.Entry<String> entry : other.reasons) reasons.getAndIncrement(entry.key, 0, entry.value);
+        sorted = null;
+        return this;
+    }
+
+    public int getCount() {
+        return times.size;
+    }
+
+    public float getMean() {
+        double sum = 0;
+        for (int i = 0; i < times.size; i++) sum += times.get(i);
+        return times.size == 0 ? 0 : (float) (sum / times.size);
+    }
+
+    /** Nearest-rank percentile of the survival times, {@code p} in [0, 100]. */
+    public float percentile(float p) {
+        if (times.size == 0) return 0;
+        if (sorted == null) {
+            sorted = times.toArray();
+            Arrays.sort(sorted);
+        }
+        int rank = (int) Math.ceil(p / 100f * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    /** Share of sessions that ended for {@code reason}, in [0, 1]. */
+    public float getShare(String reason) {
+        return times.size == 0 ? 0 : reasons.get(reason, 0) / (float) times.size;
+    }
+
+    /** Session counts per {@code width}-second bucket of survival time, the last bucket open-ended. */
+    public int[] histogram(float width, int buckets) {
+        int[] counts = new int[buckets];
+        for (int i = 0; i < times.size; i++) counts[Math.min(buckets - 1, (int) (times.get(i) / width))]++;
+        return counts;
+    }
+}
@@ -0,0 +1,183 @@
+package io.github.some_example_name.ui;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
+import com.badlogic.gdx.scenes.scene2d.ui.Window;
+import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.viewport.ScreenViewport;
+import io.github.some_example_name.profiling.LatencyHistogram;
+import io.github.some_example_name.sim.WorldSnapshot;
+
+/**
+ * Score, game over and pause panels and an optional stats panel, as a Scene2D {@link Stage}
+ * styled by the bundled {@code ui/uiskin.json}.
+ * <p>
+ * {@link #update} is called every frame but only touches what changed: numbers go through
+ * {@link ValueLabel}s, the game over reason is only replaced when a different one comes in and
+ * panels only change visibility on a transition. Labels whose text did not change keep their
+ * glyph layouts, so the HUD allocates nothing per frame once it is showing.
+ * <p>
+ * Buttons report through a {@link Listener}; the stage must be the input processor, or part of
+ * it, for them to work.
+ */
+public class Hud implements Disposable {
+
+    /** Told when a HUD button is clicked. */
+    public interface Listener {
+        void resume();
+
+        void restart();
+    }
+
+    private final Stage stage;
+    private final ValueLabel score;
+    private final Window gameOverPanel;
+    private final Label gameOverReason;
+    private final ValueLabel finalScore;
+    private final Window pausePanel;
+    private final Table statsPanel;
+    private final ValueLabel fps;
+    private final ValueLabel tick;
+    private final ValueLabel renderables;
+    private final ValueLabel lasers;
+    private final ValueLabel culled;
+    private final ValueLabel inputLatency;
+
+    public Hud(Skin skin, Batch batch, final Listener listener) {
+        stage = new Stage(new ScreenViewport(), batch);
+
+        Table root = new Table();
+        root.setFillParent(true);
+        root.top().left().pad(12f);
+        score = new ValueLabel("Score: ", skin, "subtitle");
+        root.add(score).left().row();
+        statsPanel = new Table(skin);
+        statsPanel.setBackground(skin.newDrawable("white", 0f, 0f, 0f, 0.5f));
+        statsPanel.pad(6f).defaults().left();
+        fps = addStat("FPS: ", skin);
+        tick = addStat("Tick: ", skin);
+        renderables = addStat("Renderables: ", skin);
+        lasers = addStat("Lasers: ", skin);
+        culled = addStat("Culled: ", skin);
+        inputLatency = addStat("Input p95 ms: ", skin);
+        statsPanel.setVisible(false);
+        root.add(statsPanel).left().padTop(8f);
+        stage.addActor(root);
+
+        TextButton restart = new TextButton("Restart", skin);
+        restart.addListener(new ChangeListener() {
+            @Override
+            public void changed(ChangeEvent event, Actor actor) {
+                listener.restart();
+            }
+        });
+        gameOverPanel = new Window("GAME OVER", skin);
+        gameOverPanel.setMovable(false);
+        gameOverPanel.pad(36f, 16f, 16f, 16f).defaults().space(8f);
+        gameOverReason = new Label("", skin);
+        finalScore = new ValueLabel("Survived: ", skin, "subtitle");
+        gameOverPanel.add(gameOverReason).row();
+        gameOverPanel.add(finalScore).row();
+        gameOverPanel.add(restart).width(160f).row();
+        gameOverPanel.add(new Label("or press R", skin, "list"));
+        gameOverPanel.setVisible(false);
+        stage.addActor(gameOverPanel);
+
+        TextButton resume = new TextButton("Resume", skin);
+        resume.addListener(new ChangeListener() {
+            @Override
+            public void changed(ChangeEvent event, Actor actor) {
+                listener.resume();
+            }
+        });
+        TextButton pauseRestart = new TextButton("Restart", skin);
+        pauseRestart.addListener(new ChangeListener() {
+            @Override
+            public void changed(ChangeEvent event, Actor actor) {
+                listener.restart();
+            }
+        });
+        pausePanel = new Window("PAUSED", skin);
+        pausePanel.setMovable(false);
+        pausePanel.pad(36f, 16f, 16f, 16f).defaults().space(8f);
+        pausePanel.add(resume).width(160f).row();
+        pausePanel.add(pauseRestart).width(160f).row();
+        pausePanel.add(new Label("Esc to resume, Tab for stats", skin, "list"));
+        pausePanel.setVisible(false);
+        stage.addActor(pausePanel);
+    }
+
+    private ValueLabel addStat(String prefix, Skin skin) {
+        ValueLabel label = new ValueLabel(prefix, skin, "list");
+        statsPanel.add(label).row();
+        return label;
+    }
+
+    public Stage getStage() {
+        return stage;
+    }
+
+    /**
+     * Shows the state of {@code snapshot}, with the renderer's {@code culledCount}, the frame
+     * rate and the 95th percentile of {@code inputLatency} in the stats panel if it is visible.
+     */
+    public void update(WorldSnapshot snapshot, boolean paused, int culledCount, int framesPerSecond,
+                       LatencyHistogram inputLatency) {
+        score.setValue((long) snapshot.survivalTime);
+        if (snapshot.gameOver) {
+            String reason = snapshot.gameOverReason != null ? snapshot.gameOverReason : "";
+            if (!gameOverReason.textEquals(reason)) gameOverReason.setText(reason);
+            finalScore.setValue(snapshot.survivalTime, 1);
+        }
+        show(gameOverPanel, snapshot.gameOver);
+        show(pausePanel, paused && !snapshot.gameOver);
+        if (statsPanel.isVisible()) {
+            fps.setValue(framesPerSecond);
+            tick.setValue(snapshot.tick);
+            renderables.setValue(snapshot.size);
+            lasers.setValue(snapshot.laserCount);
+            culled.setValue(culledCount);
+            this.inputLatency.setValue(inputLatency.percentile(0.95) / 1e6f, 1);
+        }
+    }
+
+    public void toggleStats() {
+        statsPanel.setVisible(!statsPanel.isVisible());
+    }
+
+    public void draw(float delta) {
+        stage.act(delta);
+        stage.draw();
+    }
+
+    public void resize(int width, int height) {
+        stage.getViewport().update(width, height, true);
+        center(gameOverPanel);
+        center(pausePanel);
+    }
+
+    private void show(Window panel, boolean visible) {
+        if (panel.isVisible() == visible) return;
+        panel.setVisible(visible);
+        if (visible) {
+            panel.pack();
+            center(panel);
+        }
+    }
+
+    private void center(Window panel) {
+        panel.setPosition(stage.getWidth() / 2f, stage.getHeight() / 2f, Align.center);
+    }
+
+    @Override
+    public void dispose() {
+        stage.dispose();
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.some_example_name.ui;
+
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.StringBuilder;
+
+/**
+ * Label showing a fixed prefix followed by a number.
+ * <p>
+ * The text is written into a reused {@link StringBuilder} without boxing or formatting, and
+ * only when the number as shown changes; the label then keeps its cached glyph layout until
+ * the next change. Setting the same value every frame therefore neither allocates nor lays
+ * out text again.
+ */
+public class ValueLabel extends Label {
+
+    private static final long[] POWERS_OF_TEN = {1, 10, 100, 1000, 10000};
+
+    private final String prefix;
+    private final StringBuilder builder = new StringBuilder(32);
+    private long shown = Long.MIN_VALUE;
+    private int shownDecimals = -1;
+
+    public ValueLabel(String prefix, Skin skin, String styleName) {
+        super(prefix, skin, styleName);
+        this.prefix = prefix;
+    }
+
+    public void setValue(long value) {
+        show(value, 0);
+    }
+
+    /** Shows {@code value} rounded to {@code decimals} digits after the point, at most 4. */
+    public void setValue(float value, int decimals) {
+        show(Math.round(value * POWERS_OF_TEN[decimals]), decimals);
+    }
+
+    private void show(long scaled, int decimals) {
+        if (scaled == shown && decimals == shownDecimals) return;
+        shown = scaled;
+        shownDecimals = decimals;
+        builder.setLength(0);
+        builder.append(prefix);
+        if (scaled < 0) {
+            builder.append('-');
+            scaled = -scaled;
+        }
+        long unit = POWERS_OF_TEN[decimals];
+        builder.append(scaled / unit);
+        if (decimals > 0) builder.append('.').append(scaled % unit, decimals, '0');
+        setText(builder);
+    }
+}
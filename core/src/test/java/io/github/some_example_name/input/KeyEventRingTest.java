@@ -0,0 +1,91 @@
+package io.github.some_example_name.input;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class KeyEventRingTest {
+
+    @Test
+    public void roundsCapacityUpToAPowerOfTwo() {
+        KeyEventRing ring = new KeyEventRing(5);
+        for (int i = 0; i < 8; i++) assertTrue(ring.offer(i, i));
+        assertFalse(ring.offer(8, 8));
+    }
+
+    @Test
+    public void keepsOrderAcrossWraparound() {
+        KeyEventRing ring = new KeyEventRing(8);
+        long next = 0, expected = 0;
+        // offers and polls out of step, so head and tail wrap many times at every offset
+        for (int round = 0; round < 1000; round++) {
+            for (int i = 0; i < 1 + round % 4; i++) assertTrue(ring.offer(next * 10, (int) next++));
+            for (int i = 0; i < 1 + round % 3 && !ring.isEmpty(); i++) {
+                assertEquals(expected * 10, ring.peekTime());
+                assertEquals(expected++, ring.peekEvent());
+                ring.poll();
+            }
+            while (next - expected > 4) {
+                // keep it from filling up, which the next test covers
+                assertEquals(expected++, ring.peekEvent());
+                ring.poll();
+            }
+        }
+        while (!ring.isEmpty()) {
+            assertEquals(expected++, ring.peekEvent());
+            ring.poll();
+        }
+        assertEquals(next, expected);
+        assertEquals(0, ring.getDropped());
+    }
+
+    @Test
+    public void rejectsAndCountsEventsWhenFull() {
+        KeyEventRing ring = new KeyEventRing(4);
+        for (int i = 0; i < 4; i++) assertTrue(ring.offer(i, i));
+        assertFalse(ring.offer(4, 4));
+        assertFalse(ring.offer(5, 5));
+        assertEquals(2, ring.getDropped());
+
+        // the events already queued are untouched, and freeing a slot takes events again
+        assertEquals(0, ring.peekEvent());
+        ring.poll();
+        assertTrue(ring.offer(6, 6));
+        for (int expected : new int[] {1, 2, 3, 6}) {
+            assertEquals(expected, ring.peekEvent());
+            assertEquals(expected, ring.peekTime());
+            ring.poll();
+        }
+        assertTrue(ring.isEmpty());
+        assertEquals(2, ring.getDropped());
+    }
+
+    @Test
+    public void producerAndConsumerOnSeparateThreads() throws InterruptedException {
+        final KeyEventRing ring = new KeyEventRing(16);
+        final int events = 200_000;
+        Thread producer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < events; i++) {
+                    while (!ring.offer(i, i)) Thread.yield();
+                }
+            }
+        });
+        producer.start();
+        int expected = 0;
+        while (expected < events) {
+            if (ring.isEmpty()) {
+                Thread.yield();
+                continue;
+            }
+            assertEquals(expected, ring.peekTime());
+            assertEquals(expected++, ring.peekEvent());
+            ring.poll();
+        }
+        producer.join();
+        assertTrue(ring.isEmpty());
+    }
+}
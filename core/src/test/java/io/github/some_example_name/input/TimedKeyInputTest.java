@@ -0,0 +1,174 @@
+package io.github.some_example_name.input;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.Input.Keys;
+import io.github.some_example_name.sim.InputState;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/** Holds {@link TimedKeyInput} measures from key events, on ticks of 6400 ns, 100 ns per 64th. */
+public class TimedKeyInputTest {
+
+    private static final long TICK = 6400;
+    private static final long STEP = TICK / InputState.HOLD_STEPS;
+    private static final long START = 1_000_000;
+
+    private Input previousInput;
+    /** What the stubbed backend reports as the current event's time. */
+    private long eventTime;
+    private TimedKeyInput keys;
+    private final InputState input = new InputState();
+
+    @Before
+    public void setUp() {
+        previousInput = Gdx.input;
+        Gdx.input = (Input) Proxy.newProxyInstance(Input.class.getClassLoader(), new Class[] {Input.class},
+            new InvocationHandler() {
+                @Override
+                public Object invoke(Object proxy, Method method, Object[] args) {
+                    if (method.getName().equals("getCurrentEventTime")) return eventTime;
+                    throw new UnsupportedOperationException(method.getName());
+                }
+            });
+        keys = new TimedKeyInput(TICK);
+        // the first sample only sets where the next one starts
+        keys.sample(START, input);
+    }
+
+    @After
+    public void tearDown() {
+        Gdx.input = previousInput;
+    }
+
+    @Test
+    public void heldKeyFillsEveryTick() {
+        press(Keys.W, START);
+        assertEquals(InputState.HOLD_STEPS, sampleTick(1, InputState.FORWARD));
+        assertEquals(InputState.HOLD_STEPS, sampleTick(2, InputState.FORWARD));
+        assertEquals(0, input.getPartial());
+        assertEquals(1f, input.getHold(InputState.FORWARD), 0f);
+    }
+
+    @Test
+    public void holdIsSplitAcrossTickBoundaries() {
+        // down 16/64 into the first tick, up 40/64 into the third
+        press(Keys.D, START + 16 * STEP);
+        release(Keys.D, START + 2 * TICK + 40 * STEP);
+        assertEquals(48, sampleTick(1, InputState.RIGHT));
+        assertEquals(InputState.RIGHT, input.getPartial());
+        assertEquals(InputState.HOLD_STEPS, sampleTick(2, InputState.RIGHT));
+        assertEquals(40, sampleTick(3, InputState.RIGHT));
+        assertEquals(0, sampleTick(4, InputState.RIGHT));
+    }
+
+    @Test
+    public void roundsToTheNearestStep() {
+        press(Keys.A, START + 10 * STEP + STEP / 2 + 1);
+        assertEquals(InputState.HOLD_STEPS - 11, sampleTick(1, InputState.LEFT));
+    }
+
+    @Test
+    public void directionsAreMeasuredIndependently() {
+        press(Keys.W, START + 8 * STEP);
+        press(Keys.A, START + 32 * STEP);
+        sampleTick(1, InputState.FORWARD);
+        assertEquals(56, input.getHoldSteps(InputState.FORWARD));
+        assertEquals(32, input.getHoldSteps(InputState.LEFT));
+        assertEquals(0, input.getHoldSteps(InputState.BACK));
+        assertEquals(0, input.getHoldSteps(InputState.RIGHT));
+    }
+
+    @Test
+    public void tapIsHeldForAtLeastTheMinimum() {
+        // 2/64 long, so held for a tick from the press instead
+        press(Keys.S, START + 32 * STEP);
+        release(Keys.S, START + 34 * STEP);
+        assertEquals(32, sampleTick(1, InputState.BACK));
+        assertEquals(32, sampleTick(2, InputState.BACK));
+        assertEquals(0, sampleTick(3, InputState.BACK));
+    }
+
+    @Test
+    public void tapBetweenSamplesIsNotLost() {
+        // pressed and released within the tick, before it was sampled
+        press(Keys.W, START + TICK - STEP);
+        release(Keys.W, START + TICK - STEP / 2);
+        assertEquals(1, sampleTick(1, InputState.FORWARD));
+        assertEquals(InputState.HOLD_STEPS - 1, sampleTick(2, InputState.FORWARD));
+        assertEquals(0, sampleTick(3, InputState.FORWARD));
+    }
+
+    @Test
+    public void eventsAfterTheSampleWaitForTheNextTick() {
+        press(Keys.W, START + TICK + 16 * STEP);
+        assertEquals(0, sampleTick(1, InputState.FORWARD));
+        assertEquals(48, sampleTick(2, InputState.FORWARD));
+    }
+
+    @Test
+    public void pressWhileReleasePendingMergesTheHolds() {
+        press(Keys.D, START);
+        release(Keys.D, START + 8 * STEP);
+        // within the minimum hold the key is still counted as down, so this continues it
+        press(Keys.D, START + 16 * STEP);
+        release(Keys.D, START + TICK + 32 * STEP);
+        assertEquals(InputState.HOLD_STEPS, sampleTick(1, InputState.RIGHT));
+        assertEquals(32, sampleTick(2, InputState.RIGHT));
+    }
+
+    @Test
+    public void skipDropsEventsWithoutMeasuringThem() {
+        press(Keys.W, START + 16 * STEP);
+        release(Keys.W, START + 2 * TICK);
+        keys.skip(START + TICK);
+        // still held past the skipped span, until its release
+        assertEquals(InputState.HOLD_STEPS, sampleTick(2, InputState.FORWARD));
+        assertEquals(0, sampleTick(3, InputState.FORWARD));
+        keys.applied(START + 3 * TICK);
+        assertEquals(1, keys.getLatency().getCount());
+    }
+
+    @Test
+    public void recordsLatencyFromEventToAppliedTick() {
+        press(Keys.W, START + 16 * STEP);
+        sampleTick(1, InputState.FORWARD);
+        keys.applied(START + TICK + 500);
+        assertEquals(1, keys.getLatency().getCount());
+        assertEquals(TICK - 16 * STEP + 500, keys.getLatency().getMax());
+    }
+
+    @Test
+    public void otherKeysAreLeftToTheNextProcessor() {
+        eventTime = START;
+        assertFalse(keys.keyDown(Keys.R));
+        assertFalse(keys.keyDown(Keys.W));
+        assertEquals(0, sampleTick(1, InputState.RIGHT));
+        assertEquals(0, input.getHoldSteps(InputState.BACK));
+        assertEquals(InputState.HOLD_STEPS, input.getHoldSteps(InputState.FORWARD));
+    }
+
+    private void press(int keycode, long nanoTime) {
+        eventTime = nanoTime;
+        keys.keyDown(keycode);
+    }
+
+    private void release(int keycode, long nanoTime) {
+        eventTime = nanoTime;
+        keys.keyUp(keycode);
+    }
+
+    /** Samples up to the end of tick {@code tick} after the start and returns the steps {@code direction} was held. */
+    private int sampleTick(int tick, int direction) {
+        keys.sample(START + tick * TICK, input);
+        return input.getHoldSteps(direction);
+    }
+}
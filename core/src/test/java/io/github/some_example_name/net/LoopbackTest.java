@@ -0,0 +1,125 @@
+package io.github.some_example_name.net;
+
+import com.badlogic.gdx.math.RandomXS128;
+import io.github.some_example_name.sim.InputState;
+import io.github.some_example_name.sim.World;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A {@link GameServer} and simulated {@link GameClient}s over loopback, in lockstep on one
+ * thread: the server runs one tick per step on a clock of its own, then every client reads
+ * what it was sent and answers with its input. Every state a client decodes must equal the
+ * one the server captured for that tick.
+ */
+public class LoopbackTest {
+
+    private static final int CLIENTS = 4;
+    private static final long TICK_NANOS = 1_000_000_000L / GameServer.TICK_RATE;
+
+    private GameServer server;
+    private final GameClient[] clients = new GameClient[CLIENTS];
+    private final InputState[] inputs = new InputState[CLIENTS];
+    /** Per client, whether it has decoded a delta snapshot yet. */
+    private final boolean[] sawDelta = new boolean[CLIENTS];
+    private final RandomXS128 random = new RandomXS128(1);
+    private long clock;
+
+    @Before
+    public void setUp() throws IOException {
+        World world = new World();
+        world.setSeed(1);
+        server = new GameServer(world, 0);
+        InetSocketAddress address = new InetSocketAddress("127.0.0.1", server.getPort());
+        for (int i = 0; i < CLIENTS; i++) {
+            clients[i] = new GameClient(address);
+            inputs[i] = new InputState();
+        }
+        clock = System.nanoTime();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        for (GameClient client : clients) {
+            if (client != null) client.close();
+        }
+        if (server != null) server.close();
+    }
+
+    @Test
+    public void clientsDecodeTheServerStateAndSwitchToDeltas() throws IOException {
+        run(600);
+
+        assertEquals(CLIENTS, server.getClientCount());
+        assertTrue(server.getDeltaSnapshots() > 10 * server.getFullSnapshots());
+        for (int i = 0; i < CLIENTS; i++) {
+            GameClient client = clients[i];
+            assertTrue(client.isConnected());
+            assertEquals(0, client.getUndecodable());
+            assertTrue("client " + i + " used deltas", sawDelta[i]);
+            assertCaughtUp(client);
+        }
+    }
+
+    @Test
+    public void clientsConvergeOverALossyLink() throws IOException {
+        for (int i = 0; i < CLIENTS; i++) clients[i].setLossRate(0.2f, 10 + i);
+        run(1200);
+        for (int i = 0; i < CLIENTS; i++) {
+            assertTrue("client " + i + " used deltas", sawDelta[i]);
+            assertTrue("client " + i + " decoded " + clients[i].getSnapshotCount(), clients[i].getSnapshotCount() > 100);
+        }
+
+        // once the link recovers, every client is back on the newest state within a few snapshots
+        for (GameClient client : clients) client.setLossRate(0f, 0);
+        run(30);
+        for (GameClient client : clients) assertCaughtUp(client);
+    }
+
+    /** Runs {@code ticks} lockstep steps, checking every decoded state. */
+    private void run(int ticks) throws IOException {
+        for (int t = 0; t < ticks; t++) {
+            clock += TICK_NANOS;
+            server.update(clock);
+            for (int i = 0; i < CLIENTS; i++) {
+                GameClient client = clients[i];
+                if (client.poll()) check(i, client);
+                if (!client.isConnected()) {
+                    client.connect();
+                    continue;
+                }
+                if (random.nextInt(30) == 0) inputs[i].setMask(random.nextInt(16));
+                client.sendInput(inputs[i]);
+            }
+        }
+    }
+
+    private void check(int i, GameClient client) {
+        NetState state = client.getLatest();
+        NetState expected = server.getState(state.tick);
+        assertNotNull("tick " + state.tick + " is still on the server", expected);
+        assertTrue("client " + i + " decoded tick " + state.tick + " as the server captured it", expected.equalTo(state));
+        if (client.getLatestBase() >= 0) {
+            sawDelta[i] = true;
+        } else {
+            // once a client has acked a state the server still keeps, it only gets deltas
+            assertFalse("client " + i + " got a full snapshot at tick " + state.tick + " after deltas", sawDelta[i]);
+        }
+    }
+
+    private void assertCaughtUp(GameClient client) {
+        NetState latest = client.getLatest();
+        assertNotNull(latest);
+        assertEquals(server.getTick() - server.getTick() % GameServer.SNAPSHOT_INTERVAL, latest.tick);
+        assertTrue(server.getState(latest.tick).equalTo(latest));
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.some_example_name.render;
+
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.BoundingBox;
+
+/** A model without meshes that reports fixed bounds, so rendering logic can be tested without GL. */
+class BoundsModel extends Model {
+
+    private final BoundingBox bounds;
+
+    BoundsModel(Vector3 min, Vector3 max) {
+        bounds = new BoundingBox(min, max);
+    }
+
+    /** A cube of side {@code size} centred on the origin. */
+    static BoundsModel cube(float size) {
+        return new BoundsModel(new Vector3(-size / 2, -size / 2, -size / 2), new Vector3(size / 2, size / 2, size / 2));
+    }
+
+    @Override
+    public BoundingBox calculateBoundingBox(BoundingBox out) {
+        return out.set(bounds);
+    }
+
+    @Override
+    public BoundingBox extendBoundingBox(BoundingBox out) {
+        return out.ext(bounds);
+    }
+}
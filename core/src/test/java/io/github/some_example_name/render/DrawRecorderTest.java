@@ -0,0 +1,130 @@
+package io.github.some_example_name.render;
+
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import io.github.some_example_name.ecs.RenderableComponent;
+import io.github.some_example_name.sim.InputState;
+import io.github.some_example_name.sim.World;
+import io.github.some_example_name.sim.WorldSnapshot;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/** What {@link SnapshotRenderer} submits for a frame, recorded headlessly by {@link DrawRecorder}. */
+public class DrawRecorderTest {
+
+    private static final int OBSTACLES = 3;
+    private static final int LASERS = 5;
+    /** The floor plus the arena's four walls. */
+    private static final int STATICS = 5;
+
+    private final Model floor = BoundsModel.cube(1f);
+    private final Model wall = BoundsModel.cube(1f);
+    private final Model player = BoundsModel.cube(1f);
+    private final Model obstacle = BoundsModel.cube(1f);
+    private final Model laser = BoundsModel.cube(1f);
+
+    private World world;
+    private PerspectiveCamera camera;
+    private final WorldSnapshot snapshot = new WorldSnapshot();
+    private final SnapshotRenderer renderer = new SnapshotRenderer();
+    private final DrawRecorder recorder = new DrawRecorder();
+
+    @BeforeClass
+    public static void loadNatives() {
+        // camera and frustum maths are native, though nothing here needs GL
+        GdxNativesLoader.load();
+    }
+
+    @Before
+    public void setUp() {
+        world = new World();
+        world.setSeed(1);
+        for (int i = 0; i < OBSTACLES; i++) world.addObstacle(-30f + 30f * i, -40f, 5f);
+        for (int i = 0; i < LASERS; i++) world.addLaser(-40f + 20f * i, 60f, 10f);
+        world.step(1f / 60f, new InputState());
+
+        renderer.setModel(RenderableComponent.PLAYER, new LodModel(player), 1f);
+        renderer.setModel(RenderableComponent.OBSTACLE, new LodModel(obstacle), 1f);
+        renderer.setModel(RenderableComponent.WALL, new LodModel(wall), 1f);
+        renderer.setLaserModel(new LodModel(laser), 1f);
+        renderer.addStatic(new ModelInstance(floor));
+
+        // high above the arena, seeing all of it
+        camera = new PerspectiveCamera(67f, 1280f, 720f);
+        camera.position.set(0f, 200f, 8f);
+        camera.lookAt(0f, 0f, 7.5f);
+        camera.near = 1f;
+        camera.far = 500f;
+        camera.update();
+    }
+
+    @After
+    public void tearDown() {
+        world.dispose();
+    }
+
+    @Test
+    public void drawsTheArenaOnceAndEachModelInstanced() {
+        renderFrame();
+
+        assertEquals(0, renderer.getCulledCount());
+        assertEquals(4, recorder.getDrawCalls());
+        assertEquals(DrawRecorder.STATIC, recorder.getType(0));
+        assertEquals(STATICS, recorder.getCount(0));
+        assertInstanced(player, 1);
+        assertInstanced(obstacle, OBSTACLES);
+        assertInstanced(laser, LASERS);
+        assertEquals(STATICS + 1 + OBSTACLES + LASERS, recorder.getInstanceCount());
+    }
+
+    @Test
+    public void staticSceneIsOnlyRebuiltWhenItChanges() {
+        renderFrame();
+        int rebuilds = recorder.getStaticRebuilds();
+        world.step(1f / 60f, new InputState());
+        renderFrame();
+        assertEquals(rebuilds, recorder.getStaticRebuilds());
+
+        renderer.addStatic(new ModelInstance(floor));
+        renderFrame();
+        assertEquals(rebuilds + 1, recorder.getStaticRebuilds());
+        assertEquals(STATICS + 1, recorder.getCount(0));
+    }
+
+    @Test
+    public void culledModelsAreNotDrawn() {
+        // looking straight up from below the floor
+        camera.position.set(0f, -10f, 0f);
+        camera.direction.set(0f, 1f, 0f);
+        camera.up.set(0f, 0f, -1f);
+        camera.far = 5f;
+        camera.update();
+        renderFrame();
+
+        assertEquals(1 + OBSTACLES + LASERS, renderer.getCulledCount());
+        assertEquals(1, recorder.getDrawCalls());
+        assertEquals(DrawRecorder.STATIC, recorder.getType(0));
+    }
+
+    private void renderFrame() {
+        snapshot.capture(world, 1, 1f / 60f);
+        renderer.sync(snapshot, 1f, camera);
+        recorder.clear();
+        renderer.submit(recorder);
+    }
+
+    private void assertInstanced(Model model, int instances) {
+        assertEquals(1, recorder.getDrawCalls(model));
+        for (int i = 0; i < recorder.getDrawCalls(); i++) {
+            if (recorder.getModel(i) != model) continue;
+            assertEquals(DrawRecorder.INSTANCED, recorder.getType(i));
+            assertEquals(instances, recorder.getCount(i));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.some_example_name.render;
+
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * {@link LodSelector} against a camera at the origin looking down -Z with a 90 degree field of
+ * view over 1000 pixels, where one world unit at distance d spans 500 / d pixels.
+ */
+public class LodSelectorTest {
+
+    private static final float[] THRESHOLDS = {40f, 16f};
+
+    private PerspectiveCamera camera;
+    private final LodSelector selector = new LodSelector();
+
+    @BeforeClass
+    public static void loadNatives() {
+        // camera and frustum maths are native, though nothing here needs GL
+        GdxNativesLoader.load();
+    }
+
+    @Before
+    public void setUp() {
+        camera = new PerspectiveCamera(90f, 1000f, 1000f);
+        camera.position.setZero();
+        camera.direction.set(0f, 0f, -1f);
+        camera.near = 0.1f;
+        camera.far = 1000f;
+        camera.update();
+        selector.update(camera);
+    }
+
+    @Test
+    public void picksLevelsByProjectedRadius() {
+        // 50, 25 and 10 pixels
+        assertEquals(0, selector.select(new Vector3(0f, 0f, -10f), 1f, THRESHOLDS));
+        assertEquals(1, selector.select(new Vector3(0f, 0f, -20f), 1f, THRESHOLDS));
+        assertEquals(2, selector.select(new Vector3(0f, 0f, -50f), 1f, THRESHOLDS));
+        // exactly on a threshold keeps the finer level
+        assertEquals(0, selector.select(new Vector3(0f, 0f, -12.5f), 1f, THRESHOLDS));
+    }
+
+    @Test
+    public void followsTheViewport() {
+        camera.viewportHeight = 500f;
+        camera.update();
+        selector.update(camera);
+        // now 25 pixels
+        assertEquals(1, selector.select(new Vector3(0f, 0f, -10f), 1f, THRESHOLDS));
+    }
+
+    @Test
+    public void cameraInsideTheSphereUsesFullDetail() {
+        assertEquals(0, selector.select(new Vector3(0f, 0f, -1f), 2f, THRESHOLDS));
+    }
+
+    @Test
+    public void singleLevelIsNeverCoarsened() {
+        assertEquals(0, selector.select(new Vector3(0f, 0f, -500f), 1f, new float[0]));
+    }
+
+    @Test
+    public void biasCoarsensUpToTheLastLevel() {
+        selector.setBias(1);
+        assertEquals(1, selector.select(new Vector3(0f, 0f, -10f), 1f, THRESHOLDS));
+        assertEquals(2, selector.select(new Vector3(0f, 0f, -20f), 1f, THRESHOLDS));
+        assertEquals(2, selector.select(new Vector3(0f, 0f, -50f), 1f, THRESHOLDS));
+    }
+
+    @Test
+    public void cullsSpheresOutsideTheFrustum() {
+        // behind the camera
+        assertEquals(LodSelector.CULLED, selector.select(new Vector3(0f, 0f, 10f), 1f, THRESHOLDS));
+        // beyond the far plane
+        assertEquals(LodSelector.CULLED, selector.select(new Vector3(0f, 0f, -1100f), 1f, THRESHOLDS));
+        // past the right edge, which is at x = -z
+        assertEquals(LodSelector.CULLED, selector.select(new Vector3(20f, 0f, -10f), 1f, THRESHOLDS));
+    }
+
+    @Test
+    public void keepsSpheresStraddlingTheFrustum() {
+        // centre outside the right edge, but the sphere reaches into the view
+        assertEquals(0, selector.select(new Vector3(11f, 0f, -10f), 2f, THRESHOLDS));
+        // centre behind the near plane
+        assertEquals(0, selector.select(new Vector3(0f, 0f, 0.5f), 1f, THRESHOLDS));
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.some_example_name.render;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/** Drives {@link QualityGovernor} with synthetic frame time traces. */
+public class QualityGovernorTest {
+
+    private static final float TARGET = 0.010f;
+    private static final int WINDOW = 10;
+    private static final int HOLD = 20;
+    private static final int MAX_HOLD = 80;
+    /** Over the downgrade threshold of 12.5 ms. */
+    private static final float SLOW = 0.015f;
+    /** Within the upgrade threshold of 10.5 ms. */
+    private static final float FAST = 0.008f;
+    /** Between the two thresholds. */
+    private static final float EDGE = 0.011f;
+
+    private QualityGovernor governor;
+
+    @Before
+    public void setUp() {
+        governor = new QualityGovernor(3, TARGET, WINDOW, 1.25f, 1.05f, HOLD, MAX_HOLD);
+    }
+
+    @Test
+    public void downgradesOnceTheWindowFillsUnderLoad() {
+        assertEquals(WINDOW, framesUntilChange(SLOW, 1000));
+        assertEquals(1, governor.getTier());
+        // the window starts over at the new tier
+        assertEquals(WINDOW, framesUntilChange(SLOW, 1000));
+        assertEquals(2, governor.getTier());
+        // nothing cheaper than the last tier
+        assertEquals(-1, framesUntilChange(SLOW, 1000));
+        assertEquals(2, governor.getTier());
+    }
+
+    @Test
+    public void recoversAfterTheHold() {
+        framesUntilChange(SLOW, 1000);
+        // one frame fills the window, then the percentile must stay within budget for the hold
+        assertEquals(WINDOW - 1 + HOLD, framesUntilChange(FAST, 1000));
+        assertEquals(0, governor.getTier());
+        assertEquals(-1, framesUntilChange(FAST, 1000));
+        assertEquals(0, governor.getTier());
+    }
+
+    @Test
+    public void staysPutBetweenTheThresholds() {
+        framesUntilChange(SLOW, 1000);
+        assertEquals(-1, framesUntilChange(EDGE, 1000));
+        assertEquals(1, governor.getTier());
+    }
+
+    @Test
+    public void aFrameOverTheUpgradeThresholdRestartsTheHold() {
+        framesUntilChange(SLOW, 1000);
+        feed(FAST, WINDOW - 1 + HOLD - 1);
+        // keeps the 95th percentile of a window this small over the threshold until it leaves it
+        assertFalse(governor.frame(EDGE));
+        assertEquals(WINDOW - 1 + HOLD, framesUntilChange(FAST, 1000));
+        assertEquals(0, governor.getTier());
+    }
+
+    @Test
+    public void holdDoublesWhileOscillatingUpToTheMaximum() {
+        framesUntilChange(SLOW, 1000);
+        int hold = HOLD;
+        for (int expected : new int[] {2 * HOLD, 4 * HOLD, MAX_HOLD}) {
+            assertEquals(WINDOW - 1 + hold, framesUntilChange(FAST, 1000));
+            assertEquals(0, governor.getTier());
+            // the upgrade does not last through the hold
+            assertEquals(WINDOW, framesUntilChange(SLOW, 1000));
+            assertEquals(1, governor.getTier());
+            assertEquals(expected, governor.getUpgradeHold());
+            hold = expected;
+        }
+    }
+
+    @Test
+    public void upgradeThatLastsTheHoldKeepsIt() {
+        framesUntilChange(SLOW, 1000);
+        framesUntilChange(FAST, 1000);
+        feed(FAST, HOLD);
+        assertEquals(1, framesUntilChange(SLOW, 1000));
+        assertEquals(1, governor.getTier());
+        assertEquals(HOLD, governor.getUpgradeHold());
+    }
+
+    @Test
+    public void resetRestoresTheBestTierAndInitialHold() {
+        framesUntilChange(SLOW, 1000);
+        framesUntilChange(FAST, 1000);
+        framesUntilChange(SLOW, 1000);
+        assertEquals(2 * HOLD, governor.getUpgradeHold());
+
+        governor.reset();
+        assertEquals(0, governor.getTier());
+        assertEquals(HOLD, governor.getUpgradeHold());
+    }
+
+    @Test
+    public void resetEmptiesTheWindowAndForgetsTheLastUpgrade() {
+        framesUntilChange(SLOW, 1000);
+        framesUntilChange(FAST, 1000);
+        feed(FAST, WINDOW - 1);
+
+        governor.reset();
+        assertEquals(WINDOW, framesUntilChange(SLOW, 1000));
+        // a downgrade this soon after the upgrade would otherwise have doubled the hold
+        assertEquals(HOLD, governor.getUpgradeHold());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsUpgradeRatioAboveDowngradeRatio() {
+        new QualityGovernor(3, TARGET, WINDOW, 1.05f, 1.25f, HOLD, MAX_HOLD);
+    }
+
+    /** Feeds frames of {@code seconds} until the tier changes; returns how many, or -1 if it did not within {@code limit}. */
+    private int framesUntilChange(float seconds, int limit) {
+        for (int i = 1; i <= limit; i++) {
+            if (governor.frame(seconds)) return i;
+        }
+        return -1;
+    }
+
+    private void feed(float seconds, int frames) {
+        for (int i = 0; i < frames; i++) assertFalse(governor.frame(seconds));
+    }
+}
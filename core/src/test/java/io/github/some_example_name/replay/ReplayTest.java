@@ -0,0 +1,113 @@
+package io.github.some_example_name.replay;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.math.Vector3;
+import io.github.some_example_name.ecs.Mappers;
+import io.github.some_example_name.sim.InputState;
+import io.github.some_example_name.sim.IntegratedProjectiles;
+import io.github.some_example_name.sim.Simulation;
+import io.github.some_example_name.sim.World;
+import io.github.some_example_name.sim.WorldConfig;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/** Records scripted sessions, writes and reads them back, and checks that playback ends in the recorded state. */
+public class ReplayTest {
+
+    private static final int TICKS = 60 * 60 * 5;
+
+    @Test
+    public void playbackMatchesRecording() throws IOException {
+        World world = new World();
+        Replay replay = record(world, 0);
+        assertEquals(TICKS, replay.getTicks());
+        assertTrue(new ReplayPlayer().play(roundTrip(replay)).matches);
+        world.dispose();
+    }
+
+    @Test
+    public void budgetedSteeringReproduces() throws IOException {
+        World world = crowd();
+        Replay replay = roundTrip(record(world, 1));
+        assertTrue("the budget never cut a slice short", world.getSteeringOverruns() > 0);
+        assertEquals(1, replay.createWorld().getSteeringBudget());
+
+        World playback = crowd();
+        playback.setSeed(replay.getSeed());
+        playback.setSteeringBudget(1);
+        Simulation simulation = new Simulation(playback, replay.getFixedDt());
+        InputState input = new InputState();
+        for (int run = 0; run < replay.getRunCount(); run++) {
+            // the simulation clears restart after each tick
+            for (long i = 0; i < replay.getRunLength(run); i++) simulation.tick(replay.getRunInput(run, input));
+        }
+        assertTrue(replay.matches(playback));
+        assertEquals(obstaclePositions(world), obstaclePositions(playback));
+        world.dispose();
+        playback.dispose();
+    }
+
+    @Test
+    public void differentSeedDiverges() throws IOException {
+        World world = new World();
+        Replay replay = record(world, 0);
+        byte[] bytes = write(replay);
+        // lowest byte of the seed, which follows the magic and version
+        bytes[15] ^= 1;
+        assertTrue(!new ReplayPlayer().play(Replay.read(new ByteArrayInputStream(bytes))).matches);
+        world.dispose();
+    }
+
+    /** A world that keeps a crowd big enough for one re-plan per tick to leave agents waiting. */
+    private static World crowd() {
+        WorldConfig config = new WorldConfig();
+        config.laserChance = 0f;
+        config.spawnInterval = 0.05f;
+        World world = new World(new IntegratedProjectiles(World.LASER_MAX_DISTANCE), config);
+        world.setInvulnerable(true);
+        return world;
+    }
+
+    private static List<Vector3> obstaclePositions(World world) {
+        List<Vector3> positions = new ArrayList<>();
+        for (Entity obstacle : world.getObstacles()) positions.add(new Vector3(Mappers.transform.get(obstacle).position));
+        return positions;
+    }
+
+    /** Plays {@link #TICKS} ticks of random held directions, restarting after every game over. */
+    private static Replay record(World world, int steeringBudget) {
+        world.setSeed(42);
+        world.setSteeringBudget(steeringBudget);
+        Simulation simulation = new Simulation(world);
+        Replay replay = Replay.start(world, simulation.getFixedDt());
+        simulation.setRecording(replay);
+        Random random = new Random(1);
+        InputState input = new InputState();
+        while (simulation.getTicks() < TICKS) {
+            if (random.nextInt(30) == 0) input.setMask(random.nextInt(16));
+            input.restart = world.isGameOver();
+            simulation.tick(input);
+        }
+        replay.finish(world);
+        return replay;
+    }
+
+    private static Replay roundTrip(Replay replay) throws IOException {
+        return Replay.read(new ByteArrayInputStream(write(replay)));
+    }
+
+    private static byte[] write(Replay replay) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        replay.write(out);
+        return out.toByteArray();
+    }
+}
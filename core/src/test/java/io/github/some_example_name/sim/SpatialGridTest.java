@@ -0,0 +1,107 @@
+package io.github.some_example_name.sim;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.IntArray;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link SpatialGrid} against a brute-force scan over the same points: every query must return
+ * each entity within the radius exactly once, whatever mix of inserts, updates and removes
+ * put the grid in its state.
+ */
+public class SpatialGridTest {
+
+    private static final float HALF = 50f;
+    private static final int COUNT = 300;
+
+    private final SpatialGrid grid = new SpatialGrid(-HALF, -HALF, HALF, HALF, 4f);
+    private final RandomXS128 random = new RandomXS128(7L);
+    private final float[] xs = new float[COUNT], zs = new float[COUNT];
+    private final boolean[] present = new boolean[COUNT];
+    private final IntArray found = new IntArray();
+
+    @Test
+    public void insertedEntitiesAreFound() {
+        for (int id = 0; id < COUNT; id++) place(id, true);
+        assertQueriesMatch();
+    }
+
+    @Test
+    public void updatedEntitiesAreFoundWhereTheyMoved() {
+        for (int id = 0; id < COUNT; id++) place(id, true);
+        for (int round = 0; round < 20; round++) {
+            for (int id = 0; id < COUNT; id++) {
+                // small steps mostly stay in their cell, large ones cross several
+                float step = round % 2 == 0 ? 0.5f : 20f;
+                xs[id] = MathUtils.clamp(xs[id] + (random.nextFloat() * 2f - 1f) * step, -HALF - 5f, HALF + 5f);
+                zs[id] = MathUtils.clamp(zs[id] + (random.nextFloat() * 2f - 1f) * step, -HALF - 5f, HALF + 5f);
+                grid.update(id, xs[id], zs[id]);
+            }
+            assertQueriesMatch();
+        }
+    }
+
+    @Test
+    public void updateInsertsEntitiesNotInTheGrid() {
+        // ids beyond the current capacity, and ids left out by a remove
+        for (int id = COUNT - 1; id >= 0; id -= 3) place(id, false);
+        assertQueriesMatch();
+        for (int id = COUNT - 1; id >= 0; id -= 6) {
+            grid.remove(id);
+            present[id] = false;
+        }
+        assertQueriesMatch();
+        for (int id = 0; id < COUNT; id++) place(id, false);
+        assertQueriesMatch();
+    }
+
+    @Test
+    public void clearEmptiesTheGrid() {
+        for (int id = 0; id < COUNT; id++) place(id, true);
+        grid.clear();
+        Arrays.fill(present, false);
+        grid.query(0f, 0f, HALF * 2f, found);
+        assertEquals(0, found.size);
+        for (int id = 0; id < COUNT; id += 2) place(id, true);
+        assertQueriesMatch();
+    }
+
+    private void place(int id, boolean insert) {
+        xs[id] = (random.nextFloat() * 2f - 1f) * (HALF + 5f);
+        zs[id] = (random.nextFloat() * 2f - 1f) * (HALF + 5f);
+        if (insert) grid.insert(id, xs[id], zs[id]);
+        else grid.update(id, xs[id], zs[id]);
+        present[id] = true;
+    }
+
+    private void assertQueriesMatch() {
+        for (int i = 0; i < 50; i++) {
+            float x = (random.nextFloat() * 2f - 1f) * HALF, z = (random.nextFloat() * 2f - 1f) * HALF;
+            float radius = random.nextFloat() * 15f;
+            grid.query(x, z, radius, found);
+            int[] candidates = found.toArray();
+            Arrays.sort(candidates);
+            for (int c = 1; c < candidates.length; c++) assertTrue("duplicate " + candidates[c], candidates[c] != candidates[c - 1]);
+
+            IntArray within = new IntArray();
+            IntArray foundWithin = new IntArray();
+            for (int id = 0; id < COUNT; id++) {
+                boolean inside = present[id] && Math.abs(xs[id] - x) <= radius && Math.abs(zs[id] - z) <= radius;
+                if (inside) within.add(id);
+                boolean candidate = Arrays.binarySearch(candidates, id) >= 0;
+                if (candidate) {
+                    assertTrue("removed entity " + id + " returned", present[id]);
+                    if (inside) foundWithin.add(id);
+                }
+            }
+            assertArrayEquals(within.toArray(), foundWithin.toArray());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.some_example_name.sim;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.math.Vector3;
+import io.github.some_example_name.ecs.Mappers;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Planning obstacle steering on a worker pool must not change the game: a full arena of
+ * obstacles, large enough that every steering slice is split into several tasks, ends in exactly
+ * the same state whether it was ticked with a pool or without.
+ */
+public class WorkerPoolTest {
+
+    private static final int TICKS = 1200;
+
+    private ForkJoinPool pool;
+
+    @Before
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void pooledRunMatchesSerialRun() {
+        assertSameRun(0);
+    }
+
+    @Test
+    public void pooledRunMatchesSerialRunWithBudget() {
+        assertSameRun(40);
+    }
+
+    private void assertSameRun(int steeringBudget) {
+        World serial = crowd(steeringBudget, null);
+        World pooled = crowd(steeringBudget, pool);
+        play(serial);
+        play(pooled);
+        assertTrue(pool.getStealCount() > 0);
+        assertEquals(serial.getPlayerPosition(), pooled.getPlayerPosition());
+        assertEquals(serial.getSteeringOverruns(), pooled.getSteeringOverruns());
+        assertEquals(positions(serial), positions(pooled));
+        serial.dispose();
+        pooled.dispose();
+    }
+
+    /** A world with {@link World#MAX_OBSTACLES} obstacles around an invulnerable player and no spawns. */
+    private static World crowd(int steeringBudget, ForkJoinPool pool) {
+        WorldConfig config = new WorldConfig();
+        config.spawnInterval = Float.POSITIVE_INFINITY;
+        config.obstacleLifetime = Float.POSITIVE_INFINITY;
+        World world = new World(new IntegratedProjectiles(World.LASER_MAX_DISTANCE), config);
+        world.setSeed(42);
+        world.setInvulnerable(true);
+        world.setSteeringBudget(steeringBudget);
+        world.setWorkerPool(pool);
+        Random random = new Random(42);
+        for (int i = 0; i < World.MAX_OBSTACLES; i++) {
+            world.addObstacle((random.nextFloat() * 2f - 1f) * 60f, (random.nextFloat() * 2f - 1f) * 45f, 10f + random.nextFloat() * 20f);
+        }
+        return world;
+    }
+
+    /** Walks the player in a square so obstacles keep turning. */
+    private static void play(World world) {
+        InputState input = new InputState();
+        for (int tick = 0; tick < TICKS; tick++) {
+            int phase = (tick / 30) & 3;
+            input.forward = phase == 0;
+            input.right = phase == 1;
+            input.back = phase == 2;
+            input.left = phase == 3;
+            world.step(Simulation.DEFAULT_STEP, input);
+        }
+    }
+
+    private static List<Vector3> positions(World world) {
+        List<Vector3> positions = new ArrayList<>();
+        for (Entity obstacle : world.getObstacles()) positions.add(new Vector3(Mappers.transform.get(obstacle).position));
+        return positions;
+    }
+}
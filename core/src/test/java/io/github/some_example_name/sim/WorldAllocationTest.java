@@ -0,0 +1,67 @@
+package io.github.some_example_name.sim;
+
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Once a few hundred rounds have filled the pools and arrays, ticking the world must not
+ * allocate: every obstacle, laser, entity and scratch vector is reused. Measured with the
+ * thread's allocated bytes counter, so anything allocated on this thread during the measured
+ * ticks counts.
+ */
+public class WorldAllocationTest {
+
+    private static final float DT = 1f / 60f;
+    private static final int WARMUP_TICKS = 120_000;
+    private static final int MEASURED_TICKS = 30_000;
+    /** The JIT may still allocate once while it compiles a path, so a few rounds are tried. */
+    private static final int ROUNDS = 3;
+
+    private com.sun.management.ThreadMXBean threads;
+    private World world;
+    private final InputState input = new InputState();
+
+    @Before
+    public void setUp() {
+        Assume.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        world = new World();
+        world.setSeed(42);
+        // a held key moves the player, so movement, spawns, hits and restarts all run
+        input.left = true;
+    }
+
+    @After
+    public void tearDown() {
+        if (world != null) world.dispose();
+    }
+
+    @Test
+    public void steadyStateTicksDoNotAllocate() {
+        tick(WARMUP_TICKS);
+        long thread = Thread.currentThread().getId();
+        long allocated = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS && allocated != 0; round++) {
+            long before = threads.getThreadAllocatedBytes(thread);
+            tick(MEASURED_TICKS);
+            allocated = threads.getThreadAllocatedBytes(thread) - before;
+        }
+        assertEquals("bytes allocated over " + MEASURED_TICKS + " ticks", 0, allocated);
+    }
+
+    private void tick(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            world.step(DT, input);
+            if (world.isGameOver()) world.restart();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.some_example_name.lwjgl3;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Loads the classes a previous run needed during startup on a background thread, while the
+ * main thread is busy creating the window and GL context.
+ * <p>
+ * The list is one binary class name per line, written by the {@code trainStartup} Gradle task
+ * next to the class archive; its path comes from the {@value #PROPERTY} system property, which
+ * the start scripts set. Classes are loaded without being initialized, so no static
+ * initializer runs earlier or on another thread than it would otherwise; names that no longer
+ * exist are skipped. Without the property this does nothing.
+ */
+public final class ClassPreloader {
+
+    public static final String PROPERTY = "startup.classes";
+
+    private ClassPreloader() {
+    }
+
+    /** Starts preloading the classes listed in the file named by {@value #PROPERTY}, if it exists. */
+    public static void start() {
+        String path = System.getProperty(PROPERTY);
+        if (path == null) return;
+        final File list = new File(path);
+        if (!list.isFile()) return;
+        final ClassLoader loader = ClassPreloader.class.getClassLoader();
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                preload(list, loader);
+            }
+        }, "class-preloader");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    private static void preload(File list, ClassLoader loader) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(list), StandardCharsets.UTF_8))) {
+            String name;
+            while ((name = reader.readLine()) != null) {
+                if (name.isEmpty()) continue;
+                try {
+                    Class.forName(name, false, loader);
+                } catch (ClassNotFoundException | LinkageError e) {
+                    // stale entry, or a class this JVM cannot load such as the Java 17 SIMD module
+                }
+            }
+        } catch (IOException e) {
+            // preloading is only an optimization
+        }
+    }
+}
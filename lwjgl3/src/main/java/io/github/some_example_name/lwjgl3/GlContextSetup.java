@@ -0,0 +1,68 @@
+package io.github.some_example_name.lwjgl3;
+
+import com.badlogic.gdx.ApplicationListener;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+
+/**
+ * Wraps the game to set up shaders for the GL context the window actually got, before the game
+ * compiles any. A GL 3.2 core context rejects the GLSL ES 1.0 style shaders libGDX and this game
+ * use, so they are translated for it; any other context takes them as they are.
+ * <p>
+ * Also tells whether the game was {@link #isCreated() created} at all, which it is not when
+ * the window could not be opened with the context asked for.
+ */
+class GlContextSetup implements ApplicationListener {
+
+    private final ApplicationListener game;
+    private final boolean coreProfile;
+    private boolean created;
+
+    /** @param coreProfile whether the window asks for a GL 3.2 core context */
+    GlContextSetup(ApplicationListener game, boolean coreProfile) {
+        this.game = game;
+        this.coreProfile = coreProfile;
+    }
+
+    boolean isCreated() {
+        return created;
+    }
+
+    @Override
+    public void create() {
+        created = true;
+        if (coreProfile && Gdx.gl30 != null) {
+            ShaderProgram.prependVertexCode = "#version 150\n#define varying out\n#define attribute in\n";
+            ShaderProgram.prependFragmentCode = "#version 150\n#define varying in\n#define texture2D texture\n#define gl_FragColor fragColor\nout vec4 fragColor;\n";
+        } else {
+            ShaderProgram.prependVertexCode = "";
+            ShaderProgram.prependFragmentCode = "";
+        }
+        game.create();
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        game.resize(width, height);
+    }
+
+    @Override
+    public void render() {
+        game.render();
+    }
+
+    @Override
+    public void pause() {
+        game.pause();
+    }
+
+    @Override
+    public void resume() {
+        game.resume();
+    }
+
+    @Override
+    public void dispose() {
+        game.dispose();
+    }
+}
@@ -1,27 +1,58 @@
 package io.github.some_example_name.lwjgl3;
 
+import com.badlogic.gdx.ApplicationListener;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import io.github.some_example_name.Main;
 import io.github.some_example_name.My3DApp;
 
+import java.util.Arrays;
+
 /** Launches the desktop (LWJGL3) application. */
 public class Lwjgl3Launcher {
     public static void main(String[] args) {
         if (StartupHelper.startNewJvmIfRequired()) return; // This handles macOS support and helps on Windows.
-        createApplication();
+        ClassPreloader.start();
+        createApplication(Arrays.asList(args).contains("--sim-thread"), !Arrays.asList(args).contains("--gl20"));
     }
 
-    private static Lwjgl3Application createApplication() {
-        return new Lwjgl3Application(new My3DApp(), getDefaultConfiguration());
+    /**
+     * @param threadedSimulation whether the simulation ticks on its own thread; see {@code --sim-thread}
+     * @param gl30 whether to try a GL 3.2 context first, which instanced rendering needs; a machine
+     *     without one falls back to GL 2.0, and {@code --gl20} skips the attempt
+     */
+    private static void createApplication(boolean threadedSimulation, boolean gl30) {
+        ApplicationListener game = StartupProbe.wrap(new My3DApp(threadedSimulation));
+        if (gl30) {
+            GlContextSetup setup = new GlContextSetup(game, true);
+            try {
+                new Lwjgl3Application(setup, getDefaultConfiguration(true));
+                return;
+            } catch (GdxRuntimeException e) {
+                // only a window that could not be opened is worth another try
+                if (setup.isCreated()) throw e;
+                System.err.println("No GL 3.2 context (" + e.getMessage() + "), falling back to GL 2.0");
+                // the failed application got as far as opening the audio device
+                if (Gdx.audio instanceof Disposable) ((Disposable) Gdx.audio).dispose();
+            }
+        }
+        new Lwjgl3Application(new GlContextSetup(game, false), getDefaultConfiguration(false));
     }
 
-    private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {
+    private static Lwjgl3ApplicationConfiguration getDefaultConfiguration(boolean gl30) {
         Lwjgl3ApplicationConfiguration configuration = new Lwjgl3ApplicationConfiguration();
+        // shaders are adapted to the context by GlContextSetup
+        if (gl30) configuration.setOpenGLEmulation(Lwjgl3ApplicationConfiguration.GLEmulation.GL30, 3, 2);
         configuration.setTitle("Вурнарское выживалово");
         configuration.useVsync(true);
-        configuration.setForegroundFPS(Lwjgl3ApplicationConfiguration.getDisplayMode().refreshRate + 1);
-        configuration.setWindowedMode(1366, 966);
+        Graphics.DisplayMode display = Lwjgl3ApplicationConfiguration.getDisplayMode();
+        configuration.setForegroundFPS(display.refreshRate + 1);
+        // the game adapts its render quality to the machine, but keep the window on small screens
+        configuration.setWindowedMode(Math.min(1366, display.width * 9 / 10), Math.min(966, display.height * 9 / 10));
         configuration.setWindowIcon("libgdx128.png", "libgdx64.png", "libgdx32.png", "libgdx16.png");
         return configuration;
     }
@@ -0,0 +1,75 @@
+package io.github.some_example_name.lwjgl3;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures the time from starting a process to the game's first rendered frame, for each of
+ * several ways of launching it: a plain JVM, a JVM with the class archive and preloader from
+ * {@code trainStartup}, a native image.
+ * <p>
+ * Each mode is one argument, {@code name|command|arg|...}, run {@code --runs} times in turn with
+ * the other modes so that disk caches warm up for all of them alike. The command must render
+ * with {@code -Dstartup.exitAfterFrames} set, so it prints {@link StartupProbe#FIRST_FRAME} and
+ * quits; the time is taken by this process, so it includes a JVM relaunch by
+ * {@link StartupHelper} if one happens. The {@code startupBenchmark} Gradle task passes the
+ * modes that were built.
+ */
+public class StartupBenchmark {
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int runs = 10;
+        List<String> names = new ArrayList<>();
+        List<List<String>> commands = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--runs")) {
+                runs = Integer.parseInt(args[++i]);
+                continue;
+            }
+            String[] parts = args[i].split("\\|");
+            if (parts.length < 2) usage("Expected name|command|arg|... but got " + args[i]);
+            names.add(parts[0]);
+            commands.add(Arrays.asList(parts).subList(1, parts.length));
+        }
+        if (names.isEmpty()) usage("No modes given");
+
+        long[][] millis = new long[names.size()][runs];
+        for (int run = 0; run < runs; run++) {
+            for (int mode = 0; mode < names.size(); mode++) {
+                millis[mode][run] = measure(commands.get(mode));
+                System.out.println(String.format("%-16s run %2d: %5d ms", names.get(mode), run + 1, millis[mode][run]));
+            }
+        }
+        System.out.println(String.format("%-16s %7s %7s %7s", "mode", "min", "median", "max"));
+        for (int mode = 0; mode < names.size(); mode++) {
+            long[] times = millis[mode];
+            Arrays.sort(times);
+            System.out.println(String.format("%-16s %7d %7d %7d", names.get(mode), times[0], times[runs / 2], times[runs - 1]));
+        }
+    }
+
+    /** Milliseconds from starting {@code command} to its first frame, or -1 if it quit without one. */
+    private static long measure(List<String> command) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        long elapsed = -1;
+        try (BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = output.readLine()) != null) {
+                if (elapsed < 0 && line.startsWith(StartupProbe.FIRST_FRAME)) elapsed = (System.nanoTime() - start) / 1_000_000L;
+            }
+        }
+        process.waitFor();
+        return elapsed;
+    }
+
+    private static void usage(String error) {
+        System.err.println(error);
+        System.err.println("Usage: StartupBenchmark [--runs N] name|command|arg|...");
+        System.exit(1);
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.some_example_name.lwjgl3;
+
+import com.badlogic.gdx.ApplicationListener;
+import com.badlogic.gdx.Gdx;
+
+/**
+ * Wraps the game to quit after a fixed number of rendered frames, for startup training runs and
+ * the startup benchmark. Prints {@value #FIRST_FRAME} once the first frame has been rendered,
+ * which {@link StartupBenchmark} waits for.
+ */
+class StartupProbe implements ApplicationListener {
+
+    /** System property with the number of frames to render before quitting. */
+    static final String PROPERTY = "startup.exitAfterFrames";
+    static final String FIRST_FRAME = "startup: first frame";
+
+    private final ApplicationListener game;
+    private final int frames;
+    private int rendered;
+
+    StartupProbe(ApplicationListener game, int frames) {
+        this.game = game;
+        this.frames = frames;
+    }
+
+    /** Wraps {@code game} if {@value #PROPERTY} is set, otherwise returns it as is. */
+    static ApplicationListener wrap(ApplicationListener game) {
+        int frames = Integer.getInteger(PROPERTY, 0);
+        return frames > 0 ? new StartupProbe(game, frames) : game;
+    }
+
+    @Override
+    public void create() {
+        game.create();
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        game.resize(width, height);
+    }
+
+    @Override
+    public void render() {
+        game.render();
+        if (++rendered == 1) {
+            System.out.println(FIRST_FRAME);
+            System.out.flush();
+        }
+        if (rendered == frames) Gdx.app.exit();
+    }
+
+    @Override
+    public void pause() {
+        game.pause();
+    }
+
+    @Override
+    public void resume() {
+        game.resume();
+    }
+
+    @Override
+    public void dispose() {
+        game.dispose();
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.some_example_name.soak;
+
+import com.badlogic.gdx.graphics.GL20;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+
+/**
+ * {@link GL20} that draws nothing but answers like a working driver, so the game's own
+ * create, render and dispose paths run unchanged without a display.
+ * <p>
+ * The headless backend leaves {@code Gdx.gl} null, and code such as {@code ShaderProgram} and
+ * {@code FrameBuffer} checks what GL reports: here shaders compile and link, frame buffers are
+ * complete, generated names are unique and non-zero and every uniform and attribute exists.
+ * All other calls do nothing and return zero, so GPU memory is not modelled; the Java side
+ * of every texture, mesh and buffer is still allocated and must still be disposed.
+ */
+class HeadlessGL implements InvocationHandler {
+
+    /** Reported for every {@code glGetIntegerv} query, such as the number of texture units. */
+    private static final int INTEGER_LIMIT = 16;
+
+    private int lastName;
+
+    static GL20 create() {
+        return (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[] {GL20.class}, new HeadlessGL());
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        if (method.getDeclaringClass() == Object.class) {
+            switch (name) {
+                case "equals": return proxy == args[0];
+                case "hashCode": return System.identityHashCode(proxy);
+                default: return "HeadlessGL";
+            }
+        }
+        switch (name) {
+            case "glGetShaderiv":
+            case "glGetProgramiv":
+                int parameter = (Integer) args[1];
+                boolean success = parameter == GL20.GL_COMPILE_STATUS || parameter == GL20.GL_LINK_STATUS;
+                ((IntBuffer) args[2]).put(0, success ? 1 : 0);
+                return null;
+            case "glGetIntegerv":
+                ((IntBuffer) args[1]).put(0, INTEGER_LIMIT);
+                return null;
+            case "glCheckFramebufferStatus":
+                return GL20.GL_FRAMEBUFFER_COMPLETE;
+            default:
+                break;
+        }
+        Class<?> type = method.getReturnType();
+        if (type == int.class) return name.startsWith("glGen") || name.startsWith("glCreate") ? ++lastName : 0;
+        if (type == boolean.class) return false;
+        if (type == float.class) return 0f;
+        if (type == String.class) return "";
+        return null;
+    }
+}
@@ -0,0 +1,235 @@
+package io.github.some_example_name.soak;
+
+import com.badlogic.gdx.ApplicationListener;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.backends.headless.mock.graphics.MockGraphics;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.utils.TimeUtils;
+import io.github.some_example_name.My3DApp;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Runs {@link My3DApp} on the headless backend with {@link SyntheticInput}, pressing restart
+ * every {@code restartNanos} and, if {@code recycleNanos} is positive, disposing the whole game
+ * and creating a new one that often, the way a kiosk relaunches it. Between the two it asks for
+ * a full collection and samples the native buffers still allocated, which measure what the old
+ * game left behind. After {@code durationNanos} it exits the application, and {@link #awaitEnd}
+ * returns once the game has been disposed.
+ * <p>
+ * The headless backend has no GL and a zero sized screen, so {@link #create} installs a
+ * {@link HeadlessGL} and a graphics object reporting a fixed display before the game sees
+ * them. An exception from the game ends the run and is kept for {@link #getFailure}.
+ * <p>
+ * Every game plans its steering on the same worker pool, owned by the caller, so recreating
+ * the game does not start new threads; without one, steering runs on the render thread.
+ */
+class SoakGame implements ApplicationListener {
+
+    private static final int WIDTH = 1280;
+    private static final int HEIGHT = 720;
+    private static final int REFRESH_RATE = 60;
+
+    private final long durationNanos;
+    private final long restartNanos;
+    private final long recycleNanos;
+    private final SyntheticInput input;
+    private final SoakTelemetry telemetry;
+    private final ForkJoinPool workers;
+    private final CountDownLatch ended = new CountDownLatch(1);
+
+    private My3DApp game;
+    private long startNanos;
+    private long nextRestart;
+    private long nextRecycle;
+    private long frames;
+    private int restarts;
+    private int recycles;
+    private Throwable failure;
+
+    SoakGame(long durationNanos, long restartNanos, long recycleNanos, long seed, SoakTelemetry telemetry, ForkJoinPool workers) {
+        this.durationNanos = durationNanos;
+        this.restartNanos = restartNanos;
+        this.recycleNanos = recycleNanos;
+        input = new SyntheticInput(seed);
+        this.telemetry = telemetry;
+        this.workers = workers;
+    }
+
+    @Override
+    public void create() {
+        FixedGraphics graphics = new FixedGraphics(Gdx.graphics, HeadlessGL.create());
+        Gdx.graphics = graphics;
+        Gdx.gl = Gdx.gl20 = graphics.getGL20();
+        Gdx.input = input;
+        startNanos = TimeUtils.nanoTime();
+        nextRestart = startNanos + restartNanos;
+        nextRecycle = startNanos + recycleNanos;
+        try {
+            game = createGame(workers);
+        } catch (Throwable e) {
+            fail(e);
+        }
+    }
+
+    private static My3DApp createGame(ForkJoinPool workers) {
+        My3DApp game = new My3DApp(false, workers);
+        game.create();
+        game.resize(WIDTH, HEIGHT);
+        return game;
+    }
+
+    @Override
+    public void render() {
+        if (failure != null) return;
+        long now = TimeUtils.nanoTime();
+        if (now - startNanos >= durationNanos) {
+            Gdx.app.exit();
+            return;
+        }
+        try {
+            input.update(Gdx.graphics.getDeltaTime());
+            if (recycleNanos > 0 && now >= nextRecycle) {
+                nextRecycle += recycleNanos;
+                game.dispose();
+                // so a game that fails to create is not disposed twice
+                game = null;
+                // the heap left after this collection is what outlived the game
+                System.gc();
+                telemetry.sampleNativeBuffers();
+                game = createGame(workers);
+                recycles++;
+            }
+            if (now >= nextRestart) {
+                nextRestart += restartNanos;
+                input.pressRestart();
+                restarts++;
+            }
+            game.render();
+            frames++;
+        } catch (Throwable e) {
+            fail(e);
+        }
+    }
+
+    private void fail(Throwable e) {
+        failure = e;
+        Gdx.app.exit();
+    }
+
+    @Override
+    public void resize(int width, int height) {
+    }
+
+    @Override
+    public void pause() {
+        if (game != null) game.pause();
+    }
+
+    @Override
+    public void resume() {
+        if (game != null) game.resume();
+    }
+
+    @Override
+    public void dispose() {
+        try {
+            if (game != null) game.dispose();
+        } catch (Throwable e) {
+            if (failure == null) failure = e;
+        } finally {
+            ended.countDown();
+        }
+    }
+
+    /** Blocks until the game has been disposed; the getters are safe to read afterwards. */
+    void awaitEnd() throws InterruptedException {
+        ended.await();
+    }
+
+    long getFrames() {
+        return frames;
+    }
+
+    int getRestarts() {
+        return restarts;
+    }
+
+    int getRecycles() {
+        return recycles;
+    }
+
+    /** What the game threw, or null if it ran to the end. */
+    Throwable getFailure() {
+        return failure;
+    }
+
+    /**
+     * Reports a {@value #WIDTH}x{@value #HEIGHT} display at {@value #REFRESH_RATE} Hz, taking
+     * frame timing from the backend's own graphics, which its loop keeps updating. It also holds
+     * the GL, as a {@code GLProfiler} takes the GL from the graphics when it is enabled.
+     */
+    private static class FixedGraphics extends MockGraphics {
+        private final Graphics timing;
+        private final DisplayMode displayMode = new DisplayMode(WIDTH, HEIGHT, REFRESH_RATE, 32) {
+        };
+        private GL20 gl;
+
+        FixedGraphics(Graphics timing, GL20 gl) {
+            this.timing = timing;
+            this.gl = gl;
+        }
+
+        @Override
+        public GL20 getGL20() {
+            return gl;
+        }
+
+        @Override
+        public void setGL20(GL20 gl) {
+            this.gl = gl;
+        }
+
+        @Override
+        public float getDeltaTime() {
+            return timing.getDeltaTime();
+        }
+
+        @Override
+        public int getFramesPerSecond() {
+            return timing.getFramesPerSecond();
+        }
+
+        @Override
+        public long getFrameId() {
+            return timing.getFrameId();
+        }
+
+        @Override
+        public int getWidth() {
+            return WIDTH;
+        }
+
+        @Override
+        public int getHeight() {
+            return HEIGHT;
+        }
+
+        @Override
+        public int getBackBufferWidth() {
+            return WIDTH;
+        }
+
+        @Override
+        public int getBackBufferHeight() {
+            return HEIGHT;
+        }
+
+        @Override
+        public DisplayMode getDisplayMode() {
+            return displayMode;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package io.github.some_example_name.soak;
+
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Soak test: plays the game headlessly for a while through {@link SoakGame}, watches it with
+ * {@link SoakTelemetry} and exits with status 1 and a report if the game failed or a limit
+ * was exceeded, so slow leaks and GC regressions show up before a release.
+ * <p>
+ * Options:
+ * <pre>
+ *   --minutes N            how long to play (default 10)
+ *   --restart S            seconds between restarts of the round (default 20)
+ *   --recycle S            seconds between disposing and recreating the game, 0 for never (default 60)
+ *   --warmup S             seconds ignored by all limits (default 30)
+ *   --seed N               seed of the synthetic input (default 1)
+ *   --max-pause MS         longest GC pause allowed (default 50)
+ *   --max-alloc MB/S       average allocation rate allowed (default 16)
+ *   --max-heap-growth MB   rise of the heap left after GC allowed (default 16)
+ *   --max-buffer-growth MB rise of direct and native buffer memory allowed, each (default 4)
+ *   --report FILE          also writes the report to FILE
+ * </pre>
+ * Growth compares the lowest sample of the last quarter of the run after warm-up with the
+ * lowest of its first half; see {@link SoakTelemetry.Series#growth}. Native buffers are only
+ * sampled between games, so judging them takes at least four recreations after warm-up.
+ */
+public class SoakRunner {
+
+    private static final double MB = 1024 * 1024;
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        double minutes = 10;
+        double restartSeconds = 20;
+        double recycleSeconds = 60;
+        double warmupSeconds = 30;
+        long seed = 1;
+        double maxPauseMillis = 50;
+        double maxAllocation = 16;
+        double maxHeapGrowth = 16;
+        double maxBufferGrowth = 4;
+        String reportFile = null;
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (i + 1 >= args.length) usage("Missing value for " + arg);
+            String value = args[++i];
+            switch (arg) {
+                case "--minutes": minutes = Double.parseDouble(value); break;
+                case "--restart": restartSeconds = Double.parseDouble(value); break;
+                case "--recycle": recycleSeconds = Double.parseDouble(value); break;
+                case "--warmup": warmupSeconds = Double.parseDouble(value); break;
+                case "--seed": seed = Long.parseLong(value); break;
+                case "--max-pause": maxPauseMillis = Double.parseDouble(value); break;
+                case "--max-alloc": maxAllocation = Double.parseDouble(value); break;
+                case "--max-heap-growth": maxHeapGrowth = Double.parseDouble(value); break;
+                case "--max-buffer-growth": maxBufferGrowth = Double.parseDouble(value); break;
+                case "--report": reportFile = value; break;
+                default: usage("Unknown option " + arg);
+            }
+        }
+        if (restartSeconds <= 0) usage("--restart must be positive");
+
+        SoakTelemetry telemetry = new SoakTelemetry(Duration.ofMillis((long) (warmupSeconds * 1000)));
+        telemetry.start();
+        int cores = Runtime.getRuntime().availableProcessors();
+        ForkJoinPool workers = cores > 1 ? new ForkJoinPool(cores - 1) : null;
+        SoakGame game = new SoakGame((long) (minutes * 60e9), (long) (restartSeconds * 1e9), (long) (recycleSeconds * 1e9), seed,
+            telemetry, workers);
+        System.out.println(String.format("Soaking for %.1f minutes, restarting every %.0f s%s", minutes, restartSeconds,
+            recycleSeconds > 0 ? String.format(", recreating the game every %.0f s", recycleSeconds) : ""));
+        new HeadlessApplication(game, new HeadlessApplicationConfiguration());
+        game.awaitEnd();
+        if (workers != null) workers.shutdown();
+        telemetry.close();
+
+        List<String> violations = new ArrayList<>();
+        StringWriter text = new StringWriter();
+        PrintWriter report = new PrintWriter(text);
+        report.println(String.format("%d frames, %d restarts, %d recreations", game.getFrames(), game.getRestarts(), game.getRecycles()));
+        if (game.getFailure() != null) {
+            violations.add("the game failed: " + game.getFailure());
+            game.getFailure().printStackTrace(report);
+        }
+
+        double longestPause = telemetry.getLongestPauseNanos() / 1e6;
+        report.println(String.format("GC: %d collections, %.1f ms paused after warm-up, longest pause %.2f ms%s",
+            telemetry.getCollections(), telemetry.getTotalPauseNanos() / 1e6, longestPause,
+            telemetry.getLongestPauseNanos() > 0 ? " in " + telemetry.getLongestPauseCause() : ""));
+        if (longestPause > maxPauseMillis) {
+            violations.add(String.format("longest GC pause %.2f ms exceeds %.2f ms", longestPause, maxPauseMillis));
+        }
+
+        double allocation = telemetry.getAllocationRate() / MB;
+        report.println(String.format("Allocation after warm-up: %.2f MB/s (estimated from samples)", allocation));
+        if (allocation > maxAllocation) {
+            violations.add(String.format("allocation rate %.2f MB/s exceeds %.2f MB/s", allocation, maxAllocation));
+        }
+
+        long warmup = telemetry.getWarmupMillis();
+        checkGrowth("Heap after GC", telemetry.getHeapAfterGc(), warmup, maxHeapGrowth, report, violations);
+        checkGrowth("Direct buffers", telemetry.getDirectBuffers(), warmup, maxBufferGrowth, report, violations);
+        checkGrowth("Native buffers", telemetry.getNativeBuffers(), warmup, maxBufferGrowth, report, violations);
+
+        if (violations.isEmpty()) {
+            report.println("PASSED");
+        } else {
+            report.println("FAILED:");
+            for (String violation : violations) report.println("  " + violation);
+        }
+        report.flush();
+        System.out.print(text);
+        if (reportFile != null) Files.write(Paths.get(reportFile), text.toString().getBytes(StandardCharsets.UTF_8));
+        System.exit(violations.isEmpty() ? 0 : 1);
+    }
+
+    private static void checkGrowth(String name, SoakTelemetry.Series series, long warmupMillis, double limit,
+                                    PrintWriter report, List<String> violations) {
+        long growth = series.growth(warmupMillis);
+        String summary = String.format("%s: last %.2f MB, peak %.2f MB", name, series.last() / MB, series.max() / MB);
+        if (growth == Long.MIN_VALUE) {
+            report.println(summary + ", too few samples after warm-up to judge growth");
+            return;
+        }
+        report.println(String.format("%s, growth %+.2f MB", summary, growth / MB));
+        if (growth / MB > limit) violations.add(String.format("%s grew by %.2f MB, more than %.2f MB", name, growth / MB, limit));
+    }
+
+    private static void usage(String error) {
+        System.err.println(error);
+        System.err.println("Usage: SoakRunner [--minutes N] [--restart S] [--recycle S] [--warmup S] [--seed N]"
+            + " [--max-pause MS] [--max-alloc MB/S] [--max-heap-growth MB] [--max-buffer-growth MB] [--report FILE]");
+        System.exit(1);
+    }
+}
@@ -0,0 +1,187 @@
+package io.github.some_example_name.soak;
+
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.LongArray;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * Streams JFR events from this JVM while a soak test runs and keeps what the verdict needs:
+ * GC pauses, an allocation estimate, the heap left after each collection and the memory held
+ * by direct and libGDX native buffers. Pauses of explicit {@code System.gc()} collections are
+ * not counted.
+ * <p>
+ * Allocation comes from {@code jdk.ObjectAllocationSample}, whose weights add up to an
+ * estimate of all bytes allocated, and direct buffers from {@code jdk.DirectBufferStatistics}.
+ * JFR cannot see buffers libGDX allocates with {@code BufferUtils.newUnsafeByteBuffer}, which
+ * back every mesh, so those are sampled from {@link BufferUtils#getAllocatedBytesUnsafe()} by
+ * {@link #sampleNativeBuffers}, between two games when all of them should have been freed.
+ * <p>
+ * Nothing before the warm-up counts towards pauses, allocation or growth: loading assets, JIT
+ * compilation and the heap settling would otherwise read as hitches and leaks. Events arrive on the
+ * stream's thread, so the accumulated values are guarded by this object's monitor.
+ */
+class SoakTelemetry implements AutoCloseable {
+
+    private final RecordingStream stream = new RecordingStream();
+    private final Instant start = Instant.now();
+    private final Instant warmupEnd;
+    private Instant end;
+
+    private int collections;
+    private long totalPauseNanos;
+    private long longestPauseNanos;
+    private String longestPauseCause = "";
+    private long allocatedBytes;
+    private final Series heapAfterGc = new Series();
+    private final Series directBuffers = new Series();
+    private final Series nativeBuffers = new Series();
+
+    SoakTelemetry(Duration warmup) {
+        warmupEnd = start.plus(warmup);
+        stream.enable("jdk.GarbageCollection");
+        stream.enable("jdk.GCHeapSummary");
+        stream.enable("jdk.ObjectAllocationSample").with("throttle", "150/s");
+        stream.enable("jdk.DirectBufferStatistics").withPeriod(Duration.ofSeconds(1));
+        stream.onEvent(new Consumer<RecordedEvent>() {
+            @Override
+            public void accept(RecordedEvent event) {
+                record(event);
+            }
+        });
+    }
+
+    void start() {
+        stream.startAsync();
+    }
+
+    private synchronized void record(RecordedEvent event) {
+        Instant time = event.getStartTime();
+        switch (event.getEventType().getName()) {
+            case "jdk.GarbageCollection":
+                collections++;
+                // explicit collections are requested between games, where nobody is playing
+                if (time.isBefore(warmupEnd) || "System.gc()".equals(event.getString("cause"))) break;
+                long pause = event.getDuration("longestPause").toNanos();
+                totalPauseNanos += event.getDuration("sumOfPauses").toNanos();
+                if (pause > longestPauseNanos) {
+                    longestPauseNanos = pause;
+                    longestPauseCause = event.getString("name") + " (" + event.getString("cause") + ")";
+                }
+                break;
+            case "jdk.GCHeapSummary":
+                if ("After GC".equals(event.getString("when"))) heapAfterGc.add(millis(time), event.getLong("heapUsed"));
+                break;
+            case "jdk.ObjectAllocationSample":
+                if (!time.isBefore(warmupEnd)) allocatedBytes += event.getLong("weight");
+                break;
+            case "jdk.DirectBufferStatistics":
+                directBuffers.add(millis(time), event.getLong("memoryUsed"));
+                break;
+            default:
+                break;
+        }
+    }
+
+    /** Records the bytes held by libGDX native buffers now. */
+    synchronized void sampleNativeBuffers() {
+        nativeBuffers.add(millis(Instant.now()), BufferUtils.getAllocatedBytesUnsafe());
+    }
+
+    private long millis(Instant time) {
+        return Duration.between(start, time).toMillis();
+    }
+
+    /** Stops streaming; everything recorded so far stays readable. */
+    @Override
+    public void close() {
+        synchronized (this) {
+            end = Instant.now();
+        }
+        stream.close();
+    }
+
+    synchronized int getCollections() {
+        return collections;
+    }
+
+    synchronized long getLongestPauseNanos() {
+        return longestPauseNanos;
+    }
+
+    synchronized String getLongestPauseCause() {
+        return longestPauseCause;
+    }
+
+    synchronized long getTotalPauseNanos() {
+        return totalPauseNanos;
+    }
+
+    /** Estimated bytes allocated per second after the warm-up, or 0 if the run ended before it did. */
+    synchronized double getAllocationRate() {
+        Instant until = end != null ? end : Instant.now();
+        if (!until.isAfter(warmupEnd)) return 0;
+        return allocatedBytes / (Duration.between(warmupEnd, until).toNanos() / 1e9);
+    }
+
+    synchronized Series getHeapAfterGc() {
+        return heapAfterGc;
+    }
+
+    synchronized Series getDirectBuffers() {
+        return directBuffers;
+    }
+
+    synchronized Series getNativeBuffers() {
+        return nativeBuffers;
+    }
+
+    long getWarmupMillis() {
+        return millis(warmupEnd);
+    }
+
+    /** Byte counts sampled over the run, each with its time in milliseconds since the start. */
+    static class Series {
+        private final LongArray times = new LongArray();
+        private final LongArray values = new LongArray();
+
+        void add(long millis, long value) {
+            times.add(millis);
+            values.add(value);
+        }
+
+        long last() {
+            return values.size > 0 ? values.peek() : 0;
+        }
+
+        long max() {
+            long max = 0;
+            for (int i = 0; i < values.size; i++) max = Math.max(max, values.get(i));
+            return max;
+        }
+
+        /**
+         * How much the floor of the samples taken from {@code fromMillis} on rose: the lowest
+         * value of their last quarter minus the lowest of their first half. Garbage and
+         * buffers in flight make single samples noisy, but what a leak holds on to raises
+         * the floor. Returns {@link Long#MIN_VALUE} with fewer than four samples to compare.
+         */
+        long growth(long fromMillis) {
+            int first = 0;
+            while (first < times.size && times.get(first) < fromMillis) first++;
+            int count = values.size - first;
+            if (count < 4) return Long.MIN_VALUE;
+            return min(first + count * 3 / 4, values.size) - min(first, first + count / 2);
+        }
+
+        private long min(int from, int to) {
+            long min = Long.MAX_VALUE;
+            for (int i = from; i < to; i++) min = Math.min(min, values.get(i));
+            return min;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.some_example_name.soak;
+
+import com.badlogic.gdx.Input.Keys;
+import com.badlogic.gdx.InputProcessor;
+import com.badlogic.gdx.backends.headless.mock.input.MockInput;
+
+import java.util.Random;
+
+/**
+ * Keyboard that wanders the player around: every {@link #HOLD_SECONDS} it holds a new random
+ * combination of W, A, S and D. {@link #pressRestart} presses R for the next frame.
+ * <p>
+ * Keys can be polled, and the movement keys going down and up are also sent to the input
+ * processor, which the mock backend would otherwise drop. The game polls keys on the render
+ * thread, and {@link #update} is called there before each frame, so no synchronisation is
+ * needed.
+ */
+class SyntheticInput extends MockInput {
+
+    private static final float HOLD_SECONDS = 0.5f;
+    private static final int[] MOVE_KEYS = {Keys.W, Keys.A, Keys.S, Keys.D};
+
+    private final Random random;
+    private final boolean[] held = new boolean[MOVE_KEYS.length];
+    private float untilChange;
+    private boolean restart;
+    private InputProcessor processor;
+
+    SyntheticInput(long seed) {
+        random = new Random(seed);
+    }
+
+    /** Moves on by one frame of {@code delta} seconds. */
+    void update(float delta) {
+        restart = false;
+        untilChange -= delta;
+        if (untilChange > 0) return;
+        untilChange = HOLD_SECONDS;
+        for (int i = 0; i < held.length; i++) {
+            boolean down = random.nextBoolean();
+            if (down != held[i] && processor != null) {
+                if (down) processor.keyDown(MOVE_KEYS[i]);
+                else processor.keyUp(MOVE_KEYS[i]);
+            }
+            held[i] = down;
+        }
+    }
+
+    void pressRestart() {
+        restart = true;
+    }
+
+    @Override
+    public void setInputProcessor(InputProcessor processor) {
+        this.processor = processor;
+    }
+
+    @Override
+    public InputProcessor getInputProcessor() {
+        return processor;
+    }
+
+    @Override
+    public boolean isKeyPressed(int key) {
+        for (int i = 0; i < MOVE_KEYS.length; i++) {
+            if (MOVE_KEYS[i] == key) return held[i];
+        }
+        return key == Keys.R && restart;
+    }
+
+    @Override
+    public boolean isKeyJustPressed(int key) {
+        return key == Keys.R && restart;
+    }
+}
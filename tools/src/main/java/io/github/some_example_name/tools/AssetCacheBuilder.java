@@ -0,0 +1,436 @@
+package io.github.some_example_name.tools;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.g3d.loader.G3dModelLoader;
+import com.badlogic.gdx.graphics.g3d.model.data.ModelData;
+import com.badlogic.gdx.graphics.g3d.model.data.ModelMaterial;
+import com.badlogic.gdx.graphics.g3d.model.data.ModelMesh;
+import com.badlogic.gdx.graphics.g3d.model.data.ModelMeshPart;
+import com.badlogic.gdx.graphics.g3d.model.data.ModelNode;
+import com.badlogic.gdx.graphics.g3d.model.data.ModelNodePart;
+import com.badlogic.gdx.graphics.g3d.model.data.ModelTexture;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.UBJsonReader;
+import io.github.some_example_name.assets.AssetCache;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the {@link AssetCache} from the {@code assets/} folder.
+ * <p>
+ * Every PNG/JPG is decoded once and stored as raw RGB or RGBA pixels with a box-filtered mip
+ * chain; every g3db model is parsed once and stored as flat vertex and index arrays plus its
+ * materials and nodes. Each model also gets {@link #LOD_RATIOS}{@code .length} simplified
+ * levels of detail from the {@link MeshSimplifier}, stored under
+ * {@link AssetCache#lodPath(String, int)}. Files are keyed by the SHA-256 of their content, so copies of the same
+ * file in several folders end up as one blob that every path points at.
+ * <p>
+ * Usage: {@code AssetCacheBuilder <assets dir>}; the cache is written to
+ * {@link AssetCache#INDEX_FILE} and {@link AssetCache#BLOB_FILE} under it.
+ */
+public class AssetCacheBuilder {
+
+    /** Share of the triangles kept by each level of detail after the full model. */
+    public static final float[] LOD_RATIOS = {0.3f, 0.08f};
+
+    private final File root;
+    private final Map<String, Blob> blobsByHash = new HashMap<>();
+    private final Map<String, Blob> entries = new LinkedHashMap<>();
+    private final List<Blob> blobs = new ArrayList<>();
+    private long sourceBytes;
+
+    public AssetCacheBuilder(File root) {
+        this.root = root;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: AssetCacheBuilder <assets dir>");
+            System.exit(1);
+        }
+        File root = new File(args[0]);
+        AssetCacheBuilder builder = new AssetCacheBuilder(root);
+        builder.scan(root);
+        builder.write(new File(root, AssetCache.INDEX_FILE), new File(root, AssetCache.BLOB_FILE));
+    }
+
+    /** Adds every texture and model below {@code dir}, skipping the cache folder itself. */
+    public void scan(File dir) throws IOException {
+        File[] files = dir.listFiles();
+        if (files == null) return;
+        List<File> sorted = new ArrayList<>();
+        Collections.addAll(sorted, files);
+        Collections.sort(sorted);
+        for (File file : sorted) {
+            String path = relativePath(file);
+            if (file.isDirectory()) {
+                if (!path.equals("cache")) scan(file);
+                continue;
+            }
+            String name = file.getName().toLowerCase();
+            if (name.endsWith(".png") || name.endsWith(".jpg") || name.endsWith(".jpeg")) add(path, file, AssetCache.KIND_TEXTURE);
+            else if (name.endsWith(".g3db")) add(path, file, AssetCache.KIND_MODEL);
+        }
+    }
+
+    private void add(String path, File file, byte kind) throws IOException {
+        byte[] content = Files.readAllBytes(file.toPath());
+        sourceBytes += content.length;
+        String hash = kind + ":" + sha256(content);
+        Blob blob = blobsByHash.get(hash);
+        if (blob == null) {
+            if (kind == AssetCache.KIND_TEXTURE) {
+                blob = new Blob(kind, encodeTexture(file));
+            } else {
+                ModelData data = loadModel(file);
+                blob = new Blob(kind, encodeModel(data));
+                for (float ratio : LOD_RATIOS) blob.lods.add(new Blob(kind, encodeModel(MeshSimplifier.simplify(data, ratio))));
+            }
+            blobsByHash.put(hash, blob);
+            blobs.add(blob);
+            blobs.addAll(blob.lods);
+            System.out.println(String.format("%-55s %9d -> %9d bytes", path, content.length, blob.data.length));
+            for (int i = 0; i < blob.lods.size(); i++) {
+                System.out.println(String.format("%-55s           %9d bytes", AssetCache.lodPath(path, i + 1), blob.lods.get(i).data.length));
+            }
+        } else {
+            System.out.println(String.format("%-55s duplicate", path));
+        }
+        entries.put(path, blob);
+        for (int i = 0; i < blob.lods.size(); i++) entries.put(AssetCache.lodPath(path, i + 1), blob.lods.get(i));
+    }
+
+    public void write(File indexFile, File blobFile) throws IOException {
+        blobFile.getParentFile().mkdirs();
+        long offset = 0;
+        try (OutputStream out = new FileOutputStream(blobFile)) {
+            byte[] padding = new byte[AssetCache.ALIGNMENT];
+            for (Blob blob : blobs) {
+                int pad = (int) (-offset & (AssetCache.ALIGNMENT - 1));
+                out.write(padding, 0, pad);
+                offset += pad;
+                blob.offset = offset;
+                out.write(blob.data);
+                offset += blob.data.length;
+            }
+        }
+        if (offset > Integer.MAX_VALUE) throw new IOException("Asset cache exceeds 2 GB: " + offset);
+
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(indexFile))) {
+            out.writeInt(AssetCache.MAGIC);
+            out.writeInt(AssetCache.VERSION);
+            out.writeLong(offset);
+            out.writeInt(entries.size());
+            for (Map.Entry<String, Blob> entry : entries.entrySet()) {
+                Blob blob = entry.getValue();
+                out.writeUTF(entry.getKey());
+                out.writeByte(blob.kind);
+                out.writeInt((int) blob.offset);
+                out.writeInt(blob.data.length);
+            }
+        }
+        System.out.println(String.format("%d files, %d unique, %d source bytes -> %d cache bytes",
+            entries.size(), blobs.size(), sourceBytes, offset));
+    }
+
+    /**
+     * Texture blob: format, width, height, level count, then (offset, length) of each level
+     * relative to the blob, then the levels themselves.
+     */
+    private static byte[] encodeTexture(File file) throws IOException {
+        BufferedImage image = ImageIO.read(file);
+        if (image == null) throw new IOException("Unsupported image: " + file);
+        int width = image.getWidth(), height = image.getHeight();
+        int[] argb = image.getRGB(0, 0, width, height, null, 0, width);
+        boolean alpha = false;
+        for (int pixel : argb) {
+            if (pixel >>> 24 != 0xff) {
+                alpha = true;
+                break;
+            }
+        }
+        int channels = alpha ? 4 : 3;
+
+        List<byte[]> levels = new ArrayList<>();
+        int w = width, h = height;
+        while (true) {
+            levels.add(pack(argb, w * h, channels));
+            if (w == 1 && h == 1) break;
+            int nw = Math.max(1, w >> 1), nh = Math.max(1, h >> 1);
+            argb = downsample(argb, w, h, nw, nh);
+            w = nw;
+            h = nh;
+        }
+
+        int header = 16 + levels.size() * 8;
+        int size = header;
+        for (byte[] level : levels) size = AssetCache.align4(size) + level.length;
+        ByteBuffer out = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(alpha ? AssetCache.FORMAT_RGBA8888 : AssetCache.FORMAT_RGB888);
+        out.putInt(width).putInt(height).putInt(levels.size());
+        int position = header;
+        for (byte[] level : levels) {
+            position = AssetCache.align4(position);
+            out.putInt(position).putInt(level.length);
+            position += level.length;
+        }
+        for (byte[] level : levels) {
+            out.position(AssetCache.align4(out.position()));
+            out.put(level);
+        }
+        return out.array();
+    }
+
+    private static byte[] pack(int[] argb, int count, int channels) {
+        byte[] bytes = new byte[count * channels];
+        for (int i = 0, o = 0; i < count; i++) {
+            int pixel = argb[i];
+            bytes[o++] = (byte) (pixel >> 16);
+            bytes[o++] = (byte) (pixel >> 8);
+            bytes[o++] = (byte) pixel;
+            if (channels == 4) bytes[o++] = (byte) (pixel >>> 24);
+        }
+        return bytes;
+    }
+
+    /** Averages the up-to-2x2 source pixels under each destination pixel. */
+    private static int[] downsample(int[] src, int w, int h, int nw, int nh) {
+        int[] dst = new int[nw * nh];
+        for (int y = 0; y < nh; y++) {
+            int y0 = Math.min(h - 1, y * 2), y1 = Math.min(h - 1, y * 2 + 1);
+            for (int x = 0; x < nw; x++) {
+                int x0 = Math.min(w - 1, x * 2), x1 = Math.min(w - 1, x * 2 + 1);
+                int p00 = src[y0 * w + x0], p01 = src[y0 * w + x1];
+                int p10 = src[y1 * w + x0], p11 = src[y1 * w + x1];
+                int pixel = 0;
+                for (int shift = 0; shift < 32; shift += 8) {
+                    int sum = (p00 >>> shift & 0xff) + (p01 >>> shift & 0xff)
+                        + (p10 >>> shift & 0xff) + (p11 >>> shift & 0xff);
+                    pixel |= ((sum + 2) >> 2) << shift;
+                }
+                dst[y * nw + x] = pixel;
+            }
+        }
+        return dst;
+    }
+
+    private static ModelData loadModel(File file) throws IOException {
+        ModelData data = new G3dModelLoader(new UBJsonReader()).loadModelData(new FileHandle(file));
+        if (data.animations.size > 0) throw new IOException("Animated models are not supported: " + file);
+        data.id = file.getPath();
+        return data;
+    }
+
+    /** Model blob, read back by {@link AssetCache#getModel}. Texture paths are made relative to the assets folder. */
+    private byte[] encodeModel(ModelData data) throws IOException {
+        BlobWriter out = new BlobWriter();
+        out.putInt(data.meshes.size);
+        for (ModelMesh mesh : data.meshes) {
+            out.putString(mesh.id);
+            out.putInt(mesh.attributes.length);
+            for (VertexAttribute attribute : mesh.attributes) {
+                out.putInt(attribute.usage);
+                out.putInt(attribute.numComponents);
+                out.putInt(attribute.type);
+                out.put(attribute.normalized ? 1 : 0);
+                out.putString(attribute.alias);
+                out.putInt(attribute.unit);
+            }
+            out.putInt(mesh.vertices.length);
+            out.align4();
+            out.ensure(mesh.vertices.length * 4);
+            out.buffer.asFloatBuffer().put(mesh.vertices);
+            out.buffer.position(out.buffer.position() + mesh.vertices.length * 4);
+            out.putInt(mesh.parts.length);
+            for (ModelMeshPart part : mesh.parts) {
+                out.putString(part.id);
+                out.putInt(part.primitiveType);
+                out.putInt(part.indices.length);
+                out.align4();
+                out.ensure(part.indices.length * 2);
+                out.buffer.asShortBuffer().put(part.indices);
+                out.buffer.position(out.buffer.position() + part.indices.length * 2);
+                out.align4();
+            }
+        }
+
+        out.putInt(data.materials.size);
+        for (ModelMaterial material : data.materials) {
+            out.putString(material.id);
+            out.putColor(material.ambient);
+            out.putColor(material.diffuse);
+            out.putColor(material.specular);
+            out.putColor(material.emissive);
+            out.putColor(material.reflection);
+            out.putFloat(material.shininess);
+            out.putFloat(material.opacity);
+            int textureCount = material.textures == null ? 0 : material.textures.size;
+            out.putInt(textureCount);
+            for (int i = 0; i < textureCount; i++) {
+                ModelTexture texture = material.textures.get(i);
+                out.putString(texture.id);
+                out.putString(relativePath(new File(texture.fileName)));
+                out.putInt(texture.usage);
+                out.putVector2(texture.uvTranslation);
+                out.putVector2(texture.uvScaling);
+            }
+        }
+
+        out.putInt(data.nodes.size);
+        for (ModelNode node : data.nodes) writeNode(out, node, data.id);
+        return out.toArray();
+    }
+
+    private static void writeNode(BlobWriter out, ModelNode node, String model) throws IOException {
+        out.putString(node.id);
+        out.putString(node.meshId);
+        int flags = (node.translation != null ? 1 : 0) | (node.rotation != null ? 2 : 0) | (node.scale != null ? 4 : 0);
+        out.put(flags);
+        if (node.translation != null) {
+            out.putFloat(node.translation.x);
+            out.putFloat(node.translation.y);
+            out.putFloat(node.translation.z);
+        }
+        if (node.rotation != null) {
+            out.putFloat(node.rotation.x);
+            out.putFloat(node.rotation.y);
+            out.putFloat(node.rotation.z);
+            out.putFloat(node.rotation.w);
+        }
+        if (node.scale != null) {
+            out.putFloat(node.scale.x);
+            out.putFloat(node.scale.y);
+            out.putFloat(node.scale.z);
+        }
+        int partCount = node.parts == null ? 0 : node.parts.length;
+        out.putInt(partCount);
+        for (int i = 0; i < partCount; i++) {
+            ModelNodePart part = node.parts[i];
+            if (part.bones != null || part.uvMapping != null) throw new IOException("Skinned or uv-mapped node parts are not supported: " + model);
+            out.putString(part.meshPartId);
+            out.putString(part.materialId);
+        }
+        int childCount = node.children == null ? 0 : node.children.length;
+        out.putInt(childCount);
+        for (int i = 0; i < childCount; i++) writeNode(out, node.children[i], model);
+    }
+
+    private String relativePath(File file) {
+        String path = root.getAbsoluteFile().toURI().relativize(file.getAbsoluteFile().toURI()).getPath();
+        return path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            StringBuilder hex = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(content)) hex.append(String.format("%02x", b));
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class Blob {
+        final byte kind;
+        final byte[] data;
+        /** Simplified levels of a model, written right after it. */
+        final List<Blob> lods = new ArrayList<>();
+        long offset;
+
+        Blob(byte kind, byte[] data) {
+            this.kind = kind;
+            this.data = data;
+        }
+    }
+
+    /** Growable little-endian buffer. */
+    private static class BlobWriter {
+        ByteBuffer buffer = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+
+        void ensure(int bytes) {
+            if (buffer.remaining() >= bytes) return;
+            int capacity = Math.max(buffer.capacity() * 2, buffer.position() + bytes);
+            ByteBuffer grown = ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.flip();
+            grown.put(buffer);
+            buffer = grown;
+        }
+
+        void put(int value) {
+            ensure(1);
+            buffer.put((byte) value);
+        }
+
+        void putInt(int value) {
+            ensure(4);
+            buffer.putInt(value);
+        }
+
+        void putFloat(float value) {
+            ensure(4);
+            buffer.putFloat(value);
+        }
+
+        void putString(String value) {
+            if (value == null) {
+                ensure(2);
+                buffer.putShort((short) -1);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > Short.MAX_VALUE) throw new IllegalArgumentException("String too long: " + value);
+            ensure(2 + bytes.length);
+            buffer.putShort((short) bytes.length);
+            buffer.put(bytes);
+        }
+
+        void putColor(Color color) {
+            put(color != null ? 1 : 0);
+            if (color == null) return;
+            putFloat(color.r);
+            putFloat(color.g);
+            putFloat(color.b);
+            putFloat(color.a);
+        }
+
+        void putVector2(Vector2 vector) {
+            put(vector != null ? 1 : 0);
+            if (vector == null) return;
+            putFloat(vector.x);
+            putFloat(vector.y);
+        }
+
+        void align4() {
+            int pad = AssetCache.align4(buffer.position()) - buffer.position();
+            ensure(pad);
+            for (int i = 0; i < pad; i++) buffer.put((byte) 0);
+        }
+
+        byte[] toArray() {
+            byte[] bytes = new byte[buffer.position()];
+            buffer.flip();
+            buffer.get(bytes);
+            return bytes;
+        }
+    }
+}
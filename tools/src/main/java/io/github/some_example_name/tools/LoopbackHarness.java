@@ -0,0 +1,143 @@
+package io.github.some_example_name.tools;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import io.github.some_example_name.net.GameClient;
+import io.github.some_example_name.net.GameServer;
+import io.github.some_example_name.net.NetState;
+import io.github.some_example_name.profiling.LatencyHistogram;
+import io.github.some_example_name.sim.InputState;
+import io.github.some_example_name.sim.World;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+
+/**
+ * Runs a {@link GameServer} and simulated {@link GameClient}s over loopback on one thread and
+ * checks that every state a client decodes equals the one the server captured for that tick.
+ * Clients random-walk, optionally over a lossy link, and the arena can be kept full of lasers
+ * to load the snapshots. Exits with status 1 if any state differed. Correctness is covered by
+ * {@code LoopbackTest} in core's tests; this is for load, in real time.
+ * <p>
+ * Options:
+ * <pre>
+ *   --clients N     simulated clients (default {@value GameServer#MAX_PLAYERS})
+ *   --seconds S     wall-clock duration (default 20)
+ *   --loss P        share of packets dropped in each direction (default 0)
+ *   --lasers N      keeps at least N lasers in flight (default 0)
+ *   --invulnerable  rounds never end
+ *   --seed N        seed of the world and the clients (default 1)
+ * </pre>
+ */
+public class LoopbackHarness {
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int clientCount = GameServer.MAX_PLAYERS;
+        float seconds = 20f;
+        float loss = 0f;
+        int lasers = 0;
+        boolean invulnerable = false;
+        long seed = 1;
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.equals("--invulnerable")) {
+                invulnerable = true;
+                continue;
+            }
+            if (i + 1 >= args.length) usage("Missing value for " + arg);
+            String value = args[++i];
+            switch (arg) {
+                case "--clients": clientCount = Integer.parseInt(value); break;
+                case "--seconds": seconds = Float.parseFloat(value); break;
+                case "--loss": loss = Float.parseFloat(value); break;
+                case "--lasers": lasers = Integer.parseInt(value); break;
+                case "--seed": seed = Long.parseLong(value); break;
+                default: usage("Unknown option " + arg);
+            }
+        }
+
+        World world = new World();
+        world.setSeed(seed);
+        world.setInvulnerable(invulnerable);
+        GameServer server = new GameServer(world, 0);
+        InetSocketAddress address = new InetSocketAddress("127.0.0.1", server.getPort());
+        GameClient[] clients = new GameClient[clientCount];
+        InputState[] inputs = new InputState[clientCount];
+        for (int i = 0; i < clientCount; i++) {
+            clients[i] = new GameClient(address);
+            clients[i].setLossRate(loss, seed + i);
+            inputs[i] = new InputState();
+        }
+        RandomXS128 random = new RandomXS128(seed);
+        LatencyHistogram roundTrips = new LatencyHistogram();
+
+        long matched = 0, mismatched = 0, unchecked = 0, laserSamples = 0, laserSum = 0;
+        long start = System.nanoTime();
+        long end = start + (long) (seconds * 1e9);
+        long nextInput = start;
+        long inputNanos = 1_000_000_000L / GameServer.TICK_RATE;
+        while (System.nanoTime() < end) {
+            long now = System.nanoTime();
+            server.update(now);
+            while (world.getLasers().size() < lasers) {
+                float angle = random.nextFloat() * MathUtils.PI2;
+                world.addLaser(MathUtils.cos(angle) * 60f, MathUtils.sin(angle) * 60f, 30f + random.nextFloat() * 40f);
+            }
+            for (int i = 0; i < clientCount; i++) {
+                GameClient client = clients[i];
+                if (!client.poll()) continue;
+                NetState decoded = client.getLatest();
+                NetState expected = server.getState(decoded.tick);
+                if (expected == null) unchecked++;
+                else if (expected.equalTo(decoded)) matched++;
+                else mismatched++;
+                roundTrips.record((long) (client.getRoundTripMillis() * 1_000_000L));
+                laserSamples++;
+                laserSum += decoded.laserCount;
+            }
+            if (now - nextInput >= 0) {
+                nextInput += inputNanos;
+                for (int i = 0; i < clientCount; i++) {
+                    if (!clients[i].isConnected()) {
+                        clients[i].connect();
+                        continue;
+                    }
+                    if (random.nextInt(30) == 0) inputs[i].setMask(random.nextInt(16));
+                    clients[i].sendInput(inputs[i]);
+                }
+            }
+            Thread.sleep(1);
+        }
+        double elapsed = (System.nanoTime() - start) / 1e9;
+
+        long received = 0, snapshots = 0, undecodable = 0;
+        int connected = 0;
+        for (GameClient client : clients) {
+            received += client.getBytesReceived();
+            snapshots += client.getSnapshotCount();
+            undecodable += client.getUndecodable();
+            if (client.isConnected()) connected++;
+            client.close();
+        }
+        LatencyHistogram ticks = server.getTickTimes();
+        System.out.println(String.format("%d/%d clients connected, %.1f s, %d ticks, %.0f lasers on average, %.0f%% loss",
+            connected, clientCount, elapsed, server.getTick(), laserSamples > 0 ? (double) laserSum / laserSamples : 0, loss * 100));
+        System.out.println(String.format("server: %.1f KB/s out, %.2f KB/s per client, %d full and %d delta snapshots, %d packets dropped",
+            server.getBytesSent() / 1024.0 / elapsed, server.getBytesSent() / 1024.0 / elapsed / clientCount,
+            server.getFullSnapshots(), server.getDeltaSnapshots(), server.getPacketsDropped()));
+        System.out.println(String.format("tick: p50 %.3f ms, p99 %.3f ms, max %.3f ms",
+            ticks.percentile(0.5) / 1e6, ticks.percentile(0.99) / 1e6, ticks.getMax() / 1e6));
+        System.out.println(String.format("clients: %.2f KB/s received each, %d snapshots decoded, %d undecodable, rtt p50 %.1f ms p99 %.1f ms",
+            received / 1024.0 / elapsed / clientCount, snapshots, undecodable,
+            roundTrips.percentile(0.5) / 1e6, roundTrips.percentile(0.99) / 1e6));
+        System.out.println(String.format("states: %d matched, %d differed, %d no longer on the server", matched, mismatched, unchecked));
+        server.close();
+        if (mismatched > 0) System.exit(1);
+    }
+
+    private static void usage(String error) {
+        System.err.println(error);
+        System.err.println("Usage: LoopbackHarness [--clients N] [--seconds S] [--loss P] [--lasers N] [--invulnerable] [--seed N]");
+        System.exit(1);
+    }
+}
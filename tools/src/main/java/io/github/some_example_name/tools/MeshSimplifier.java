@@ -0,0 +1,172 @@
+package io.github.some_example_name.tools;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.g3d.model.data.ModelData;
+import com.badlogic.gdx.graphics.g3d.model.data.ModelMesh;
+import com.badlogic.gdx.graphics.g3d.model.data.ModelMeshPart;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongMap;
+
+import java.util.Arrays;
+
+/**
+ * Vertex-clustering simplification of model data, for the distant levels of detail.
+ * <p>
+ * A mesh's bounding box is cut into a uniform grid and every vertex in a cell is replaced by
+ * the cell's representative, the vertex closest to the mean position of the cell. Triangles
+ * whose corners collapse into fewer than three cells disappear, and vertices no longer
+ * referenced are dropped. The grid resolution is searched for the coarsest one that keeps at
+ * least the requested share of triangles. Coincident vertices always fall into one cell, so
+ * unwelded triangle soups are welded on the way. Only the representative's normal and
+ * texture coordinates survive, which smears seams at low resolutions; that is acceptable for
+ * models only seen from far away.
+ * <p>
+ * Works on {@link ModelData} alone and never touches GL.
+ */
+public class MeshSimplifier {
+
+    private static final int MAX_CELLS = 1024;
+
+    /**
+     * Returns a copy of {@code source} whose triangle meshes keep about {@code ratio} of their
+     * triangles. Materials and nodes are shared with {@code source}.
+     */
+    public static ModelData simplify(ModelData source, float ratio) {
+        ModelData result = new ModelData();
+        result.id = source.id;
+        result.version[0] = source.version[0];
+        result.version[1] = source.version[1];
+        result.materials.addAll(source.materials);
+        result.nodes.addAll(source.nodes);
+        for (ModelMesh mesh : source.meshes) result.meshes.add(simplify(mesh, ratio));
+        return result;
+    }
+
+    /** Simplifies the triangle parts of {@code mesh}; parts of other primitive types are kept as they are. */
+    public static ModelMesh simplify(ModelMesh mesh, float ratio) {
+        VertexAttributes attributes = new VertexAttributes(mesh.attributes);
+        int stride = attributes.vertexSize / 4;
+        int positionOffset = attributes.getOffset(VertexAttributes.Usage.Position, 0);
+        int triangles = countTriangles(mesh.parts);
+        int target = Math.max(1, (int) (triangles * ratio));
+
+        // the triangle count only grows with the resolution, so search for the coarsest grid that reaches the target
+        int low = 1, high = MAX_CELLS;
+        while (low < high) {
+            int cells = (low + high) >>> 1;
+            if (countTriangles(cluster(mesh, stride, positionOffset, cells).parts) >= target) high = cells;
+            else low = cells + 1;
+        }
+        return cluster(mesh, stride, positionOffset, low);
+    }
+
+    /** Clusters {@code mesh} on a grid with {@code cells} cells along the longest side of its bounding box. */
+    static ModelMesh cluster(ModelMesh mesh, int stride, int positionOffset, int cells) {
+        float[] vertices = mesh.vertices;
+        int count = vertices.length / stride;
+        float minX = Float.POSITIVE_INFINITY, minY = minX, minZ = minX;
+        float maxX = Float.NEGATIVE_INFINITY, maxY = maxX, maxZ = maxX;
+        for (int v = 0; v < count; v++) {
+            int o = v * stride + positionOffset;
+            minX = Math.min(minX, vertices[o]);
+            minY = Math.min(minY, vertices[o + 1]);
+            minZ = Math.min(minZ, vertices[o + 2]);
+            maxX = Math.max(maxX, vertices[o]);
+            maxY = Math.max(maxY, vertices[o + 1]);
+            maxZ = Math.max(maxZ, vertices[o + 2]);
+        }
+        float size = Math.max(maxX - minX, Math.max(maxY - minY, maxZ - minZ));
+        float cellSize = size > 0 ? size / cells : 1f;
+
+        // cell of every vertex, and the position sums of every cell
+        int[] cellOf = new int[count];
+        LongMap<Integer> cellIds = new LongMap<>();
+        IntArray cellCounts = new IntArray();
+        float[] sums = new float[count * 3];
+        for (int v = 0; v < count; v++) {
+            int o = v * stride + positionOffset;
+            long x = Math.min(cells - 1, (long) ((vertices[o] - minX) / cellSize));
+            long y = Math.min(cells - 1, (long) ((vertices[o + 1] - minY) / cellSize));
+            long z = Math.min(cells - 1, (long) ((vertices[o + 2] - minZ) / cellSize));
+            long key = (x * MAX_CELLS + y) * MAX_CELLS + z;
+            Integer id = cellIds.get(key);
+            if (id == null) {
+                id = cellCounts.size;
+                cellIds.put(key, id);
+                cellCounts.add(0);
+            }
+            cellOf[v] = id;
+            cellCounts.incr(id, 1);
+            sums[id * 3] += vertices[o];
+            sums[id * 3 + 1] += vertices[o + 1];
+            sums[id * 3 + 2] += vertices[o + 2];
+        }
+
+        int cellCount = cellCounts.size;
+        int[] representative = new int[cellCount];
+        float[] bestDistance = new float[cellCount];
+        Arrays.fill(representative, -1);
+        for (int v = 0; v < count; v++) {
+            int cell = cellOf[v], o = v * stride + positionOffset;
+            float n = cellCounts.get(cell);
+            float dx = vertices[o] - sums[cell * 3] / n;
+            float dy = vertices[o + 1] - sums[cell * 3 + 1] / n;
+            float dz = vertices[o + 2] - sums[cell * 3 + 2] / n;
+            float d = dx * dx + dy * dy + dz * dz;
+            if (representative[cell] < 0 || d < bestDistance[cell]) {
+                representative[cell] = v;
+                bestDistance[cell] = d;
+            }
+        }
+
+        // remap the parts to representatives, dropping collapsed triangles, and compact the vertices
+        int[] newIndex = new int[count];
+        Arrays.fill(newIndex, -1);
+        IntArray kept = new IntArray();
+        ModelMesh result = new ModelMesh();
+        result.id = mesh.id;
+        result.attributes = mesh.attributes;
+        result.parts = new ModelMeshPart[mesh.parts.length];
+        IntArray indices = new IntArray();
+        for (int p = 0; p < mesh.parts.length; p++) {
+            ModelMeshPart part = mesh.parts[p];
+            indices.clear();
+            if (part.primitiveType == GL20.GL_TRIANGLES) {
+                for (int i = 0; i + 2 < part.indices.length; i += 3) {
+                    int a = representative[cellOf[part.indices[i] & 0xffff]];
+                    int b = representative[cellOf[part.indices[i + 1] & 0xffff]];
+                    int c = representative[cellOf[part.indices[i + 2] & 0xffff]];
+                    if (a == b || b == c || a == c) continue;
+                    indices.add(a, b, c);
+                }
+            } else {
+                for (short index : part.indices) indices.add(index & 0xffff);
+            }
+            ModelMeshPart simplified = new ModelMeshPart();
+            simplified.id = part.id;
+            simplified.primitiveType = part.primitiveType;
+            simplified.indices = new short[indices.size];
+            for (int i = 0; i < indices.size; i++) {
+                int v = indices.get(i);
+                if (newIndex[v] < 0) {
+                    newIndex[v] = kept.size;
+                    kept.add(v);
+                }
+                simplified.indices[i] = (short) newIndex[v];
+            }
+            result.parts[p] = simplified;
+        }
+        result.vertices = new float[kept.size * stride];
+        for (int i = 0; i < kept.size; i++) System.arraycopy(vertices, kept.get(i) * stride, result.vertices, i * stride, stride);
+        return result;
+    }
+
+    static int countTriangles(ModelMeshPart[] parts) {
+        int triangles = 0;
+        for (ModelMeshPart part : parts) {
+            if (part.primitiveType == GL20.GL_TRIANGLES) triangles += part.indices.length / 3;
+        }
+        return triangles;
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.some_example_name.tools;
+
+import io.github.some_example_name.ecs.LaserSystem;
+import io.github.some_example_name.sim.World;
+import io.github.some_example_name.sim.WorldConfig;
+import io.github.some_example_name.tuning.MonteCarlo;
+import io.github.some_example_name.tuning.SurvivalStats;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Command-line front end for {@link MonteCarlo}: runs every parameter set on all cores and
+ * prints one line of survival statistics per set.
+ * <p>
+ * Options:
+ * <pre>
+ *   --sessions N        sessions per parameter set (default 10000)
+ *   --max-time S        simulated seconds after which a session counts as survived (default 120)
+ *   --seed N            seed of the first session (default 1)
+ *   --threads N         worker threads (default: available processors)
+ *   --set k=v,k=v       adds a parameter set; keys are {@link WorldConfig} fields
+ *   --sweep k=v1,v2,..  replaces every set by one copy per value of k
+ *   --histogram W       also prints survival counts per W-second bucket
+ * </pre>
+ * With no {@code --set} the shipped defaults are the only set. For example
+ * {@code --sweep spawnInterval=0.8,1.0,1.3 --sweep maxObstacles=3,6} runs six sets.
+ */
+public class MonteCarloRunner {
+
+    public static void main(String[] args) throws ReflectiveOperationException {
+        int sessions = 10000;
+        float maxTime = 120f;
+        long seed = 1;
+        int threads = Runtime.getRuntime().availableProcessors();
+        float histogram = 0;
+        Map<String, WorldConfig> sets = new LinkedHashMap<>();
+        List<String> sweeps = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (i + 1 >= args.length) usage("Missing value for " + arg);
+            String value = args[++i];
+            switch (arg) {
+                case "--sessions": sessions = Integer.parseInt(value); break;
+                case "--max-time": maxTime = Float.parseFloat(value); break;
+                case "--seed": seed = Long.parseLong(value); break;
+                case "--threads": threads = Integer.parseInt(value); break;
+                case "--histogram": histogram = Float.parseFloat(value); break;
+                case "--set": sets.put(value, parse(new WorldConfig(), value)); break;
+                case "--sweep": sweeps.add(value); break;
+                default: usage("Unknown option " + arg);
+            }
+        }
+        if (sets.isEmpty()) sets.put("defaults", new WorldConfig());
+        for (String sweep : sweeps) sets = sweep(sets, sweep);
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        System.out.println(String.format("%d sessions per set, %.0f s limit, %d threads", sessions, maxTime, threads));
+        System.out.println(String.format("%-40s %7s %7s %7s %7s %7s %7s %7s %8s",
+            "set", "mean", "p10", "p50", "p90", "alive", "laser", "obstcl", "wall s"));
+        for (Map.Entry<String, WorldConfig> set : sets.entrySet()) {
+            long start = System.nanoTime();
+            SurvivalStats stats = new MonteCarlo(set.getValue(), maxTime).run(pool, sessions, seed);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.println(String.format("%-40s %7.1f %7.1f %7.1f %7.1f %6.1f%% %6.1f%% %6.1f%% %8.2f",
+                set.getKey(), stats.getMean(), stats.percentile(10), stats.percentile(50), stats.percentile(90),
+                stats.getShare(SurvivalStats.SURVIVED) * 100, stats.getShare(LaserSystem.REASON) * 100,
+                stats.getShare(World.OBSTACLE_HIT) * 100, seconds));
+            if (histogram > 0) printHistogram(stats, histogram, maxTime);
+        }
+        pool.shutdown();
+    }
+
+    private static Map<String, WorldConfig> sweep(Map<String, WorldConfig> sets, String sweep) throws ReflectiveOperationException {
+        int equals = sweep.indexOf('=');
+        if (equals < 0) usage("Expected key=v1,v2,... but got " + sweep);
+        String key = sweep.substring(0, equals);
+        Map<String, WorldConfig> result = new LinkedHashMap<>();
+        for (Map.Entry<String, WorldConfig> set : sets.entrySet()) {
+            for (String value : sweep.substring(equals + 1).split(",")) {
+                String name = set.getKey().equals("defaults") ? key + "=" + value : set.getKey() + "," + key + "=" + value;
+                result.put(name, parse(new WorldConfig().set(set.getValue()), key + "=" + value));
+            }
+        }
+        return result;
+    }
+
+    private static WorldConfig parse(WorldConfig config, String assignments) throws ReflectiveOperationException {
+        for (String assignment : assignments.split(",")) {
+            String[] parts = assignment.split("=", 2);
+            if (parts.length != 2) usage("Expected key=value but got " + assignment);
+            Field field;
+            try {
+                field = WorldConfig.class.getField(parts[0].trim());
+            } catch (NoSuchFieldException e) {
+                usage("Unknown parameter " + parts[0]);
+                return config;
+            }
+            String value = parts[1].trim();
+            if (field.getType() == int.class) field.setInt(config, Integer.parseInt(value));
+            else field.setFloat(config, Float.parseFloat(value));
+        }
+        return config;
+    }
+
+    private static void printHistogram(SurvivalStats stats, float width, float maxTime) {
+        int buckets = Math.max(1, (int) Math.ceil(maxTime / width));
+        int[] counts = stats.histogram(width, buckets);
+        int max = 1;
+        for (int count : counts) max = Math.max(max, count);
+        for (int i = 0; i < buckets; i++) {
+            String label = i == buckets - 1 ? String.format("%6.0f+   ", i * width) : String.format("%6.0f-%-4.0f", i * width, (i + 1) * width);
+            StringBuilder bar = new StringBuilder();
+            for (int j = 0, n = counts[i] * 50 / max; j < n; j++) bar.append('#');
+            System.out.println(String.format("    %s %7d %s", label, counts[i], bar));
+        }
+    }
+
+    private static void usage(String error) {
+        System.err.println(error);
+        System.err.println("Usage: MonteCarloRunner [--sessions N] [--max-time S] [--seed N] [--threads N]"
+            + " [--set k=v,...]... [--sweep k=v1,v2,...]... [--histogram W]");
+        System.exit(1);
+    }
+}
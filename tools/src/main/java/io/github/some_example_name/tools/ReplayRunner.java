@@ -0,0 +1,65 @@
+package io.github.some_example_name.tools;
+
+import io.github.some_example_name.replay.Replay;
+import io.github.some_example_name.replay.ReplayPlayer;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Re-simulates recorded sessions headlessly and checks that each one ends in the state it was
+ * recorded in. Exits with status 1 if any replay diverges, so it can drive {@code git bisect run}.
+ * <p>
+ * Usage: {@code ReplayRunner <replay file or directory>...}
+ */
+public class ReplayRunner {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: ReplayRunner <replay file or directory>...");
+            System.exit(1);
+        }
+        List<File> files = new ArrayList<>();
+        for (String arg : args) collect(new File(arg), files);
+
+        ReplayPlayer player = new ReplayPlayer();
+        int diverged = 0;
+        long totalTicks = 0, totalNanos = 0;
+        for (File file : files) {
+            Replay replay;
+            try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+                replay = Replay.read(in);
+            }
+            ReplayPlayer.Result result = player.play(replay);
+            totalTicks += result.ticks;
+            totalNanos += result.nanos;
+            if (!result.matches) diverged++;
+            System.out.println(String.format("%-40s %8d ticks %8.1f ms %10.0f ticks/s  %s",
+                file.getName(), result.ticks, result.nanos / 1e6, result.getTicksPerSecond(),
+                result.matches ? "ok" : "DIVERGED (survived " + result.world.getSurvivalTime()
+                    + "s, recorded " + replay.getSurvivalTime() + "s)"));
+        }
+        System.out.println(String.format("%d replays, %d ticks, %.0f ticks/s, %d diverged",
+            files.size(), totalTicks, totalNanos == 0 ? 0 : totalTicks * 1e9 / totalNanos, diverged));
+        if (diverged > 0) System.exit(1);
+    }
+
+    private static void collect(File file, List<File> out) {
+        if (!file.isDirectory()) {
+            out.add(file);
+            return;
+        }
+        File[] children = file.listFiles();
+        if (children == null) return;
+        Arrays.sort(children);
+        for (File child : children) {
+            if (child.isDirectory() || child.getName().endsWith(".dtr")) collect(child, out);
+        }
+    }
+}
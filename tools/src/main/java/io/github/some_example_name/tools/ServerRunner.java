@@ -0,0 +1,71 @@
+package io.github.some_example_name.tools;
+
+import io.github.some_example_name.net.GameServer;
+import io.github.some_example_name.sim.World;
+
+import java.io.IOException;
+
+/**
+ * Runs a headless {@link GameServer} until the process is stopped, printing its load every
+ * few seconds.
+ * <p>
+ * Options:
+ * <pre>
+ *   --port N     UDP port to listen on (default {@value GameServer#DEFAULT_PORT})
+ *   --seed N     spawn seed (default: the clock)
+ * </pre>
+ */
+public class ServerRunner {
+
+    private static final long REPORT_NANOS = 5_000_000_000L;
+
+    public static void main(String[] args) throws IOException {
+        int port = GameServer.DEFAULT_PORT;
+        World world = new World();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (i + 1 >= args.length) usage("Missing value for " + arg);
+            String value = args[++i];
+            switch (arg) {
+                case "--port": port = Integer.parseInt(value); break;
+                case "--seed": world.setSeed(Long.parseLong(value)); break;
+                default: usage("Unknown option " + arg);
+            }
+        }
+
+        final GameServer server = new GameServer(world, port);
+        // the counters are read racily, which is good enough for a progress line
+        Thread reporter = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                long lastBytes = 0;
+                while (true) {
+                    try {
+                        Thread.sleep(REPORT_NANOS / 1_000_000L);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    long bytes = server.getBytesSent();
+                    System.out.println(String.format("tick %d, %d clients, %.1f KB/s out, tick p50 %.3f ms p99 %.3f ms",
+                        server.getTick(), server.getClientCount(), (bytes - lastBytes) / 1024.0 / (REPORT_NANOS / 1e9),
+                        server.getTickTimes().percentile(0.5) / 1e6, server.getTickTimes().percentile(0.99) / 1e6));
+                    lastBytes = bytes;
+                }
+            }
+        }, "server-stats");
+        reporter.setDaemon(true);
+        reporter.start();
+        System.out.println("Listening on UDP port " + server.getPort());
+        try {
+            server.run();
+        } finally {
+            server.close();
+        }
+    }
+
+    private static void usage(String error) {
+        System.err.println(error);
+        System.err.println("Usage: ServerRunner [--port N] [--seed N]");
+        System.exit(1);
+    }
+}
@@ -0,0 +1,136 @@
+package io.github.some_example_name.tools;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.g3d.model.data.ModelMesh;
+import com.badlogic.gdx.graphics.g3d.model.data.ModelMeshPart;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/** {@link MeshSimplifier} on procedural meshes; everything works on model data, without GL. */
+public class MeshSimplifierTest {
+
+    /** Position and normal. */
+    private static final int STRIDE = 6;
+
+    @Test
+    public void reducesTrianglesTowardsTheRatio() {
+        ModelMesh sphere = sphere(32, 16);
+        int original = MeshSimplifier.countTriangles(sphere.parts);
+        for (float ratio : new float[] {0.5f, 0.25f, 0.1f}) {
+            int simplified = MeshSimplifier.countTriangles(MeshSimplifier.simplify(sphere, ratio).parts);
+            assertTrue(ratio + ": " + simplified + " of " + original, simplified >= (int) (original * ratio));
+            assertTrue(ratio + ": " + simplified + " of " + original, simplified < original);
+        }
+        int quarter = MeshSimplifier.countTriangles(MeshSimplifier.simplify(sphere, 0.25f).parts);
+        assertTrue("quarter kept " + quarter + " of " + original, quarter <= original / 2);
+    }
+
+    @Test
+    public void fullRatioKeepsEveryTriangleButTheDegenerateOnes() {
+        ModelMesh sphere = sphere(32, 16);
+        ModelMesh simplified = MeshSimplifier.simplify(sphere, 1f);
+        // the corners at each pole coincide, so the triangles of the polar rows weld into nothing
+        assertEquals(MeshSimplifier.countTriangles(sphere.parts) - 2 * 32, MeshSimplifier.countTriangles(simplified.parts));
+    }
+
+    @Test
+    public void preservesTheBounds() {
+        ModelMesh sphere = sphere(32, 16);
+        BoundingBox original = bounds(sphere.vertices);
+        BoundingBox simplified = bounds(MeshSimplifier.simplify(sphere, 0.1f).vertices);
+        // representatives are original vertices, so the bounds can only shrink, and only a little
+        assertTrue(original.contains(simplified));
+        assertEquals(original.getWidth(), simplified.getWidth(), original.getWidth() * 0.15f);
+        assertEquals(original.getHeight(), simplified.getHeight(), original.getHeight() * 0.15f);
+        assertEquals(original.getDepth(), simplified.getDepth(), original.getDepth() * 0.15f);
+    }
+
+    @Test
+    public void dropsUnreferencedVertices() {
+        ModelMesh simplified = MeshSimplifier.simplify(sphere(32, 16), 0.25f);
+        int count = simplified.vertices.length / STRIDE;
+        boolean[] used = new boolean[count];
+        for (ModelMeshPart part : simplified.parts) {
+            for (short index : part.indices) used[index & 0xffff] = true;
+        }
+        for (int v = 0; v < count; v++) assertTrue("vertex " + v, used[v]);
+    }
+
+    @Test
+    public void keepsPartsThatAreNotTriangles() {
+        ModelMesh sphere = sphere(8, 4);
+        ModelMeshPart lines = new ModelMeshPart();
+        lines.id = "lines";
+        lines.primitiveType = GL20.GL_LINES;
+        lines.indices = new short[] {0, 1, 1, 2};
+        sphere.parts = new ModelMeshPart[] {sphere.parts[0], lines};
+
+        ModelMesh simplified = MeshSimplifier.simplify(sphere, 0.5f);
+        assertEquals(2, simplified.parts.length);
+        assertEquals(GL20.GL_LINES, simplified.parts[1].primitiveType);
+        assertEquals(4, simplified.parts[1].indices.length);
+        // the same vertices, wherever compaction moved them
+        float[] expected = {position(sphere, 0), position(sphere, 1), position(sphere, 1), position(sphere, 2)};
+        float[] actual = new float[4];
+        for (int i = 0; i < 4; i++) actual[i] = position(simplified, simplified.parts[1].indices[i]);
+        assertArrayEquals(expected, actual, 0f);
+    }
+
+    /** A UV sphere of radius 1 with {@code slices * stacks} quads, two triangles each. */
+    private static ModelMesh sphere(int slices, int stacks) {
+        int columns = slices + 1;
+        float[] vertices = new float[columns * (stacks + 1) * STRIDE];
+        for (int j = 0, o = 0; j <= stacks; j++) {
+            float phi = MathUtils.PI * j / stacks;
+            for (int i = 0; i <= slices; i++, o += STRIDE) {
+                float theta = MathUtils.PI2 * i / slices;
+                float x = MathUtils.sin(phi) * MathUtils.cos(theta);
+                float y = MathUtils.cos(phi);
+                float z = MathUtils.sin(phi) * MathUtils.sin(theta);
+                vertices[o] = vertices[o + 3] = x;
+                vertices[o + 1] = vertices[o + 4] = y;
+                vertices[o + 2] = vertices[o + 5] = z;
+            }
+        }
+        short[] indices = new short[slices * stacks * 6];
+        for (int j = 0, k = 0; j < stacks; j++) {
+            for (int i = 0; i < slices; i++) {
+                short a = (short) (j * columns + i), b = (short) (a + 1), c = (short) (a + columns), d = (short) (c + 1);
+                indices[k++] = a;
+                indices[k++] = c;
+                indices[k++] = b;
+                indices[k++] = b;
+                indices[k++] = c;
+                indices[k++] = d;
+            }
+        }
+        ModelMeshPart part = new ModelMeshPart();
+        part.id = "sphere";
+        part.primitiveType = GL20.GL_TRIANGLES;
+        part.indices = indices;
+        ModelMesh mesh = new ModelMesh();
+        mesh.id = "sphere";
+        mesh.attributes = new VertexAttribute[] {VertexAttribute.Position(), VertexAttribute.Normal()};
+        mesh.vertices = vertices;
+        mesh.parts = new ModelMeshPart[] {part};
+        return mesh;
+    }
+
+    private static BoundingBox bounds(float[] vertices) {
+        BoundingBox box = new BoundingBox().inf();
+        for (int o = 0; o < vertices.length; o += STRIDE) box.ext(vertices[o], vertices[o + 1], vertices[o + 2]);
+        return box;
+    }
+
+    /** A scalar identifying the position of vertex {@code v}. */
+    private static float position(ModelMesh mesh, int v) {
+        int o = v * STRIDE;
+        return mesh.vertices[o] * 1000f + mesh.vertices[o + 1] * 100f + mesh.vertices[o + 2];
+    }
+}